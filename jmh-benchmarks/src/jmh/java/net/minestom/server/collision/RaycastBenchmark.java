@@ -0,0 +1,61 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.block.BlockIterator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RaycastBenchmark {
+
+    @Param({"16", "64"})
+    public int distance;
+
+    private Block.Getter getter;
+    private Vec origin;
+    private Vec direction;
+    private RaycastResult result;
+
+    @Setup
+    public void setup() {
+        // Mostly air with some fences, the ray only hits the wall at the end
+        this.getter = (x, y, z, condition) -> {
+            if (x >= distance) return Block.STONE;
+            if (y == 0 && (x & 7) == 0) return Block.OAK_FENCE;
+            return Block.AIR;
+        };
+        this.origin = new Vec(0.5, 1.7, 0.5);
+        this.direction = new Vec(1, -0.01, 0.3).normalize();
+        this.result = new RaycastResult();
+        // Load the shape table
+        Raycast.blocks(getter, origin, direction, distance * 2, result);
+    }
+
+    @Benchmark
+    public void raycast(Blackhole blackhole) {
+        blackhole.consume(Raycast.blocks(getter, origin, direction, distance * 2, result));
+    }
+
+    @Benchmark
+    public void blockIterator(Blackhole blackhole) {
+        // Equivalent user-code raycast before the Raycast API
+        BlockIterator iterator = new BlockIterator(origin, direction, 0, distance * 2);
+        while (iterator.hasNext()) {
+            final Point point = iterator.next();
+            final Block block = getter.getBlock(point, Block.Getter.Condition.TYPE);
+            if (block.isSolid()) {
+                blackhole.consume(point);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads a full region (32x32 chunks) written to a temporary world folder,
+ * either waiting for every chunk in turn, for all of them at once or as a single batch.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AnvilLoaderBenchmark {
+    private static final int REGION_SIZE = 32;
+
+    Path worldFolder;
+    Instance instance;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        this.worldFolder = Files.createTempDirectory("minestom-anvil-benchmark");
+        this.instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, null);
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                Chunk chunk = new DynamicChunk(instance, chunkX, chunkZ);
+                synchronized (chunk) {
+                    for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                        for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                            chunk.setBlock(x, 0, z, Block.BEDROCK);
+                            for (int y = 1; y < 40; y++) chunk.setBlock(x, y, z, (x + y + z) % 7 == 0 ? Block.DIRT : Block.STONE);
+                            chunk.setBlock(x, 40, z, Block.GRASS_BLOCK);
+                        }
+                    }
+                }
+                loader.saveChunk(chunk).join();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(worldFolder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) Files.delete(file);
+        }
+    }
+
+    @Benchmark
+    public List<Chunk> sequential() {
+        // New loader to include the region opening
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        List<Chunk> chunks = new ArrayList<>(REGION_SIZE * REGION_SIZE);
+        for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                chunks.add(loader.loadChunk(instance, chunkX, chunkZ).join());
+            }
+        }
+        return chunks;
+    }
+
+    @Benchmark
+    public List<Chunk> parallel() {
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(REGION_SIZE * REGION_SIZE);
+        for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                futures.add(loader.loadChunk(instance, chunkX, chunkZ));
+            }
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Benchmark
+    public List<Chunk> batch() {
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        LongList chunks = new LongArrayList(REGION_SIZE * REGION_SIZE);
+        for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                chunks.add(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+            }
+        }
+        return loader.loadChunks(instance, chunks).values().stream().map(CompletableFuture::join).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies the 500 chunks of a map template as done by {@link InstanceContainer#copy()},
+ * with and without modifying a section of each copy afterward.
+ * <p>
+ * Run with {@code -prof gc}, {@code gc.alloc.rate.norm} is the memory footprint of a copy.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChunkCopyBenchmark {
+    private static final int WIDTH = 25;
+    private static final int DEPTH = 20;
+
+    InstanceContainer template;
+    InstanceContainer target;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.template = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, new EmptyLoader());
+        this.target = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, new EmptyLoader());
+        template.setGenerator(unit -> {
+            final int startX = unit.absoluteStart().blockX();
+            final int startZ = unit.absoluteStart().blockZ();
+            unit.modifier().fillHeight(-64, 30, Block.STONE);
+            for (int x = startX; x < startX + 16; x++) {
+                for (int z = startZ; z < startZ + 16; z++) {
+                    final int height = 40 + (int) (8 * Math.sin(x / 9.0) * Math.cos(z / 7.0));
+                    for (int y = 30; y < height; y++) unit.modifier().setBlock(x, y, z, Block.DIRT);
+                    unit.modifier().setBlock(x, height, z, Block.GRASS_BLOCK);
+                }
+            }
+        });
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = 0; x < WIDTH; x++) {
+            for (int z = 0; z < DEPTH; z++) {
+                futures.add(template.loadChunk(x, z));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Benchmark
+    public List<Chunk> copy() {
+        List<Chunk> copies = new ArrayList<>(WIDTH * DEPTH);
+        for (Chunk chunk : template.getChunks()) {
+            copies.add(chunk.copy(target, chunk.getChunkX(), chunk.getChunkZ()));
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public List<Chunk> copyAndModify() {
+        List<Chunk> copies = copy();
+        for (Chunk copy : copies) {
+            synchronized (copy) {
+                copy.setBlock(0, 35, 0, Block.GOLD_BLOCK);
+            }
+        }
+        return copies;
+    }
+
+    private static final class EmptyLoader implements IChunkLoader {
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
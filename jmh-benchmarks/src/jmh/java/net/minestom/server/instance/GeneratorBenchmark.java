@@ -0,0 +1,81 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.instance.generator.UnitModifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a single overworld sized chunk (24 sections) with the common generator shapes:
+ * flat terrain, layers ending in the middle of sections and per-column noise terrain.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+    private static final int MIN_SECTION = -4;
+    private static final int MAX_SECTION = 20;
+
+    private static final Generator FLAT = unit -> unit.modifier().fillHeight(-64, 40, Block.STONE);
+
+    private static final Generator LAYERED = unit -> {
+        final UnitModifier modifier = unit.modifier();
+        modifier.fillHeight(-64, -63, Block.BEDROCK);
+        modifier.fillHeight(-63, 0, Block.DEEPSLATE);
+        modifier.fillHeight(0, 52, Block.STONE);
+        modifier.fillHeight(52, 55, Block.DIRT);
+        modifier.fillHeight(55, 56, Block.GRASS_BLOCK);
+    };
+
+    private static final Generator NOISE = unit -> {
+        final UnitModifier modifier = unit.modifier();
+        final int startX = unit.absoluteStart().blockX();
+        final int startZ = unit.absoluteStart().blockZ();
+        for (int x = startX; x < startX + 16; x++) {
+            for (int z = startZ; z < startZ + 16; z++) {
+                final int height = 40 + (int) (12 * Math.sin(x / 9.0) * Math.cos(z / 7.0));
+                modifier.fill(new Vec(x, -64, z), new Vec(x + 1, height - 3, z + 1), Block.STONE);
+                modifier.fill(new Vec(x, height - 3, z), new Vec(x + 1, height, z + 1), Block.DIRT);
+                modifier.setBlock(x, height, z, Block.GRASS_BLOCK);
+            }
+        }
+    };
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+    }
+
+    @Benchmark
+    public List<Section> flat() {
+        return generate(FLAT);
+    }
+
+    @Benchmark
+    public List<Section> layered() {
+        return generate(LAYERED);
+    }
+
+    @Benchmark
+    public List<Section> noise() {
+        return generate(NOISE);
+    }
+
+    private static List<Section> generate(Generator generator) {
+        List<Section> sections = new ArrayList<>(MAX_SECTION - MIN_SECTION);
+        for (int i = MIN_SECTION; i < MAX_SECTION; i++) sections.add(new Section());
+        final GenerationUnit unit = GeneratorImpl.chunk(MIN_SECTION, MAX_SECTION, sections, 5, -3);
+        generator.generate(unit);
+        return sections;
+    }
+}
@@ -0,0 +1,108 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a 32x32 chunks overworld with noise terrain and a sea level, with and without palette interning
+ * ({@code minestom.palette-interning}), then modifies a section of each chunk afterward.
+ * <p>
+ * Run with {@code -prof gc}, the difference of {@code gc.alloc.rate.norm} between the load and modify variants
+ * is the cost of copying the interned palettes on their first write.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PaletteInterningBenchmark {
+    private static final int SIZE = 32;
+    private static final int SEA_LEVEL = 62;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.palette-interning=true")
+    public InstanceContainer load() {
+        return generate();
+    }
+
+    @Benchmark
+    public InstanceContainer loadWithoutInterning() {
+        return generate();
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.palette-interning=true")
+    public InstanceContainer loadAndModify() {
+        return modify(generate());
+    }
+
+    @Benchmark
+    public InstanceContainer loadAndModifyWithoutInterning() {
+        return modify(generate());
+    }
+
+    private static InstanceContainer generate() {
+        InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, new EmptyLoader());
+        instance.setGenerator(unit -> {
+            final int startX = unit.absoluteStart().blockX();
+            final int startZ = unit.absoluteStart().blockZ();
+            unit.modifier().fillHeight(-64, -60, Block.BEDROCK);
+            unit.modifier().fillHeight(-60, 40, Block.STONE);
+            for (int x = startX; x < startX + 16; x++) {
+                for (int z = startZ; z < startZ + 16; z++) {
+                    final int height = 56 + (int) (10 * Math.sin(x / 13.0) * Math.cos(z / 11.0) + 3 * Math.sin((x + z) / 5.0));
+                    for (int y = 40; y < height - 3; y++) unit.modifier().setBlock(x, y, z, Block.STONE);
+                    for (int y = Math.max(40, height - 3); y < height; y++) unit.modifier().setBlock(x, y, z, Block.DIRT);
+                    unit.modifier().setBlock(x, height, z, height < SEA_LEVEL ? Block.SAND : Block.GRASS_BLOCK);
+                    for (int y = height + 1; y <= SEA_LEVEL; y++) unit.modifier().setBlock(x, y, z, Block.WATER);
+                }
+            }
+        });
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(SIZE * SIZE);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                futures.add(instance.loadChunk(x, z));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return instance;
+    }
+
+    private static InstanceContainer modify(InstanceContainer instance) {
+        for (Chunk chunk : instance.getChunks()) {
+            synchronized (chunk) {
+                chunk.setBlock(0, 0, 0, Block.GOLD_BLOCK);
+            }
+        }
+        return instance;
+    }
+
+    private static final class EmptyLoader implements IChunkLoader {
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
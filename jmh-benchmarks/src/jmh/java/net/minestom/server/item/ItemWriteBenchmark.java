@@ -0,0 +1,69 @@
+package net.minestom.server.item;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ItemWriteBenchmark {
+    List<ItemStack> items;
+    WindowItemsPacket packet;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        List<ItemStack> items = new ArrayList<>(54);
+        for (int i = 0; i < 54; i++) {
+            final int index = i;
+            items.add(ItemStack.builder(Material.DIAMOND_SWORD)
+                    .displayName(Component.text("Sword #" + index, NamedTextColor.AQUA))
+                    .lore(Component.text("Line 1", NamedTextColor.GRAY), Component.text("Line 2", NamedTextColor.GRAY))
+                    .meta(builder -> builder.damage(index % 4).customModelData(index))
+                    .build());
+        }
+        this.items = List.copyOf(items);
+        this.packet = new WindowItemsPacket((byte) 1, 0, items, ItemStack.AIR);
+        this.buffer = new NetworkBuffer(64 * 1024);
+        // Populate the encoding cache
+        buffer.write(packet);
+    }
+
+    @Benchmark
+    public NetworkBuffer packetCached() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(packet);
+        return buffer;
+    }
+
+    @Benchmark
+    public NetworkBuffer packetUncached() {
+        // Previous encoding, the NBT is re-encoded for every item
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(BYTE, packet.windowId());
+        buffer.write(VAR_INT, packet.stateId());
+        buffer.write(VAR_INT, items.size());
+        for (ItemStack item : items) {
+            buffer.write(BOOLEAN, true);
+            buffer.write(VAR_INT, item.material().id());
+            buffer.write(BYTE, (byte) item.amount());
+            buffer.write(NBT, item.meta().toNBT());
+        }
+        buffer.write(ITEM, packet.carriedItem());
+        return buffer;
+    }
+}
@@ -0,0 +1,76 @@
+package net.minestom.server.network;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.COMPONENT;
+import static net.minestom.server.network.NetworkBuffer.STRING;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ComponentWriteBenchmark {
+    @Param({"sidebar", "tab"})
+    public String kind;
+
+    Component component;
+    Component equalComponent;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.component = create(kind);
+        // Same content, different instance, as rebuilt every tick by most scoreboard libraries
+        this.equalComponent = create(kind);
+        this.buffer = new NetworkBuffer(64 * 1024);
+    }
+
+    private static Component create(String kind) {
+        return switch (kind) {
+            case "sidebar" -> Component.text()
+                    .append(Component.text("Kills: ", NamedTextColor.GRAY))
+                    .append(Component.text("42", NamedTextColor.GREEN, TextDecoration.BOLD))
+                    .build();
+            case "tab" -> Component.text()
+                    .append(Component.text("[", NamedTextColor.DARK_GRAY))
+                    .append(Component.text("Admin", NamedTextColor.RED))
+                    .append(Component.text("] ", NamedTextColor.DARK_GRAY))
+                    .append(Component.text("Notch", NamedTextColor.WHITE))
+                    .append(Component.text(" 12ms", NamedTextColor.GRAY, TextDecoration.ITALIC))
+                    .build();
+            default -> throw new IllegalArgumentException(kind);
+        };
+    }
+
+    @Benchmark
+    public NetworkBuffer serialize() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(STRING, GsonComponentSerializer.gson().serialize(component));
+        return buffer;
+    }
+
+    @Benchmark
+    public NetworkBuffer cachedSameInstance() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(COMPONENT, component);
+        return buffer;
+    }
+
+    @Benchmark
+    public NetworkBuffer cachedEqualInstance() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.write(COMPONENT, equalComponent);
+        return buffer;
+    }
+}
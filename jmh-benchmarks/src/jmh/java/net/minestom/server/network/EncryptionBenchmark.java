@@ -0,0 +1,70 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares AES/CFB8 encryption of every packet into a temporary buffer
+ * with a single in-place pass over the whole flush buffer.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+    @Param({"16", "64", "512"})
+    public int packetSize;
+
+    @Param({"32", "256"})
+    public int packetCount;
+
+    Cipher cipher;
+    ByteBuffer packet;
+    ByteBuffer temp;
+    ByteBuffer flushBuffer;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[16];
+        ThreadLocalRandom.current().nextBytes(key);
+        this.cipher = MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        byte[] data = new byte[packetSize];
+        ThreadLocalRandom.current().nextBytes(data);
+        this.packet = ByteBuffer.allocateDirect(packetSize).put(0, data);
+        this.temp = ByteBuffer.allocateDirect(packetSize);
+        this.flushBuffer = ByteBuffer.allocateDirect(packetSize * packetCount);
+    }
+
+    @Benchmark
+    public ByteBuffer perPacket() throws ShortBufferException {
+        final ByteBuffer flushBuffer = this.flushBuffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            final ByteBuffer output = temp.clear();
+            final int length = cipher.update(packet.slice(0, packetSize), output);
+            flushBuffer.put(flushBuffer.position(), output, 0, length);
+            flushBuffer.position(flushBuffer.position() + length);
+        }
+        return flushBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer perFlush() throws ShortBufferException {
+        final ByteBuffer flushBuffer = this.flushBuffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            flushBuffer.put(flushBuffer.position(), packet, 0, packetSize);
+            flushBuffer.position(flushBuffer.position() + packetSize);
+        }
+        final ByteBuffer input = flushBuffer.flip();
+        cipher.update(input, input.duplicate());
+        return flushBuffer;
+    }
+}
@@ -0,0 +1,96 @@
+package net.minestom.server.network;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive writers of {@link NetworkBuffer} used by the play packets
+ * with the generic {@link NetworkBuffer.Type} writer path, for each primitive field type.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NetworkBufferWriteBenchmark {
+    private static final int COUNT = 256;
+
+    @Param({"BOOLEAN", "BYTE", "SHORT", "INT", "LONG", "FLOAT", "DOUBLE", "VAR_INT"})
+    public String type;
+
+    ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.buffer = ByteBuffer.allocateDirect(COUNT * Long.BYTES);
+    }
+
+    @Benchmark
+    public NetworkBuffer primitive() {
+        NetworkBuffer writer = new NetworkBuffer(buffer.clear(), false);
+        switch (type) {
+            case "BOOLEAN" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeBoolean((i & 1) == 0);
+            }
+            case "BYTE" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeByte((byte) i);
+            }
+            case "SHORT" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeShort((short) i);
+            }
+            case "INT" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeInt(i);
+            }
+            case "LONG" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeLong(i);
+            }
+            case "FLOAT" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeFloat(i);
+            }
+            case "DOUBLE" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeDouble(i);
+            }
+            case "VAR_INT" -> {
+                for (int i = 0; i < COUNT; i++) writer.writeVarInt(i * 97);
+            }
+            default -> throw new IllegalStateException("Unknown type " + type);
+        }
+        return writer;
+    }
+
+    @Benchmark
+    public NetworkBuffer generic() {
+        NetworkBuffer writer = new NetworkBuffer(buffer.clear(), false);
+        switch (type) {
+            case "BOOLEAN" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.BOOLEAN, (i & 1) == 0);
+            }
+            case "BYTE" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.BYTE, (byte) i);
+            }
+            case "SHORT" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.SHORT, (short) i);
+            }
+            case "INT" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.INT, i);
+            }
+            case "LONG" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.LONG, (long) i);
+            }
+            case "FLOAT" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.FLOAT, (float) i);
+            }
+            case "DOUBLE" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.DOUBLE, (double) i);
+            }
+            case "VAR_INT" -> {
+                for (int i = 0; i < COUNT; i++) writer.write(NetworkBuffer.VAR_INT, i * 97);
+            }
+            default -> throw new IllegalStateException("Unknown type " + type);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,46 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
+import static net.minestom.server.network.NetworkBuffer.DOUBLE;
+
+/**
+ * Parsing of the most frequent client packet, run with {@code -prof gc} to compare
+ * the allocated bytes per packet ({@code gc.alloc.rate.norm}) of the boxed and primitive read paths.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PacketReadBenchmark {
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.buffer = new NetworkBuffer(64);
+        new ClientPlayerPositionPacket(new Vec(1024.52, 64.0, -512.13), true).write(buffer);
+    }
+
+    @Benchmark
+    public ClientPlayerPositionPacket primitive() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.readIndex(0);
+        return new ClientPlayerPositionPacket(buffer);
+    }
+
+    @Benchmark
+    public ClientPlayerPositionPacket boxed() {
+        // Previous parsing, through the generic types
+        final NetworkBuffer buffer = this.buffer;
+        buffer.readIndex(0);
+        return new ClientPlayerPositionPacket(new Vec(buffer.read(DOUBLE), buffer.read(DOUBLE), buffer.read(DOUBLE)),
+                buffer.read(BOOLEAN));
+    }
+}
@@ -0,0 +1,251 @@
+package net.minestom.server.network;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.advancements.FrameType;
+import net.minestom.server.attribute.Attribute;
+import net.minestom.server.attribute.AttributeInstance;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.crypto.MessageSignature;
+import net.minestom.server.crypto.SignedMessageHeader;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EquipmentSlot;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.server.message.Messenger;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.network.packet.server.play.data.ChunkData;
+import net.minestom.server.network.packet.server.play.data.LightData;
+import net.minestom.server.potion.Potion;
+import net.minestom.server.potion.PotionEffect;
+import net.minestom.server.statistic.StatisticCategory;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.world.Difficulty;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a sample of every play packet.
+ * <p>
+ * The primitive writers used by the packets are compared with the generic {@link NetworkBuffer.Type} path
+ * per field type in {@link NetworkBufferWriteBenchmark}.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PacketWriteBenchmark {
+    private static final Component COMPONENT = Component.text("Hello world!", NamedTextColor.RED);
+    private static final Point BLOCK = new Vec(100, 64, -200);
+    private static final Pos POSITION = new Pos(1024.5, 64, -512.25, 90f, 0f);
+
+    @Param({"AcknowledgeBlockChangePacket", "ActionBarPacket", "AdvancementsPacket", "AttachEntityPacket",
+            "BlockActionPacket", "BlockBreakAnimationPacket", "BlockChangePacket", "BlockEntityDataPacket",
+            "BossBarPacket", "CameraPacket", "ChangeGameStatePacket", "ChatPreviewPacket", "ChunkDataPacket",
+            "ClearTitlesPacket", "CloseWindowPacket", "CollectItemPacket", "CraftRecipeResponse",
+            "CustomChatCompletionPacket", "DeathCombatEventPacket", "DeclareCommandsPacket",
+            "DeclareRecipesPacket", "DeleteChatPacket", "DestroyEntitiesPacket", "DisconnectPacket",
+            "DisplayScoreboardPacket", "EffectPacket", "EndCombatEventPacket", "EnterCombatEventPacket",
+            "EntityAnimationPacket", "EntityEffectPacket", "EntityEquipmentPacket", "EntityHeadLookPacket",
+            "EntityMetaDataPacket", "EntityPositionAndRotationPacket", "EntityPositionPacket",
+            "EntityPropertiesPacket", "EntityRotationPacket", "EntitySoundEffectPacket", "EntityStatusPacket",
+            "EntityTeleportPacket", "EntityVelocityPacket", "ExplosionPacket", "FacePlayerPacket",
+            "HeldItemChangePacket", "InitializeWorldBorderPacket", "JoinGamePacket", "KeepAlivePacket",
+            "MapDataPacket", "MultiBlockChangePacket", "NamedSoundEffectPacket", "NbtQueryResponsePacket",
+            "OpenBookPacket", "OpenHorseWindowPacket", "OpenSignEditorPacket", "OpenWindowPacket",
+            "ParticlePacket", "PingPacket", "PlayerAbilitiesPacket", "PlayerChatHeaderPacket",
+            "PlayerChatMessagePacket", "PlayerInfoPacket", "PlayerListHeaderAndFooterPacket",
+            "PlayerPositionAndLookPacket", "PluginMessagePacket", "RemoveEntityEffectPacket",
+            "ResourcePackSendPacket", "RespawnPacket", "ScoreboardObjectivePacket",
+            "SelectAdvancementTabPacket", "ServerDataPacket", "ServerDifficultyPacket", "SetChatPreviewPacket",
+            "SetCooldownPacket", "SetExperiencePacket", "SetPassengersPacket", "SetSlotPacket",
+            "SetTitleSubTitlePacket", "SetTitleTextPacket", "SetTitleTimePacket", "SoundEffectPacket",
+            "SpawnEntityPacket", "SpawnExperienceOrbPacket", "SpawnPlayerPacket", "SpawnPositionPacket",
+            "StatisticsPacket", "StopSoundPacket", "SystemChatPacket", "TabCompletePacket", "TagsPacket",
+            "TeamsPacket", "TimeUpdatePacket", "TradeListPacket", "UnloadChunkPacket", "UnlockRecipesPacket",
+            "UpdateHealthPacket", "UpdateLightPacket", "UpdateScorePacket", "UpdateSimulationDistancePacket",
+            "UpdateViewDistancePacket", "UpdateViewPositionPacket", "VehicleMovePacket", "WindowItemsPacket",
+            "WindowPropertyPacket", "WorldBorderCenterPacket", "WorldBorderLerpSizePacket",
+            "WorldBorderSizePacket", "WorldBorderWarningDelayPacket", "WorldBorderWarningReachPacket"})
+    public String packetName;
+
+    private final Map<String, ServerPacket> packets = new HashMap<>();
+
+    ServerPacket packet;
+    ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        add(new AcknowledgeBlockChangePacket(5));
+        add(new ActionBarPacket(COMPONENT));
+        add(new AdvancementsPacket(false,
+                List.of(new AdvancementsPacket.AdvancementMapping("minestom:root", new AdvancementsPacket.Advancement(null,
+                        new AdvancementsPacket.DisplayData(COMPONENT, COMPONENT, ItemStack.of(Material.DIAMOND), FrameType.TASK,
+                                0x1, "minecraft:textures/block/stone.png", 0, 0),
+                        List.of("criterion"), List.of(new AdvancementsPacket.Requirement(List.of("criterion")))))),
+                List.of(),
+                List.of(new AdvancementsPacket.ProgressMapping("minestom:root", new AdvancementsPacket.AdvancementProgress(
+                        List.of(new AdvancementsPacket.Criteria("criterion", new AdvancementsPacket.CriterionProgress(1000L))))))));
+        add(new AttachEntityPacket(5, 10));
+        add(new BlockActionPacket(BLOCK, (byte) 1, (byte) 2, 54));
+        add(new BlockBreakAnimationPacket(5, BLOCK, (byte) 3));
+        add(new BlockChangePacket(BLOCK, 1));
+        add(new BlockEntityDataPacket(BLOCK, 9, NBT.Compound(Map.of("Text1", NBT.String("{\"text\":\"Hello\"}")))));
+        add(new BossBarPacket(UUID.randomUUID(), new BossBarPacket.AddAction(COMPONENT, 0.5f, BossBar.Color.BLUE, BossBar.Overlay.PROGRESS, (byte) 0)));
+        add(new CameraPacket(5));
+        add(new ChangeGameStatePacket(ChangeGameStatePacket.Reason.RAIN_LEVEL_CHANGE, 0.5f));
+        add(new ChatPreviewPacket(5, COMPONENT));
+        add(new ChunkDataPacket(0, 0, new ChunkData(NBT.Compound(Map.of()), new byte[8192], Map.of()), lightData()));
+        add(new ClearTitlesPacket(false));
+        add(new CloseWindowPacket((byte) 1));
+        add(new CollectItemPacket(5, 10, 1));
+        add(new CraftRecipeResponse((byte) 1, "minecraft:torch"));
+        add(new CustomChatCompletionPacket(CustomChatCompletionPacket.Action.ADD, List.of("first", "second")));
+        add(new DeathCombatEventPacket(5, 10, COMPONENT));
+        add(new DeclareCommandsPacket(commandNodes(), 0));
+        add(new DeclareRecipesPacket(List.of(new DeclareRecipesPacket.DeclaredShapelessCraftingRecipe("minecraft:sticks", "sticks",
+                List.of(new DeclareRecipesPacket.Ingredient(List.of(ItemStack.of(Material.OAK_PLANKS)))), ItemStack.of(Material.STICK)))));
+        add(new DeleteChatPacket(new MessageSignature(new byte[256])));
+        add(new DestroyEntitiesPacket(List.of(1, 2, 3, 4, 5, 600, 70000)));
+        add(new DisconnectPacket(COMPONENT));
+        add(new DisplayScoreboardPacket((byte) 1, "objective"));
+        add(new EffectPacket(1000, BLOCK, 0, false));
+        add(new EndCombatEventPacket(100, 5));
+        add(new EnterCombatEventPacket());
+        add(new EntityAnimationPacket(5, EntityAnimationPacket.Animation.SWING_MAIN_ARM));
+        add(new EntityEffectPacket(5, new Potion(PotionEffect.SPEED, (byte) 1, 200, (byte) 0), null));
+        add(new EntityEquipmentPacket(5, Map.of(EquipmentSlot.MAIN_HAND, ItemStack.of(Material.DIAMOND_SWORD))));
+        add(new EntityHeadLookPacket(5, 90f));
+        add(new EntityMetaDataPacket(5, Map.of(0, Metadata.Byte((byte) 2), 6, Metadata.Pose(Entity.Pose.SNEAKING))));
+        add(new EntityPositionAndRotationPacket(5, (short) 120, (short) -4, (short) 80, 45f, 10f, false));
+        add(new EntityPositionPacket(5, (short) 120, (short) -4, (short) 80, true));
+        add(new EntityPropertiesPacket(5, List.of(new AttributeInstance(Attribute.MAX_HEALTH, null))));
+        add(new EntityRotationPacket(5, 45f, 10f, false));
+        add(new EntitySoundEffectPacket(1, Sound.Source.HOSTILE, 5, 1f, 1f, 0));
+        add(new EntityStatusPacket(5, (byte) 2));
+        add(new EntityTeleportPacket(5, POSITION, true));
+        add(new EntityVelocityPacket(5, (short) 400, (short) -800, (short) 0));
+        add(new ExplosionPacket(1024.5f, 64f, -512.25f, 4f, new byte[3 * 64], 0.1f, 0.2f, 0.3f));
+        add(new FacePlayerPacket(FacePlayerPacket.FacePosition.EYES, POSITION, 5, FacePlayerPacket.FacePosition.FEET));
+        add(new HeldItemChangePacket((byte) 1));
+        add(new InitializeWorldBorderPacket(0, 0, 1000, 1000, 0, 29999984, 15, 5));
+        add(new JoinGamePacket(5, false, GameMode.SURVIVAL, null, List.of("minecraft:overworld"),
+                NBT.Compound(Map.of("minecraft:chat_type", Messenger.chatRegistry(),
+                        "minecraft:dimension_type", MinecraftServer.getDimensionTypeManager().toNBT(),
+                        "minecraft:worldgen/biome", MinecraftServer.getBiomeManager().toNBT())),
+                "minecraft:overworld", "minecraft:overworld", 0, 0, 8, 8, false, true, false, true));
+        add(new KeepAlivePacket(123456789L));
+        add(new MapDataPacket(1, (byte) 0, false, true,
+                List.of(new MapDataPacket.Icon(0, (byte) 10, (byte) 10, (byte) 0, COMPONENT)),
+                new MapDataPacket.ColorContent((byte) 128, (byte) 128, (byte) 0, (byte) 0, new byte[128 * 128])));
+        add(new MultiBlockChangePacket(0, 4, 0, false, new long[]{1, 2, 3, 4, 5, 6, 7, 8}));
+        add(new NamedSoundEffectPacket("minecraft:entity.zombie.ambient", Sound.Source.HOSTILE, 8192, 512, -4096, 1f, 1f, 0));
+        add(new NbtQueryResponsePacket(1, NBT.Compound(Map.of("key", NBT.String("value")))));
+        add(new OpenBookPacket(Player.Hand.MAIN));
+        add(new OpenHorseWindowPacket((byte) 1, 15, 5));
+        add(new OpenSignEditorPacket(BLOCK));
+        add(new OpenWindowPacket(1, 2, COMPONENT));
+        add(new ParticlePacket(1, false, 1024.5, 64, -512.25, 0.1f, 0.1f, 0.1f, 0.5f, 16, new byte[0]));
+        add(new PingPacket(5));
+        add(new PlayerAbilitiesPacket((byte) 0x04, 0.05f, 0.1f));
+        add(new PlayerChatHeaderPacket(new SignedMessageHeader(null, UUID.randomUUID()), new MessageSignature(new byte[256]), new byte[32]));
+        add(new PlayerChatMessagePacket(COMPONENT, null, 0, UUID.randomUUID(), COMPONENT, null, new MessageSignature(new byte[256])));
+        add(new PlayerInfoPacket(PlayerInfoPacket.Action.ADD_PLAYER, new PlayerInfoPacket.AddPlayer(UUID.randomUUID(), "TheMode911",
+                List.of(new PlayerInfoPacket.AddPlayer.Property("textures", "value")), GameMode.CREATIVE, 5, COMPONENT, null)));
+        add(new PlayerListHeaderAndFooterPacket(COMPONENT, COMPONENT));
+        add(new PlayerPositionAndLookPacket(POSITION, (byte) 0, 1, false));
+        add(new PluginMessagePacket("minecraft:brand", new byte[]{8, 'M', 'i', 'n', 'e', 's', 't', 'o', 'm'}));
+        add(new RemoveEntityEffectPacket(5, PotionEffect.SPEED));
+        add(new ResourcePackSendPacket("https://example.com/pack.zip", "0123456789abcdef0123456789abcdef01234567", false, COMPONENT));
+        add(new RespawnPacket("minecraft:overworld", "minecraft:overworld", 0, GameMode.SURVIVAL, GameMode.SURVIVAL, false, true, true));
+        add(new ScoreboardObjectivePacket("objective", (byte) 0, COMPONENT, ScoreboardObjectivePacket.Type.INTEGER));
+        add(new SelectAdvancementTabPacket("minestom:root"));
+        add(new ServerDataPacket(COMPONENT, null, false, false));
+        add(new ServerDifficultyPacket(Difficulty.NORMAL, true));
+        add(new SetChatPreviewPacket(false));
+        add(new SetCooldownPacket(1, 20));
+        add(new SetExperiencePacket(0.5f, 10, 160));
+        add(new SetPassengersPacket(5, List.of(6, 7)));
+        add(new SetSlotPacket((byte) 0, 1, (short) 36, ItemStack.of(Material.DIAMOND_SWORD)));
+        add(new SetTitleSubTitlePacket(COMPONENT));
+        add(new SetTitleTextPacket(COMPONENT));
+        add(new SetTitleTimePacket(10, 70, 20));
+        add(new SoundEffectPacket(1, Sound.Source.HOSTILE, 8192, 512, -4096, 1f, 1f, 0));
+        add(new SpawnEntityPacket(5, UUID.randomUUID(), 1, POSITION, 90f, 0, (short) 0, (short) 0, (short) 0));
+        add(new SpawnExperienceOrbPacket(5, POSITION, (short) 10));
+        add(new SpawnPlayerPacket(5, UUID.randomUUID(), POSITION));
+        add(new SpawnPositionPacket(BLOCK, 0f));
+        add(new StatisticsPacket(List.of(new StatisticsPacket.Statistic(StatisticCategory.MINED, 1, 5))));
+        add(new StopSoundPacket((byte) 3, Sound.Source.HOSTILE, "minecraft:entity.zombie.ambient"));
+        add(new SystemChatPacket(COMPONENT, false));
+        add(new TabCompletePacket(1, 0, 4, List.of(new TabCompletePacket.Match("help", COMPONENT))));
+        add(new TagsPacket(MinecraftServer.getTagManager().getTagMap()));
+        add(new TeamsPacket("team", new TeamsPacket.CreateTeamAction(COMPONENT, (byte) 0, TeamsPacket.NameTagVisibility.ALWAYS,
+                TeamsPacket.CollisionRule.ALWAYS, NamedTextColor.RED, COMPONENT, COMPONENT, List.of("TheMode911"))));
+        add(new TimeUpdatePacket(123456, 6000));
+        add(new TradeListPacket(1, List.of(new TradeListPacket.Trade(ItemStack.of(Material.EMERALD), ItemStack.of(Material.BREAD),
+                ItemStack.AIR, false, 0, 12, 1, 0, 0.05f, 0)), 1, 0, true, true));
+        add(new UnloadChunkPacket(5, 10));
+        add(new UnlockRecipesPacket(0, false, false, false, false, false, false, false, false,
+                List.of("minecraft:torch"), List.of("minecraft:torch")));
+        add(new UpdateHealthPacket(20f, 20, 5f));
+        add(new UpdateLightPacket(0, 0, lightData()));
+        add(new UpdateScorePacket("TheMode911", (byte) 0, "objective", 5));
+        add(new UpdateSimulationDistancePacket(8));
+        add(new UpdateViewDistancePacket(8));
+        add(new UpdateViewPositionPacket(5, 10));
+        add(new VehicleMovePacket(POSITION));
+        add(new WindowItemsPacket((byte) 0, 1, Collections.nCopies(46, ItemStack.of(Material.STONE, 64)), ItemStack.AIR));
+        add(new WindowPropertyPacket((byte) 1, (short) 0, (short) 100));
+        add(new WorldBorderCenterPacket(0, 0));
+        add(new WorldBorderLerpSizePacket(1000, 2000, 60_000));
+        add(new WorldBorderSizePacket(1000));
+        add(new WorldBorderWarningDelayPacket(15));
+        add(new WorldBorderWarningReachPacket(5));
+        this.packet = Objects.requireNonNull(packets.get(packetName), packetName);
+        this.buffer = ByteBuffer.allocateDirect(1024 * 1024);
+    }
+
+    @Benchmark
+    public ByteBuffer packet() {
+        final ByteBuffer buffer = this.buffer.clear();
+        PacketUtils.writeFramedPacket(buffer, packet.getId(), packet, 0);
+        return buffer;
+    }
+
+    private void add(ServerPacket packet) {
+        this.packets.put(packet.getClass().getSimpleName(), packet);
+    }
+
+    private static LightData lightData() {
+        final BitSet mask = new BitSet();
+        mask.set(1, 25);
+        List<byte[]> light = Collections.nCopies(24, new byte[2048]);
+        return new LightData(true, mask, mask, new BitSet(), new BitSet(), light, light);
+    }
+
+    private static List<DeclareCommandsPacket.Node> commandNodes() {
+        DeclareCommandsPacket.Node root = new DeclareCommandsPacket.Node();
+        root.children = new int[]{1};
+        DeclareCommandsPacket.Node literal = new DeclareCommandsPacket.Node();
+        literal.flags = 0x01 | 0x04;
+        literal.name = "help";
+        return List.of(root, literal);
+    }
+}
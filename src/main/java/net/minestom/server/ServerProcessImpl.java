@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,6 +46,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 final class ServerProcessImpl implements ServerProcess {
     private final static Logger LOGGER = LoggerFactory.getLogger(ServerProcessImpl.class);
+    private static final Duration SAVE_TIMEOUT = Duration.ofSeconds(Integer.getInteger("minestom.chunk-save.shutdown-timeout", 30));
 
     private final ExceptionManager exception;
     private final ExtensionManager extension;
@@ -247,6 +249,10 @@ final class ServerProcessImpl implements ServerProcess {
         scheduler.shutdown();
         connection.shutdown();
         server.stop();
+        LOGGER.info("Waiting for the queued chunk saves.");
+        if (!instance.awaitPendingSaves(SAVE_TIMEOUT)) {
+            LOGGER.warn("Some queued chunks have not been saved after " + SAVE_TIMEOUT.toSeconds() + " seconds.");
+        }
         LOGGER.info("Shutting down all thread pools.");
         benchmark.disable();
         MinestomTerminal.stop();
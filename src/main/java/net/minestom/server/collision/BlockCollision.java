@@ -39,6 +39,8 @@ final class BlockCollision {
     }
 
     static Entity canPlaceBlockAt(Instance instance, Point blockPos, Block b) {
+        // Blocks without collision can never be obstructed by an entity
+        if (ShapeTable.isEmpty(ShapeTable.flags(b))) return null;
         for (Entity entity : instance.getNearbyEntities(blockPos, 3)) {
             final EntityType type = entity.getEntityType();
             if (type == EntityType.ITEM || type == EntityType.ARROW)
@@ -263,47 +265,65 @@ final class BlockCollision {
                                     Block.Getter getter, SweepResult finalResult) {
         // Don't step if chunk isn't loaded yet
         final Block currentBlock = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
-        final Shape currentShape = currentBlock.registry().collisionShape();
+        final int currentFlags = ShapeTable.flags(currentBlock);
 
-        final boolean currentCollidable = !currentShape.relativeEnd().isZero();
-        final boolean currentShort = currentShape.relativeEnd().y() < 0.5;
+        final boolean currentCollidable = !ShapeTable.isEmpty(currentFlags);
+        final boolean currentShort = ShapeTable.isShort(currentFlags);
 
         // only consider the block below if our current shape is sufficiently short
         if (currentShort && shouldCheckLower(entityVelocity, entityPosition, blockX, blockY, blockZ)) {
             // we need to check below for a tall block (fence, wall, ...)
-            final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-            final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-            final Shape belowShape = belowBlock.registry().collisionShape();
-
-            final Vec currentPos = new Vec(blockX, blockY, blockZ);
+            final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
+            final int belowFlags = ShapeTable.flags(belowBlock);
             // don't fall out of if statement, we could end up redundantly grabbing a block, and we only need to
             // collision check against the current shape since the below shape isn't tall
-            if (belowShape.relativeEnd().y() > 1) {
+            if (ShapeTable.isTall(belowFlags)) {
+                final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
                 // we should always check both shapes, so no short-circuit here, to handle cases where the bounding box
                 // hits the current solid but misses the tall solid
-                return belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult) |
-                        (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult));
+                return sweep(belowBlock, belowFlags, entityVelocity, entityPosition, belowPos, boundingBox, finalResult) |
+                        (currentCollidable && sweep(currentBlock, currentFlags, entityVelocity, entityPosition,
+                                new Vec(blockX, blockY, blockZ), boundingBox, finalResult));
             } else {
-                return currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult);
+                return currentCollidable && sweep(currentBlock, currentFlags, entityVelocity, entityPosition,
+                        new Vec(blockX, blockY, blockZ), boundingBox, finalResult);
             }
         }
 
-        if (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity,
+        // Empty shapes (air, flowers, ...) cannot be collided with
+        if (!currentCollidable) return false;
+
+        if (ShapeTable.isFullBlock(currentFlags)) {
+            // Full cubes are neither short nor tall, the block below never matters
+            return ShapeTable.shape(currentBlock).intersectSingleBoxSwept(entityPosition, entityVelocity,
+                    new Vec(blockX, blockY, blockZ), boundingBox, finalResult);
+        }
+
+        if (sweep(currentBlock, currentFlags, entityVelocity, entityPosition,
                 new Vec(blockX, blockY, blockZ), boundingBox, finalResult)) {
             // if the current collision is sufficiently short, we might need to collide against the block below too
             if (currentShort) {
-                final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-                final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-                final Shape belowShape = belowBlock.registry().collisionShape();
+                final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
+                final int belowFlags = ShapeTable.flags(belowBlock);
                 // only do sweep if the below block is big enough to possibly hit
-                if (belowShape.relativeEnd().y() > 1)
-                    belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult);
+                if (ShapeTable.isTall(belowFlags)) {
+                    final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
+                    sweep(belowBlock, belowFlags, entityVelocity, entityPosition, belowPos, boundingBox, finalResult);
+                }
             }
             return true;
         }
         return false;
     }
 
+    private static boolean sweep(Block block, int flags, Vec entityVelocity, Pos entityPosition, Vec blockPos,
+                                 BoundingBox boundingBox, SweepResult finalResult) {
+        final ShapeImpl shape = ShapeTable.shape(block);
+        return ShapeTable.isSingleBox(flags) ?
+                shape.intersectSingleBoxSwept(entityPosition, entityVelocity, blockPos, boundingBox, finalResult) :
+                shape.intersectBoxSwept(entityPosition, entityVelocity, blockPos, boundingBox, finalResult);
+    }
+
     private static boolean shouldCheckLower(Vec entityVelocity, Pos entityPosition, int blockX, int blockY, int blockZ) {
         final double yVelocity = entityVelocity.y();
         // if moving horizontally, just check if the floor of the entity's position is the same as the blockY
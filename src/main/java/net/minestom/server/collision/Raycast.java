@@ -0,0 +1,318 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Casts rays against blocks and entities, useful for hit-scan weapons or line of sight checks.
+ * <p>
+ * Blocks are traversed using the Amanatides-Woo voxel algorithm, and tested against their exact collision shape.
+ * No object is allocated per traversed block, results are written to a reusable {@link RaycastResult}.
+ * <p>
+ * Shapes exceeding their block (fences, walls) are only tested in the block containing them.
+ */
+@ApiStatus.Experimental
+public final class Raycast {
+    private Raycast() {
+    }
+
+    /**
+     * Casts a ray against the blocks and the entities of an instance.
+     *
+     * @param instance     the instance to cast the ray in
+     * @param origin       the ray origin
+     * @param direction    the ray direction, does not need to be normalized
+     * @param maxDistance  the maximum distance of the ray
+     * @param entityFilter the entities that can be hit, null to consider all entities
+     * @param result       the result to fill
+     * @return true if a block or an entity has been hit
+     */
+    public static boolean cast(@NotNull Instance instance, @NotNull Point origin, @NotNull Vec direction,
+                               double maxDistance, @Nullable Predicate<Entity> entityFilter,
+                               @NotNull RaycastResult result) {
+        result.reset();
+        final double length = direction.length();
+        if (length == 0 || maxDistance <= 0) return false;
+        final double dirX = direction.x() / length, dirY = direction.y() / length, dirZ = direction.z() / length;
+        castBlocks(instance, origin.x(), origin.y(), origin.z(), dirX, dirY, dirZ, maxDistance, result);
+        // Entities behind the hit block cannot be hit
+        final double entityDistance = result.isHit() ? result.distance : maxDistance;
+        castEntities(instance.getEntityTracker(), origin.x(), origin.y(), origin.z(),
+                dirX, dirY, dirZ, entityDistance, entityFilter, result);
+        return result.isHit();
+    }
+
+    /**
+     * Casts a ray against blocks only.
+     * <p>
+     * The cast stops at unloaded chunks if {@code getter} is an {@link Instance}.
+     *
+     * @param getter      the block getter
+     * @param origin      the ray origin
+     * @param direction   the ray direction, does not need to be normalized
+     * @param maxDistance the maximum distance of the ray
+     * @param result      the result to fill
+     * @return true if a block has been hit
+     */
+    public static boolean blocks(@NotNull Block.Getter getter, @NotNull Point origin, @NotNull Vec direction,
+                                 double maxDistance, @NotNull RaycastResult result) {
+        return blocks(getter, origin.x(), origin.y(), origin.z(),
+                direction.x(), direction.y(), direction.z(), maxDistance, result);
+    }
+
+    public static boolean blocks(@NotNull Block.Getter getter,
+                                 double originX, double originY, double originZ,
+                                 double directionX, double directionY, double directionZ,
+                                 double maxDistance, @NotNull RaycastResult result) {
+        result.reset();
+        final double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        if (length == 0 || maxDistance <= 0) return false;
+        castBlocks(getter, originX, originY, originZ,
+                directionX / length, directionY / length, directionZ / length, maxDistance, result);
+        return result.isHit();
+    }
+
+    /**
+     * Casts a ray against entities only.
+     *
+     * @param tracker     the tracker of the entities to test
+     * @param origin      the ray origin
+     * @param direction   the ray direction, does not need to be normalized
+     * @param maxDistance the maximum distance of the ray
+     * @param filter      the entities that can be hit, null to consider all entities
+     * @param result      the result to fill
+     * @return true if an entity has been hit
+     */
+    public static boolean entities(@NotNull EntityTracker tracker, @NotNull Point origin, @NotNull Vec direction,
+                                   double maxDistance, @Nullable Predicate<Entity> filter,
+                                   @NotNull RaycastResult result) {
+        result.reset();
+        final double length = direction.length();
+        if (length == 0 || maxDistance <= 0) return false;
+        castEntities(tracker, origin.x(), origin.y(), origin.z(),
+                direction.x() / length, direction.y() / length, direction.z() / length,
+                maxDistance, filter, result);
+        return result.isHit();
+    }
+
+    private static void castBlocks(Block.Getter getter,
+                                   double originX, double originY, double originZ,
+                                   double dirX, double dirY, double dirZ,
+                                   double maxDistance, RaycastResult result) {
+        int x = (int) Math.floor(originX);
+        int y = (int) Math.floor(originY);
+        int z = (int) Math.floor(originZ);
+
+        final int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        final int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+        final int stepZ = dirZ > 0 ? 1 : (dirZ < 0 ? -1 : 0);
+        // Distance along the ray to cross one block on each axis
+        final double deltaX = stepX != 0 ? Math.abs(1 / dirX) : Double.POSITIVE_INFINITY;
+        final double deltaY = stepY != 0 ? Math.abs(1 / dirY) : Double.POSITIVE_INFINITY;
+        final double deltaZ = stepZ != 0 ? Math.abs(1 / dirZ) : Double.POSITIVE_INFINITY;
+        // Distance along the ray to the next block boundary on each axis
+        double nextX = stepX > 0 ? (x + 1 - originX) * deltaX : (stepX < 0 ? (originX - x) * deltaX : Double.POSITIVE_INFINITY);
+        double nextY = stepY > 0 ? (y + 1 - originY) * deltaY : (stepY < 0 ? (originY - y) * deltaY : Double.POSITIVE_INFINITY);
+        double nextZ = stepZ > 0 ? (z + 1 - originZ) * deltaZ : (stepZ < 0 ? (originZ - z) * deltaZ : Double.POSITIVE_INFINITY);
+
+        final Instance instance = getter instanceof Instance i ? i : null;
+        int chunkX = x >> 4, chunkZ = z >> 4;
+        if (instance != null && !instance.isChunkLoaded(chunkX, chunkZ)) return;
+
+        double distance = 0;
+        int axis = -1;
+        while (distance <= maxDistance) {
+            final Block block = getter.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+            final int flags = ShapeTable.flags(block);
+            if (!ShapeTable.isEmpty(flags)) {
+                final double hit;
+                if (ShapeTable.isFullBlock(flags)) {
+                    // The ray hits the block as soon as it enters it
+                    hit = distance;
+                    result.hitAxis = axis;
+                } else {
+                    hit = intersectShape(ShapeTable.shape(block), originX - x, originY - y, originZ - z,
+                            dirX, dirY, dirZ, maxDistance, result);
+                }
+                if (hit >= 0 && hit <= maxDistance) {
+                    result.type = RaycastResult.Type.BLOCK;
+                    result.distance = hit;
+                    result.hitX = originX + dirX * hit;
+                    result.hitY = originY + dirY * hit;
+                    result.hitZ = originZ + dirZ * hit;
+                    result.blockX = x;
+                    result.blockY = y;
+                    result.blockZ = z;
+                    result.block = block;
+                    result.face = face(result.hitAxis, dirX, dirY, dirZ);
+                    return;
+                }
+            }
+            // Step to the closest block boundary
+            if (nextX < nextY) {
+                if (nextX < nextZ) {
+                    x += stepX;
+                    distance = nextX;
+                    nextX += deltaX;
+                    axis = 0;
+                } else {
+                    z += stepZ;
+                    distance = nextZ;
+                    nextZ += deltaZ;
+                    axis = 2;
+                }
+            } else {
+                if (nextY < nextZ) {
+                    y += stepY;
+                    distance = nextY;
+                    nextY += deltaY;
+                    axis = 1;
+                } else {
+                    z += stepZ;
+                    distance = nextZ;
+                    nextZ += deltaZ;
+                    axis = 2;
+                }
+            }
+            if (instance != null && (x >> 4 != chunkX || z >> 4 != chunkZ)) {
+                chunkX = x >> 4;
+                chunkZ = z >> 4;
+                if (!instance.isChunkLoaded(chunkX, chunkZ)) return;
+            }
+        }
+    }
+
+    private static void castEntities(EntityTracker tracker,
+                                     double originX, double originY, double originZ,
+                                     double dirX, double dirY, double dirZ,
+                                     double maxDistance, @Nullable Predicate<Entity> filter,
+                                     RaycastResult result) {
+        final double halfDistance = maxDistance / 2;
+        final Vec center = new Vec(originX + dirX * halfDistance, originY + dirY * halfDistance, originZ + dirZ * halfDistance);
+        // Entities are tracked by their position, leave room for their bounding box
+        tracker.nearbyEntities(center, halfDistance + tracker.maxBoundingBoxExtent(), EntityTracker.Target.ENTITIES, entity -> {
+            if (filter != null && !filter.test(entity)) return;
+            final Pos position = entity.getPosition();
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            final double hit = intersectBox(
+                    position.x() + boundingBox.minX(), position.y() + boundingBox.minY(), position.z() + boundingBox.minZ(),
+                    position.x() + boundingBox.maxX(), position.y() + boundingBox.maxY(), position.z() + boundingBox.maxZ(),
+                    originX, originY, originZ, dirX, dirY, dirZ, maxDistance, result);
+            if (hit < 0 || hit > maxDistance || hit >= result.distance) return;
+            result.type = RaycastResult.Type.ENTITY;
+            result.distance = hit;
+            result.hitX = originX + dirX * hit;
+            result.hitY = originY + dirY * hit;
+            result.hitZ = originZ + dirZ * hit;
+            result.blockX = 0;
+            result.blockY = 0;
+            result.blockZ = 0;
+            result.block = null;
+            result.face = face(result.hitAxis, dirX, dirY, dirZ);
+            result.entity = entity;
+        });
+    }
+
+    /**
+     * Intersects a ray with all the boxes of a block shape.
+     *
+     * @return the distance to the closest box, -1 if none is hit
+     */
+    private static double intersectShape(ShapeImpl shape,
+                                         double originX, double originY, double originZ,
+                                         double dirX, double dirY, double dirZ,
+                                         double maxDistance, RaycastResult result) {
+        double closest = -1;
+        int closestAxis = -1;
+        for (BoundingBox box : shape.boundingBoxes()) {
+            final double hit = intersectBox(box.minX(), box.minY(), box.minZ(), box.maxX(), box.maxY(), box.maxZ(),
+                    originX, originY, originZ, dirX, dirY, dirZ, maxDistance, result);
+            if (hit >= 0 && (closest < 0 || hit < closest)) {
+                closest = hit;
+                closestAxis = result.hitAxis;
+            }
+        }
+        result.hitAxis = closestAxis;
+        return closest;
+    }
+
+    /**
+     * Intersects a ray with an axis-aligned box using the slab method.
+     * <p>
+     * The axis of the entered face is written to {@link RaycastResult#hitAxis}.
+     *
+     * @return the entry distance, 0 if the origin is inside the box, -1 if the box is not hit
+     */
+    static double intersectBox(double minX, double minY, double minZ,
+                               double maxX, double maxY, double maxZ,
+                               double originX, double originY, double originZ,
+                               double dirX, double dirY, double dirZ,
+                               double maxDistance, RaycastResult result) {
+        double enter = 0, exit = maxDistance;
+        int axis = -1;
+        // X slab
+        if (dirX == 0) {
+            if (originX < minX || originX > maxX) return -1;
+        } else {
+            final double inverse = 1 / dirX;
+            final double t1 = (minX - originX) * inverse, t2 = (maxX - originX) * inverse;
+            final double near = Math.min(t1, t2), far = Math.max(t1, t2);
+            if (near > enter) {
+                enter = near;
+                axis = 0;
+            }
+            if (far < exit) exit = far;
+            if (enter > exit) return -1;
+        }
+        // Y slab
+        if (dirY == 0) {
+            if (originY < minY || originY > maxY) return -1;
+        } else {
+            final double inverse = 1 / dirY;
+            final double t1 = (minY - originY) * inverse, t2 = (maxY - originY) * inverse;
+            final double near = Math.min(t1, t2), far = Math.max(t1, t2);
+            if (near > enter) {
+                enter = near;
+                axis = 1;
+            }
+            if (far < exit) exit = far;
+            if (enter > exit) return -1;
+        }
+        // Z slab
+        if (dirZ == 0) {
+            if (originZ < minZ || originZ > maxZ) return -1;
+        } else {
+            final double inverse = 1 / dirZ;
+            final double t1 = (minZ - originZ) * inverse, t2 = (maxZ - originZ) * inverse;
+            final double near = Math.min(t1, t2), far = Math.max(t1, t2);
+            if (near > enter) {
+                enter = near;
+                axis = 2;
+            }
+            if (far < exit) exit = far;
+            if (enter > exit) return -1;
+        }
+        result.hitAxis = axis;
+        return enter;
+    }
+
+    private static BlockFace face(int axis, double dirX, double dirY, double dirZ) {
+        return switch (axis) {
+            case 0 -> dirX > 0 ? BlockFace.WEST : BlockFace.EAST;
+            case 1 -> dirY > 0 ? BlockFace.BOTTOM : BlockFace.TOP;
+            case 2 -> dirZ > 0 ? BlockFace.NORTH : BlockFace.SOUTH;
+            default -> null;
+        };
+    }
+}
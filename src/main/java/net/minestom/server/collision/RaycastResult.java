@@ -0,0 +1,141 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mutable result of a {@link Raycast}.
+ * <p>
+ * Meant to be reused between casts to avoid allocation, not thread-safe.
+ */
+@ApiStatus.Experimental
+public final class RaycastResult {
+    public enum Type {
+        NONE, BLOCK, ENTITY
+    }
+
+    Type type = Type.NONE;
+    double distance = Double.POSITIVE_INFINITY;
+    double hitX, hitY, hitZ;
+    int blockX, blockY, blockZ;
+    Block block;
+    BlockFace face;
+    Entity entity;
+
+    // Axis of the last box face intersected by the ray (0 = x, 1 = y, 2 = z, -1 = started inside)
+    int hitAxis = -1;
+
+    /**
+     * Clears the result, called before every cast.
+     */
+    public void reset() {
+        this.type = Type.NONE;
+        this.distance = Double.POSITIVE_INFINITY;
+        this.hitX = 0;
+        this.hitY = 0;
+        this.hitZ = 0;
+        this.blockX = 0;
+        this.blockY = 0;
+        this.blockZ = 0;
+        this.block = null;
+        this.face = null;
+        this.entity = null;
+        this.hitAxis = -1;
+    }
+
+    public @NotNull Type type() {
+        return type;
+    }
+
+    public boolean isHit() {
+        return type != Type.NONE;
+    }
+
+    /**
+     * Gets the distance between the ray origin and the hit.
+     *
+     * @return the distance, {@link Double#POSITIVE_INFINITY} if nothing has been hit
+     */
+    public double distance() {
+        return distance;
+    }
+
+    public double hitX() {
+        return hitX;
+    }
+
+    public double hitY() {
+        return hitY;
+    }
+
+    public double hitZ() {
+        return hitZ;
+    }
+
+    /**
+     * Gets the exact hit position.
+     * <p>
+     * Allocates a new {@link Vec}, prefer {@link #hitX()}, {@link #hitY()} and {@link #hitZ()} in hot paths.
+     *
+     * @return the hit position
+     */
+    public @NotNull Vec hitPosition() {
+        return new Vec(hitX, hitY, hitZ);
+    }
+
+    public int blockX() {
+        return blockX;
+    }
+
+    public int blockY() {
+        return blockY;
+    }
+
+    public int blockZ() {
+        return blockZ;
+    }
+
+    /**
+     * Gets the block that has been hit.
+     *
+     * @return the hit block, null if {@link #type()} is not {@link Type#BLOCK}
+     */
+    public @Nullable Block block() {
+        return block;
+    }
+
+    /**
+     * Gets the face of the block or entity bounding box that has been hit.
+     *
+     * @return the hit face, null if nothing has been hit or if the ray started inside the shape
+     */
+    public @Nullable BlockFace face() {
+        return face;
+    }
+
+    /**
+     * Gets the entity that has been hit.
+     *
+     * @return the hit entity, null if {@link #type()} is not {@link Type#ENTITY}
+     */
+    public @Nullable Entity entity() {
+        return entity;
+    }
+
+    @Override
+    public String toString() {
+        return "RaycastResult{" +
+                "type=" + type +
+                ", distance=" + distance +
+                ", hit=" + hitX + "," + hitY + "," + hitZ +
+                ", block=" + block +
+                ", face=" + face +
+                ", entity=" + entity +
+                '}';
+    }
+}
@@ -8,13 +8,22 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.registry.Registry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class ShapeImpl implements Shape {
-    private static final Pattern PATTERN = Pattern.compile("\\d.\\d{1,3}", Pattern.MULTILINE);
+    // Most block states share the same shape string (full cube, empty, slabs...)
+    private static final Map<String, BoundingBox[]> PARSED_SHAPES = new ConcurrentHashMap<>();
+
+    static final int FLAG_EMPTY = 1;
+    static final int FLAG_FULL_BLOCK = 1 << 1;
+    static final int FLAG_SINGLE_BOX = 1 << 2;
+    static final int FLAG_SHORT = 1 << 3;
+    static final int FLAG_TALL = 1 << 4;
+
     private final BoundingBox[] blockSections;
     private final Point relativeStart, relativeEnd;
+    private final int flags;
 
     private final Registry.BlockEntry blockEntry;
     private Block block;
@@ -39,15 +48,26 @@ final class ShapeImpl implements Shape {
             this.relativeStart = new Vec(minX, minY, minZ);
             this.relativeEnd = new Vec(maxX, maxY, maxZ);
         }
+        // Compute flags
+        {
+            int flags = 0;
+            if (relativeEnd.isZero()) flags |= FLAG_EMPTY;
+            if (blockSections.length == 1) {
+                flags |= FLAG_SINGLE_BOX;
+                if (relativeStart.isZero() && relativeEnd.samePoint(1, 1, 1)) flags |= FLAG_FULL_BLOCK;
+            }
+            if (relativeEnd.y() < 0.5) flags |= FLAG_SHORT;
+            if (relativeEnd.y() > 1) flags |= FLAG_TALL;
+            this.flags = flags;
+        }
     }
 
     static ShapeImpl parseBlockFromRegistry(String str, Registry.BlockEntry blockEntry) {
-        final Matcher matcher = PATTERN.matcher(str);
-        DoubleList vals = new DoubleArrayList();
-        while (matcher.find()) {
-            double newVal = Double.parseDouble(matcher.group());
-            vals.add(newVal);
-        }
+        return new ShapeImpl(PARSED_SHAPES.computeIfAbsent(str, ShapeImpl::parseBoundingBoxes), blockEntry);
+    }
+
+    private static BoundingBox[] parseBoundingBoxes(String str) {
+        final DoubleList vals = parseValues(str);
 
         final int count = vals.size() / 6;
         BoundingBox[] boundingBoxes = new BoundingBox[count];
@@ -66,7 +86,42 @@ final class ShapeImpl implements Shape {
             assert bb.minZ() == minZ;
             boundingBoxes[i] = bb;
         }
-        return new ShapeImpl(boundingBoxes, blockEntry);
+        return boundingBoxes;
+    }
+
+    /**
+     * Extracts all the numbers of a shape string, equivalent to matching {@code \d.\d{1,3}}
+     * but without the cost of a regex for each of the block states.
+     */
+    private static DoubleList parseValues(String str) {
+        DoubleList vals = new DoubleArrayList();
+        final int length = str.length();
+        int i = 0;
+        while (i + 2 < length) {
+            if (!Character.isDigit(str.charAt(i)) || str.charAt(i + 1) == '\n' ||
+                    !Character.isDigit(str.charAt(i + 2))) {
+                i++;
+                continue;
+            }
+            int end = i + 3;
+            while (end < length && end < i + 5 && Character.isDigit(str.charAt(end))) end++;
+            vals.add(Double.parseDouble(str.substring(i, end)));
+            i = end;
+        }
+        return vals;
+    }
+
+    /**
+     * Gets the precomputed flags of this shape.
+     *
+     * @return the shape flags, see {@link #FLAG_EMPTY} and others
+     */
+    int flags() {
+        return flags;
+    }
+
+    BoundingBox[] boundingBoxes() {
+        return blockSections;
     }
 
     @Override
@@ -103,6 +158,22 @@ final class ShapeImpl implements Shape {
         return hitBlock;
     }
 
+    /**
+     * Sweeps against a {@link #FLAG_SINGLE_BOX} shape, skipping the iteration over the shape sections.
+     *
+     * @see #intersectBoxSwept(Point, Point, Point, BoundingBox, SweepResult)
+     */
+    boolean intersectSingleBoxSwept(@NotNull Point rayStart, @NotNull Point rayDirection,
+                                    @NotNull Point shapePos, @NotNull BoundingBox moving, @NotNull SweepResult finalResult) {
+        assert (flags & FLAG_SINGLE_BOX) != 0 : "Shape has " + blockSections.length + " boxes";
+        if (RayUtils.BoundingBoxIntersectionCheck(moving, rayStart, rayDirection, blockSections[0], shapePos, finalResult)) {
+            finalResult.collidedShapePosition = shapePos;
+            finalResult.collidedShape = this;
+            finalResult.blockType = block();
+        }
+        return true;
+    }
+
     private Block block() {
         Block block = this.block;
         if (block == null) this.block = block = Block.fromStateId((short) blockEntry.stateId());
@@ -0,0 +1,67 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.instance.block.Block;
+
+import static net.minestom.server.collision.ShapeImpl.*;
+
+/**
+ * Flat table of the collision shapes of every block state, indexed by state id.
+ * <p>
+ * Allows the physics to know if a block is empty, a full cube or a single box
+ * without going through the registry entry and the shape bounds.
+ */
+final class ShapeTable {
+    private static final ShapeImpl[] SHAPES;
+    private static final byte[] FLAGS;
+
+    static {
+        int maxStateId = 0;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+        SHAPES = new ShapeImpl[maxStateId + 1];
+        FLAGS = new byte[maxStateId + 1];
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                final ShapeImpl shape = (ShapeImpl) state.registry().collisionShape();
+                final int stateId = state.stateId();
+                SHAPES[stateId] = shape;
+                FLAGS[stateId] = (byte) shape.flags();
+            }
+        }
+    }
+
+    static int flags(Block block) {
+        final int stateId = block.stateId();
+        if (stateId >= 0 && stateId < FLAGS.length) return FLAGS[stateId];
+        return ((ShapeImpl) block.registry().collisionShape()).flags();
+    }
+
+    static ShapeImpl shape(Block block) {
+        final int stateId = block.stateId();
+        if (stateId >= 0 && stateId < SHAPES.length) return SHAPES[stateId];
+        return (ShapeImpl) block.registry().collisionShape();
+    }
+
+    static boolean isEmpty(int flags) {
+        return (flags & FLAG_EMPTY) != 0;
+    }
+
+    static boolean isFullBlock(int flags) {
+        return (flags & FLAG_FULL_BLOCK) != 0;
+    }
+
+    static boolean isSingleBox(int flags) {
+        return (flags & FLAG_SINGLE_BOX) != 0;
+    }
+
+    static boolean isShort(int flags) {
+        return (flags & FLAG_SHORT) != 0;
+    }
+
+    static boolean isTall(int flags) {
+        return (flags & FLAG_TALL) != 0;
+    }
+}
@@ -520,8 +520,11 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     @Override
     public void tick(long time) {
-        if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
+        if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk)) {
+            // Changes made outside of the tick (e.g. by another entity or a task)
+            this.metadata.sendPendingChanges();
             return;
+        }
 
         // scheduled tasks
         this.scheduler.processTick();
@@ -546,6 +549,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             // remove expired effects
             effectTick(time);
         }
+        // Metadata changed during this tick
+        this.metadata.sendPendingChanges();
         // Scheduled synchronization
         if (!Cooldown.hasCooldown(time, lastAbsoluteSynchronizationTime, getSynchronizationCooldown())) {
             synchronizePosition(false);
@@ -816,6 +821,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void setBoundingBox(BoundingBox boundingBox) {
         this.boundingBox = boundingBox;
+        final Instance instance = this.instance;
+        if (instance != null) instance.getEntityTracker().boundingBoxUpdate(this);
     }
 
     /**
@@ -862,7 +869,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         EventDispatcher.call(event);
         if (event.isCancelled()) return null; // TODO what to return?
 
-        if (previousInstance != null) removeFromInstance(previousInstance);
+        if (previousInstance != null) {
+            this.metadata.sendPendingChanges();
+            removeFromInstance(previousInstance);
+        }
 
         this.isActive = true;
         this.position = spawnPosition;
@@ -1476,6 +1486,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void remove() {
         if (isRemoved()) return;
+        // The entity is not ticked anymore
+        this.metadata.sendPendingChanges();
         // Remove passengers if any (also done with LivingEntity#kill)
         Set<Entity> passengers = getPassengers();
         if (!passengers.isEmpty()) passengers.forEach(this::removePassenger);
@@ -48,7 +48,7 @@ public class EntityCreature extends LivingEntity implements NavigableEntity, Ent
         aiTick(time);
 
         // Path finding
-        this.navigator.tick();
+        this.navigator.tick(time);
 
         // Fire, item pickup, ...
         super.update(time);
@@ -6,6 +6,7 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
 import net.minestom.server.utils.Direction;
+import net.minestom.server.utils.PropertyUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -115,6 +116,12 @@ public final class Metadata {
     public static final byte TYPE_OPTVARINT = 17;
     public static final byte TYPE_POSE = 18;
 
+    /**
+     * Whether metadata changes are accumulated and sent once per entity tick
+     * instead of one packet per {@link #setIndex(int, Entry)} call.
+     */
+    static final boolean TICK_BATCHING = PropertyUtils.getBoolean("minestom.metadata-tick-batching", true);
+
     private static final VarHandle NOTIFIED_CHANGES;
 
     static {
@@ -157,7 +164,8 @@ public final class Metadata {
         // Send metadata packet to update viewers and self
         final Entity entity = this.entity;
         if (entity != null && entity.isActive()) {
-            if (!this.notifyAboutChanges) {
+            if (!this.notifyAboutChanges || TICK_BATCHING) {
+                // Sent by #setNotifyAboutChanges(true) or the next entity tick
                 synchronized (this.notNotifiedChanges) {
                     this.notNotifiedChanges.put(index, entry);
                 }
@@ -174,6 +182,21 @@ public final class Metadata {
             // Ask future metadata changes to be cached
             return;
         }
+        sendChanges();
+    }
+
+    /**
+     * Sends all the changes accumulated since the last call as a single packet,
+     * unless notifications are currently disabled.
+     * <p>
+     * Called at the end of every entity tick.
+     */
+    void sendPendingChanges() {
+        if (!this.notifyAboutChanges) return;
+        sendChanges();
+    }
+
+    private void sendChanges() {
         final Entity entity = this.entity;
         if (entity == null || !entity.isActive()) return;
         Map<Integer, Entry<?>> entries;
@@ -1,5 +1,7 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identified;
@@ -455,16 +457,20 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         Pos respawnPosition = respawnEvent.getRespawnPosition();
 
         // The client unloads chunks when respawning, so resend all chunks next to spawn
-        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()), (chunkX, chunkZ) ->
-                this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(chunk -> {
-                    try {
-                        if (chunk != null) {
-                            chunk.sendChunk(this);
-                        }
-                    } catch (Exception e) {
-                        MinecraftServer.getExceptionManager().handleException(e);
+        LongList respawnChunks = new LongArrayList();
+        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()),
+                (chunkX, chunkZ) -> respawnChunks.add(ChunkUtils.getChunkIndex(chunkX, chunkZ)));
+        for (CompletableFuture<Chunk> future : this.instance.loadOptionalChunks(respawnChunks).values()) {
+            future.thenAccept(chunk -> {
+                try {
+                    if (chunk != null) {
+                        chunk.sendChunk(this);
                     }
-                }));
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            });
+        }
         chunksLoadedByClient = new Vec(respawnPosition.chunkX(), respawnPosition.chunkZ());
         // Client also needs all entities resent to them, since those are unloaded as well
         this.instance.getEntityTracker().nearbyEntitiesByChunkRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()),
@@ -574,11 +580,13 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
                 currentInstance == null, dimensionChange, true);
 
         // Ensure that surrounding chunks are loaded
+        LongList spawnChunks = new LongArrayList();
+        ChunkUtils.forChunksInRange(spawnPosition, MinecraftServer.getChunkViewDistance(),
+                (chunkX, chunkZ) -> spawnChunks.add(ChunkUtils.getChunkIndex(chunkX, chunkZ)));
         List<CompletableFuture<Chunk>> futures = new ArrayList<>();
-        ChunkUtils.forChunksInRange(spawnPosition, MinecraftServer.getChunkViewDistance(), (chunkX, chunkZ) -> {
-            final CompletableFuture<Chunk> future = instance.loadOptionalChunk(chunkX, chunkZ);
+        for (CompletableFuture<Chunk> future : instance.loadOptionalChunks(spawnChunks).values()) {
             if (!future.isDone()) futures.add(future);
-        });
+        }
         if (futures.isEmpty()) {
             // All chunks are already loaded
             runnable.accept(instance);
@@ -79,6 +79,9 @@ public class EntityAIGroup {
             if (selector == currentGoalSelector) {
                 break;
             }
+            if (!selector.shouldEvaluate()) {
+                continue;
+            }
             if (selector.shouldStart()) {
                 if (currentGoalSelector != null) {
                     currentGoalSelector.end();
@@ -2,6 +2,7 @@ package net.minestom.server.entity.ai;
 
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -12,6 +13,8 @@ public abstract class GoalSelector {
     private WeakReference<EntityAIGroup> aiGroupWeakReference;
     protected EntityCreature entityCreature;
 
+    private int evaluationInterval = 1;
+
     public GoalSelector(@NotNull EntityCreature entityCreature) {
         this.entityCreature = entityCreature;
     }
@@ -59,7 +62,7 @@ public abstract class GoalSelector {
             return null;
         }
         for (TargetSelector targetSelector : aiGroup.getTargetSelectors()) {
-            final Entity entity = targetSelector.findTarget();
+            final Entity entity = targetSelector.scan();
             if (entity != null) {
                 return entity;
             }
@@ -90,6 +93,42 @@ public abstract class GoalSelector {
         this.entityCreature = entityCreature;
     }
 
+    /**
+     * Gets the number of ticks between each {@link #shouldStart()} evaluation.
+     *
+     * @return the evaluation interval in ticks
+     */
+    public int getEvaluationInterval() {
+        return evaluationInterval;
+    }
+
+    /**
+     * Changes the number of ticks between each {@link #shouldStart()} evaluation.
+     * <p>
+     * Evaluations are staggered using the entity id, so that entities
+     * with the same goal do not all evaluate it during the same tick.
+     *
+     * @param evaluationInterval the evaluation interval in ticks, 1 to evaluate every tick
+     */
+    public void setEvaluationInterval(int evaluationInterval) {
+        Check.argCondition(evaluationInterval < 1, "The evaluation interval must be positive");
+        this.evaluationInterval = evaluationInterval;
+    }
+
+    /**
+     * Gets if {@link #shouldStart()} should be evaluated during the current entity tick.
+     *
+     * @return true if the goal should be evaluated
+     */
+    boolean shouldEvaluate() {
+        return isStaggeredTick(entityCreature, evaluationInterval);
+    }
+
+    static boolean isStaggeredTick(@NotNull EntityCreature entityCreature, int interval) {
+        if (interval <= 1) return true;
+        return (entityCreature.getAliveTicks() + entityCreature.getEntityId()) % interval == 0;
+    }
+
     void setAIGroup(@NotNull EntityAIGroup group) {
         this.aiGroupWeakReference = new WeakReference<>(group);
     }
@@ -2,17 +2,30 @@ package net.minestom.server.entity.ai;
 
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * The target selector is called each time the entity receives an "attack" instruction
  * without having a target.
+ * <p>
+ * Scans can be limited to one every few ticks using {@link #setScanInterval(int)}
+ * or {@link #setDefaultScanInterval(EntityType, int)}, the last found target being reused in-between.
  */
 public abstract class TargetSelector {
+    private static final Map<EntityType, Integer> DEFAULT_SCAN_INTERVALS = new ConcurrentHashMap<>();
 
     protected final EntityCreature entityCreature;
 
+    private int scanInterval = 0;
+    private Entity lastTarget;
+    private long lastScanTick = -1;
+
     public TargetSelector(@NotNull EntityCreature entityCreature) {
         this.entityCreature = entityCreature;
     }
@@ -28,6 +41,67 @@ public abstract class TargetSelector {
     @Nullable
     public abstract Entity findTarget();
 
+    /**
+     * Gets the number of ticks between each {@link #findTarget()} call.
+     *
+     * @return the scan interval in ticks, 0 if the default interval of the entity type is used
+     */
+    public int getScanInterval() {
+        return scanInterval;
+    }
+
+    /**
+     * Changes the number of ticks between each {@link #findTarget()} call, overriding the entity type default.
+     *
+     * @param scanInterval the scan interval in ticks, 0 to use the default interval of the entity type
+     */
+    public void setScanInterval(int scanInterval) {
+        Check.argCondition(scanInterval < 0, "The scan interval cannot be negative");
+        this.scanInterval = scanInterval;
+    }
+
+    /**
+     * Changes the default scan interval of the target selectors of an entity type.
+     *
+     * @param entityType   the entity type
+     * @param scanInterval the scan interval in ticks, 1 to scan every time a target is requested
+     */
+    public static void setDefaultScanInterval(@NotNull EntityType entityType, int scanInterval) {
+        Check.argCondition(scanInterval < 1, "The scan interval must be positive");
+        DEFAULT_SCAN_INTERVALS.put(entityType, scanInterval);
+    }
+
+    /**
+     * Gets the default scan interval of the target selectors of an entity type.
+     *
+     * @param entityType the entity type
+     * @return the scan interval in ticks
+     */
+    public static int getDefaultScanInterval(@NotNull EntityType entityType) {
+        return DEFAULT_SCAN_INTERVALS.getOrDefault(entityType, 1);
+    }
+
+    /**
+     * Finds the target, or reuses the last one if the scan interval has not elapsed.
+     *
+     * @return the target, null if not any
+     */
+    @Nullable Entity scan() {
+        final int interval = scanInterval != 0 ? scanInterval : getDefaultScanInterval(entityCreature.getEntityType());
+        final long tick = entityCreature.getAliveTicks();
+        if (interval > 1 && lastScanTick != -1 && tick - lastScanTick < interval &&
+                !GoalSelector.isStaggeredTick(entityCreature, interval)) {
+            final Entity target = this.lastTarget;
+            if (target == null || (!target.isRemoved() && target.getInstance() == entityCreature.getInstance())) {
+                return target;
+            }
+        }
+        final Entity target = findTarget();
+        this.lastTarget = target;
+        this.lastScanTick = tick;
+        return target;
+    }
+
     /**
      * Gets the entity linked to this target selector.
      *
@@ -206,7 +206,7 @@ public class CombinedAttackGoal extends GoalSelector {
         if (pathPosition == null || !pathPosition.samePoint(targetPosition)) {
             if (this.cooldown.isReady(time)) {
                 this.cooldown.refreshLastUpdate(time);
-                navigator.setPathTo(targetPosition);
+                navigator.requestPathTo(targetPosition);
             }
         }
     }
@@ -78,7 +78,7 @@ public class FollowTargetGoal extends GoalSelector {
         if (targetPos != null && !targetPos.samePoint(lastTargetPos)) {
             this.lastUpdateTime = time;
             this.lastTargetPos = targetPos;
-            this.entityCreature.getNavigator().setPathTo(targetPos);
+            this.entityCreature.getNavigator().requestPathTo(targetPos);
         }
     }
 
@@ -96,7 +96,7 @@ public class MeleeAttackGoal extends GoalSelector {
             if (pathPosition == null || !pathPosition.samePoint(targetPosition)) {
                 if (this.cooldown.isReady(time)) {
                     this.cooldown.refreshLastUpdate(time);
-                    navigator.setPathTo(targetPosition);
+                    navigator.requestPathTo(targetPosition);
                 }
             }
         }
@@ -131,7 +131,7 @@ public class RangedAttackGoal extends GoalSelector {
         if (pathPosition == null || !pathPosition.samePoint(targetPosition)) {
             if (this.cooldown.isReady(time)) {
                 this.cooldown.refreshLastUpdate(time);
-                navigator.setPathTo(targetPosition);
+                navigator.requestPathTo(targetPosition);
             }
         }
     }
@@ -120,7 +120,7 @@ public class FakePlayer extends Player implements NavigableEntity {
     public void update(long time) {
         super.update(time);
         // Path finding
-        this.navigator.tick();
+        this.navigator.tick(time);
     }
 
     @Override
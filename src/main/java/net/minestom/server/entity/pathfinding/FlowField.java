@@ -0,0 +1,308 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Distance map (Dijkstra map) toward a single target, shared by all the entities going to the same place.
+ * <p>
+ * The field is computed once with a breadth-first search starting from the target,
+ * entities then only have to look at their neighbor cells to know where to go next.
+ * Block changes inside the field are applied incrementally when possible, on a copy published
+ * once updated so that entities can follow the field from any thread.
+ * <p>
+ * Retrieved using {@link PFInstanceSpace#flowField(Point)} and followed with {@link Navigator#setFlowFieldTo(Point)}.
+ */
+@ApiStatus.Experimental
+public final class FlowField {
+    public static final int HORIZONTAL_RADIUS = 24;
+    public static final int VERTICAL_RADIUS = 12;
+
+    private static final int SIZE_XZ = HORIZONTAL_RADIUS * 2 + 1;
+    private static final int SIZE_Y = VERTICAL_RADIUS * 2 + 1;
+    private static final int CELL_COUNT = SIZE_XZ * SIZE_Y * SIZE_XZ;
+
+    private static final short UNREACHABLE = Short.MAX_VALUE;
+    // An entity can stand in the cell
+    private static final byte WALKABLE = 1;
+    // The block 2 above the floor is free, required to jump up from or drop down into the cell
+    private static final byte HEADROOM = 2;
+
+    private static final int[] NEIGHBOR_X = {1, -1, 0, 0};
+    private static final int[] NEIGHBOR_Z = {0, 0, 1, -1};
+
+    private final Instance instance;
+    private final int targetX, targetY, targetZ;
+    private final int minX, minY, minZ;
+
+    // Never modified once published
+    private volatile State state;
+
+    // Block changes waiting to be applied
+    private final IntArrayList changes = new IntArrayList();
+    private volatile boolean dirty;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    FlowField(@NotNull Instance instance, @NotNull Point target) {
+        this.instance = instance;
+        this.targetX = target.blockX();
+        this.targetY = target.blockY();
+        this.targetZ = target.blockZ();
+        this.minX = targetX - HORIZONTAL_RADIUS;
+        this.minY = targetY - VERTICAL_RADIUS;
+        this.minZ = targetZ - HORIZONTAL_RADIUS;
+        compute();
+    }
+
+    /**
+     * Gets the position an entity at {@code position} should walk to.
+     *
+     * @param position the current entity position
+     * @return the center of the next cell, null if the target is reached or unreachable from {@code position}
+     */
+    public @Nullable Vec nextStep(@NotNull Point position) {
+        this.lastAccess = System.currentTimeMillis();
+        final State state = state();
+        final byte[] cells = state.cells;
+        final short[] distances = state.distances;
+        final int x = position.blockX(), z = position.blockZ();
+        int y = position.blockY();
+        int index = index(x, y, z);
+        if (index == -1) return null;
+        if ((cells[index] & WALKABLE) == 0) {
+            // Entity slightly below the floor level
+            y++;
+            index = index(x, y, z);
+            if (index == -1 || (cells[index] & WALKABLE) == 0) return null;
+        }
+        final int distance = distances[index];
+        if (distance == 0 || distance == UNREACHABLE) return null;
+        int bestIndex = -1, bestDistance = distance;
+        int bestX = 0, bestY = 0, bestZ = 0;
+        for (int i = 0; i < 4; i++) {
+            final int neighborX = x + NEIGHBOR_X[i], neighborZ = z + NEIGHBOR_Z[i];
+            for (int dy = -1; dy <= 1; dy++) {
+                final int neighborY = y + dy;
+                final int neighborIndex = index(neighborX, neighborY, neighborZ);
+                if (neighborIndex == -1 || distances[neighborIndex] >= bestDistance) continue;
+                if (!canMove(cells, index, dy, neighborIndex)) continue;
+                bestIndex = neighborIndex;
+                bestDistance = distances[neighborIndex];
+                bestX = neighborX;
+                bestY = neighborY;
+                bestZ = neighborZ;
+            }
+        }
+        if (bestIndex == -1) return null;
+        return new Vec(bestX + 0.5, bestY, bestZ + 0.5);
+    }
+
+    /**
+     * Gets the number of steps between a position and the target.
+     *
+     * @param position the position
+     * @return the distance in blocks, -1 if unreachable or outside the field
+     */
+    public int distance(@NotNull Point position) {
+        final State state = state();
+        final int index = index(position.blockX(), position.blockY(), position.blockZ());
+        if (index == -1) return -1;
+        final int distance = state.distances[index];
+        return distance != UNREACHABLE ? distance : -1;
+    }
+
+    public @NotNull Vec target() {
+        return new Vec(targetX, targetY, targetZ);
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return index(x, y, z) != -1;
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    void blockChanged(int x, int y, int z) {
+        // The block can be the floor, the body, the head or the headroom of a cell
+        if (!contains(x, y - 2, z) && !contains(x, y + 1, z)) return;
+        synchronized (this) {
+            changes.add(x - minX);
+            changes.add(y - minY);
+            changes.add(z - minZ);
+            this.dirty = true;
+        }
+    }
+
+    private State state() {
+        if (dirty) applyChanges();
+        return state;
+    }
+
+    private synchronized void applyChanges() {
+        if (!dirty) return;
+        final State previousState = this.state;
+        final byte[] cells = previousState.cells.clone();
+        final ChunkCache getter = new ChunkCache(instance, null, Block.BARRIER);
+        boolean lost = false;
+        IntArrayList seeds = new IntArrayList();
+        for (int i = 0; i < changes.size(); i += 3) {
+            final int x = changes.getInt(i) + minX, y = changes.getInt(i + 1) + minY, z = changes.getInt(i + 2) + minZ;
+            for (int cellY = y - 2; cellY <= y + 1; cellY++) {
+                final int index = index(x, cellY, z);
+                if (index == -1) continue;
+                final byte previous = cells[index];
+                final byte current = computeCell(getter, x, cellY, z);
+                if (previous == current) continue;
+                if ((previous & ~current) != 0) lost = true;
+                cells[index] = current;
+                seeds.add(index);
+            }
+        }
+        changes.clear();
+        if (!seeds.isEmpty()) {
+            final short[] distances;
+            if (lost) {
+                // Distances can only be recomputed from scratch when a path is blocked
+                distances = computeDistances(cells);
+            } else {
+                distances = previousState.distances.clone();
+                relax(cells, distances, seeds);
+            }
+            this.state = new State(cells, distances);
+        }
+        this.dirty = false;
+    }
+
+    private void compute() {
+        final ChunkCache getter = new ChunkCache(instance, null, Block.BARRIER);
+        final byte[] cells = new byte[CELL_COUNT];
+        for (int x = 0; x < SIZE_XZ; x++) {
+            for (int z = 0; z < SIZE_XZ; z++) {
+                for (int y = 0; y < SIZE_Y; y++) {
+                    cells[rawIndex(x, y, z)] = computeCell(getter, minX + x, minY + y, minZ + z);
+                }
+            }
+        }
+        this.state = new State(cells, computeDistances(cells));
+    }
+
+    private short[] computeDistances(byte[] cells) {
+        short[] distances = new short[CELL_COUNT];
+        Arrays.fill(distances, UNREACHABLE);
+        // Snap the target to the ground
+        int goal = -1;
+        for (int y = targetY; y >= minY; y--) {
+            final int index = index(targetX, y, targetZ);
+            if ((cells[index] & WALKABLE) != 0) {
+                goal = index;
+                break;
+            }
+        }
+        if (goal == -1) return distances;
+        distances[goal] = 0;
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        queue.enqueue(goal);
+        propagate(cells, distances, queue);
+        return distances;
+    }
+
+    /**
+     * Lowers the distances around cells which became walkable or gained headroom.
+     */
+    private void relax(byte[] cells, short[] distances, IntArrayList seeds) {
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        for (int i = 0; i < seeds.size(); i++) {
+            final int index = seeds.getInt(i);
+            if ((cells[index] & WALKABLE) == 0) continue;
+            // Pull the distance from the neighbors
+            final int x = index / (SIZE_Y * SIZE_XZ), y = (index / SIZE_XZ) % SIZE_Y, z = index % SIZE_XZ;
+            int best = distances[index];
+            for (int n = 0; n < 4; n++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    final int neighbor = index(minX + x + NEIGHBOR_X[n], minY + y + dy, minZ + z + NEIGHBOR_Z[n]);
+                    if (neighbor == -1 || distances[neighbor] == UNREACHABLE) continue;
+                    if (!canMove(cells, index, dy, neighbor)) continue;
+                    best = Math.min(best, distances[neighbor] + 1);
+                }
+            }
+            distances[index] = (short) best;
+            queue.enqueue(index);
+        }
+        propagate(cells, distances, queue);
+    }
+
+    private void propagate(byte[] cells, short[] distances, IntArrayFIFOQueue queue) {
+        while (!queue.isEmpty()) {
+            final int index = queue.dequeueInt();
+            final int distance = distances[index];
+            if (distance == UNREACHABLE) continue;
+            final int x = index / (SIZE_Y * SIZE_XZ), y = (index / SIZE_XZ) % SIZE_Y, z = index % SIZE_XZ;
+            for (int n = 0; n < 4; n++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    final int neighbor = index(minX + x + NEIGHBOR_X[n], minY + y + dy, minZ + z + NEIGHBOR_Z[n]);
+                    if (neighbor == -1 || distances[neighbor] <= distance + 1) continue;
+                    // Movement goes from the neighbor to the current cell
+                    if (!canMove(cells, neighbor, -dy, index)) continue;
+                    distances[neighbor] = (short) (distance + 1);
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if an entity can move from a cell to an adjacent one.
+     *
+     * @param cells the cells of the field
+     * @param from  the start cell
+     * @param dy    the vertical difference between the two cells
+     * @param to    the destination cell
+     */
+    private static boolean canMove(byte[] cells, int from, int dy, int to) {
+        final byte toCell = cells[to];
+        if ((toCell & WALKABLE) == 0) return false;
+        if (dy > 0) return (cells[from] & HEADROOM) != 0; // Jump
+        if (dy < 0) return (toCell & HEADROOM) != 0; // Drop
+        return true;
+    }
+
+    private static byte computeCell(Block.Getter getter, int x, int y, int z) {
+        final PFBlock floor = PFBlock.get(getter.getBlock(x, y - 1, z, Block.Getter.Condition.TYPE));
+        final PFBlock body = PFBlock.get(getter.getBlock(x, y, z, Block.Getter.Condition.TYPE));
+        final PFBlock head = PFBlock.get(getter.getBlock(x, y + 1, z, Block.Getter.Condition.TYPE));
+        final PFBlock headroom = PFBlock.get(getter.getBlock(x, y + 2, z, Block.Getter.Condition.TYPE));
+        byte cell = 0;
+        if (floor.isImpeding() && !floor.isFenceLike() && !body.isImpeding() && !head.isImpeding()
+                && !body.isLiquid() && !body.isIncinerating()) {
+            cell |= WALKABLE;
+        }
+        if (!headroom.isImpeding()) cell |= HEADROOM;
+        return cell;
+    }
+
+    private int index(int x, int y, int z) {
+        x -= minX;
+        y -= minY;
+        z -= minZ;
+        if (x < 0 || x >= SIZE_XZ || y < 0 || y >= SIZE_Y || z < 0 || z >= SIZE_XZ) return -1;
+        return rawIndex(x, y, z);
+    }
+
+    private static int rawIndex(int x, int y, int z) {
+        return (x * SIZE_Y + y) * SIZE_XZ + z;
+    }
+
+    private record State(byte[] cells, short[] distances) {
+    }
+}
@@ -3,6 +3,8 @@ package net.minestom.server.entity.pathfinding;
 import com.extollit.gaming.ai.path.HydrazinePathFinder;
 import com.extollit.gaming.ai.path.PathOptions;
 import com.extollit.gaming.ai.path.model.IPath;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.attribute.Attribute;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.PhysicsResult;
 import net.minestom.server.coordinate.Point;
@@ -19,7 +21,9 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-// TODO all pathfinding requests could be processed in another thread
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Necessary object for all {@link NavigableEntity}.
@@ -29,6 +33,13 @@ public final class Navigator {
     private HydrazinePathFinder pathFinder;
     private Point pathPosition;
 
+    // Asynchronous path requests
+    private PathRequest pendingRequest, computingRequest;
+    // Shared flow field strategy
+    private Point flowFieldTarget;
+    private FlowField flowField;
+    private final Queue<PathRequest> completedRequests = new ConcurrentLinkedQueue<>();
+
     private final Entity entity;
 
     public Navigator(@NotNull Entity entity) {
@@ -89,6 +100,9 @@ public final class Navigator {
             // Tried to set path to the same target position
             return false;
         }
+        cancelRequests();
+        this.flowFieldTarget = null;
+        this.flowField = null;
         final Instance instance = entity.getInstance();
         if (pathFinder == null) {
             // Unexpected error
@@ -98,31 +112,10 @@ public final class Navigator {
         if (point == null) {
             return false;
         }
-        // Can't path with a null instance.
-        if (instance == null) {
+        if (!canPathTo(instance, point)) {
             return false;
         }
-        // Can't path outside the world border
-        final WorldBorder worldBorder = instance.getWorldBorder();
-        if (!worldBorder.isInside(point)) {
-            return false;
-        }
-        // Can't path in an unloaded chunk
-        final Chunk chunk = instance.getChunkAt(point);
-        if (!ChunkUtils.isLoaded(chunk)) {
-            return false;
-        }
-
-        final PathOptions pathOptions = new PathOptions()
-                .targetingStrategy(bestEffort ? PathOptions.TargetingStrategy.gravitySnap :
-                        PathOptions.TargetingStrategy.none);
-        final IPath path = pathFinder.initiatePathTo(
-                point.x(),
-                point.y(),
-                point.z(),
-                pathOptions);
-
-        final boolean success = path != null;
+        final boolean success = initiatePath(pathFinder, point, bestEffort);
         this.pathPosition = success ? point : null;
         return success;
     }
@@ -134,8 +127,67 @@ public final class Navigator {
         return setPathTo(position, true);
     }
 
+    /**
+     * Requests the path to {@code point} to be computed by the {@link PathfindingPool}.
+     * <p>
+     * The request is submitted during the entity tick (depending on the pool tick budget)
+     * and the path is applied the tick after its computation, the entity keeps following
+     * its previous path in the meantime. Only one path is computed at a time, a newer request
+     * replaces the one waiting to be submitted.
+     * <p>
+     * Calling {@link #setPathTo(Point, boolean)} cancels all requests.
+     *
+     * @param point      the position to find the path to, null to reset the pathfinder
+     * @param bestEffort whether to use the best-effort algorithm to the destination
+     * @return a future completed with true if a path has been found, false if not or if the request was cancelled
+     */
+    public synchronized @NotNull CompletableFuture<Boolean> requestPathTo(@Nullable Point point, boolean bestEffort) {
+        if (point == null) {
+            cancelRequests();
+            this.flowFieldTarget = null;
+            this.flowField = null;
+            if (pathFinder != null) reset();
+            return CompletableFuture.completedFuture(false);
+        }
+        if (pathPosition != null && point.samePoint(pathPosition)) {
+            // Tried to set path to the same target position
+            return CompletableFuture.completedFuture(false);
+        }
+        final PathRequest computing = this.computingRequest;
+        if (computing != null && computing.isSame(point, bestEffort)) return computing.future;
+        final PathRequest pending = this.pendingRequest;
+        if (pending != null) {
+            if (pending.isSame(point, bestEffort)) return pending.future;
+            pending.future.complete(false);
+        }
+        final PathRequest request = new PathRequest(point, bestEffort);
+        this.pendingRequest = request;
+        return request.future;
+    }
+
+    /**
+     * @see #requestPathTo(Point, boolean) with {@code bestEffort} sets to {@code true}.
+     */
+    public @NotNull CompletableFuture<Boolean> requestPathTo(@Nullable Point position) {
+        return requestPathTo(position, true);
+    }
+
     @ApiStatus.Internal
-    public synchronized void tick() {
+    public synchronized void tick(long time) {
+        // Apply the computed paths
+        PathRequest completed;
+        while ((completed = completedRequests.poll()) != null) {
+            applyRequest(completed);
+        }
+        // Submit the waiting request
+        final PathRequest pending = this.pendingRequest;
+        if (pending != null && computingRequest == null) {
+            submitRequest(pending, time);
+        }
+        if (flowFieldTarget != null) {
+            tickFlowField();
+            return;
+        }
         if (pathPosition == null) return; // No path
         if (entity instanceof LivingEntity && ((LivingEntity) entity).isDead())
             return; // No pathfinding tick for dead entities
@@ -144,6 +196,55 @@ public final class Navigator {
         }
     }
 
+    /**
+     * Makes the entity follow the shared {@link FlowField} leading to {@code target} instead of computing its own path.
+     * <p>
+     * Useful when many entities go toward the same position, the field is computed once
+     * and each entity only has to look at its surrounding blocks to move.
+     * Any path set with {@link #setPathTo(Point, boolean)} or {@link #requestPathTo(Point, boolean)} is discarded.
+     *
+     * @param target the position to go to, null to stop following the flow field
+     * @return true if {@code target} can be reached from the entity position
+     */
+    public synchronized boolean setFlowFieldTo(@Nullable Point target) {
+        this.flowFieldTarget = null;
+        this.flowField = null;
+        if (target == null) return false;
+        final Instance instance = entity.getInstance();
+        if (!canPathTo(instance, target)) return false;
+        cancelRequests();
+        if (pathFinder != null) reset();
+        final FlowField field = instance.getInstanceSpace().flowField(target);
+        this.flowFieldTarget = target;
+        this.flowField = field;
+        return field.distance(entity.getPosition()) != -1;
+    }
+
+    /**
+     * Gets the target of the followed flow field.
+     *
+     * @return the flow field target, null if the entity does not follow a flow field
+     */
+    public @Nullable Point getFlowFieldTarget() {
+        return flowFieldTarget;
+    }
+
+    private void tickFlowField() {
+        if (entity instanceof LivingEntity livingEntity && livingEntity.isDead())
+            return; // No pathfinding tick for dead entities
+        final Pos position = entity.getPosition();
+        final double speed = entity instanceof LivingEntity livingEntity ?
+                livingEntity.getAttributeValue(Attribute.MOVEMENT_SPEED) : 0;
+        final Vec next = flowField.nextStep(position);
+        if (next == null) {
+            // Region reached (or no route), walk straight to the exact target
+            if (!position.sameBlock(flowFieldTarget)) moveTowards(flowFieldTarget, speed);
+            return;
+        }
+        moveTowards(next, speed);
+        if (position.y() + 0.00001D < next.y()) jump(1);
+    }
+
     /**
      * Gets the target pathfinder position.
      *
@@ -171,4 +272,118 @@ public final class Navigator {
         this.pathPosition = null;
         this.pathFinder.reset();
     }
+
+    private void submitRequest(PathRequest request, long time) {
+        final Instance instance = entity.getInstance();
+        if (pathFinder == null || !canPathTo(instance, request.point)) {
+            this.pendingRequest = null;
+            request.future.complete(false);
+            return;
+        }
+        if (!PathfindingPool.acquireBudget(time)) return;
+        // Paths are computed on their own pathfinder, replacing the current one once applied
+        // so that the current path can still be followed during the computation.
+        // The pathfinding thread only reads a copy of the entity and its surrounding blocks
+        final PFPathingEntity.Snapshot subject = pathingEntity.snapshot();
+        final PFSnapshotSpace space = PFSnapshotSpace.take(instance, entity.getPosition(), subject.searchRange());
+        final HydrazinePathFinder requestPathFinder = new HydrazinePathFinder(subject, space);
+        request.subject = subject;
+        request.space = space;
+        final boolean submitted = PathfindingPool.submit(() -> {
+            boolean success = false;
+            try {
+                success = initiatePath(requestPathFinder, request.point, request.bestEffort);
+            } catch (Throwable t) {
+                MinecraftServer.getExceptionManager().handleException(t);
+            }
+            request.instance = instance;
+            request.pathFinder = success ? requestPathFinder : null;
+            this.completedRequests.offer(request);
+        });
+        if (submitted) {
+            this.pendingRequest = null;
+            this.computingRequest = request;
+        }
+    }
+
+    private void applyRequest(PathRequest request) {
+        if (request != computingRequest) {
+            // Cancelled
+            request.future.complete(false);
+            return;
+        }
+        this.computingRequest = null;
+        final HydrazinePathFinder requestPathFinder = request.pathFinder;
+        if (requestPathFinder == null || request.instance != entity.getInstance()) {
+            request.future.complete(false);
+            return;
+        }
+        request.subject.release();
+        request.space.release();
+        if (pathFinder != null) pathFinder.reset();
+        this.flowFieldTarget = null;
+        this.flowField = null;
+        this.pathFinder = requestPathFinder;
+        this.pathPosition = request.point;
+        request.future.complete(true);
+    }
+
+    private void cancelRequests() {
+        final PathRequest pending = this.pendingRequest;
+        if (pending != null) {
+            this.pendingRequest = null;
+            pending.future.complete(false);
+        }
+        // The computing request future is completed once its result is received
+        this.computingRequest = null;
+    }
+
+    private static boolean canPathTo(@Nullable Instance instance, @NotNull Point point) {
+        // Can't path with a null instance.
+        if (instance == null) {
+            return false;
+        }
+        // Can't path outside the world border
+        final WorldBorder worldBorder = instance.getWorldBorder();
+        if (!worldBorder.isInside(point)) {
+            return false;
+        }
+        // Can't path in an unloaded chunk
+        final Chunk chunk = instance.getChunkAt(point);
+        return ChunkUtils.isLoaded(chunk);
+    }
+
+    private static boolean initiatePath(@NotNull HydrazinePathFinder pathFinder, @NotNull Point point, boolean bestEffort) {
+        final PathOptions pathOptions = new PathOptions()
+                .targetingStrategy(bestEffort ? PathOptions.TargetingStrategy.gravitySnap :
+                        PathOptions.TargetingStrategy.none);
+        final IPath path = pathFinder.initiatePathTo(
+                point.x(),
+                point.y(),
+                point.z(),
+                pathOptions);
+        return path != null;
+    }
+
+    private static final class PathRequest {
+        private final Point point;
+        private final boolean bestEffort;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private PFPathingEntity.Snapshot subject;
+        private PFSnapshotSpace space;
+
+        // Written by the pathfinding thread
+        private Instance instance;
+        private HydrazinePathFinder pathFinder;
+
+        private PathRequest(Point point, boolean bestEffort) {
+            this.point = point;
+            this.bestEffort = bestEffort;
+        }
+
+        private boolean isSame(Point point, boolean bestEffort) {
+            return this.point.samePoint(point) && this.bestEffort == bestEffort;
+        }
+    }
 }
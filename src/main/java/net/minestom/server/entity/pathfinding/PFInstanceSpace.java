@@ -3,16 +3,26 @@ package net.minestom.server.entity.pathfinding;
 import com.extollit.gaming.ai.path.model.IBlockObject;
 import com.extollit.gaming.ai.path.model.IColumnarSpace;
 import com.extollit.gaming.ai.path.model.IInstanceSpace;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class PFInstanceSpace implements IInstanceSpace {
+    // Targets within the same region share their flow field
+    private static final int FLOW_FIELD_REGION_SHIFT = 2;
+    private static final long FLOW_FIELD_EXPIRATION = 30_000;
+
     private final Instance instance;
     private final Map<Chunk, PFColumnarSpace> chunkSpaceMap = new ConcurrentHashMap<>();
+    // Fields are computed outside of the map, by the first thread requesting them
+    private final Map<Long, CompletableFuture<FlowField>> flowFields = new ConcurrentHashMap<>();
 
     public PFInstanceSpace(Instance instance) {
         this.instance = instance;
@@ -38,4 +48,62 @@ public final class PFInstanceSpace implements IInstanceSpace {
     public Instance getInstance() {
         return instance;
     }
+
+    /**
+     * Gets the flow field leading to {@code target}, computing it if no entity
+     * is already going toward the same region.
+     * <p>
+     * Fields which have not been used for some time are discarded.
+     *
+     * @param target the position to go to
+     * @return the flow field leading to the region of {@code target}
+     */
+    @ApiStatus.Experimental
+    public @NotNull FlowField flowField(@NotNull Point target) {
+        final long key = flowFieldKey(target.blockX() >> FLOW_FIELD_REGION_SHIFT,
+                target.blockY() >> FLOW_FIELD_REGION_SHIFT,
+                target.blockZ() >> FLOW_FIELD_REGION_SHIFT);
+        CompletableFuture<FlowField> future = flowFields.get(key);
+        if (future != null) return future.join();
+        // Discard unused fields
+        final long time = System.currentTimeMillis();
+        flowFields.values().removeIf(fieldFuture -> {
+            final FlowField flowField = fieldFuture.getNow(null);
+            return flowField != null && time - flowField.lastAccess() > FLOW_FIELD_EXPIRATION;
+        });
+        CompletableFuture<FlowField> created = new CompletableFuture<>();
+        future = flowFields.putIfAbsent(key, created);
+        if (future != null) return future.join();
+        final FlowField field;
+        try {
+            field = new FlowField(instance, target);
+        } catch (Throwable t) {
+            flowFields.remove(key, created);
+            created.completeExceptionally(t);
+            throw t;
+        }
+        created.complete(field);
+        return field;
+    }
+
+    /**
+     * Notifies the flow fields of a block change.
+     */
+    @ApiStatus.Internal
+    public void blockChanged(int x, int y, int z) {
+        if (flowFields.isEmpty()) return;
+        for (CompletableFuture<FlowField> future : flowFields.values()) {
+            final FlowField field = future.getNow(null);
+            if (field != null) {
+                field.blockChanged(x, y, z);
+            } else {
+                // Applied once computed, the change may have been missed
+                future.thenAccept(computed -> computed.blockChanged(x, y, z));
+            }
+        }
+    }
+
+    private static long flowFieldKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
 }
@@ -217,10 +217,96 @@ public final class PFPathingEntity implements IPathingEntity {
         return (float) entity.getBoundingBox().height();
     }
 
+    /**
+     * Copies the entity state read by the pathfinder, must be called by the entity tick thread.
+     *
+     * @return a pathing entity reading the copied state until {@link Snapshot#release()}
+     */
+    @NotNull Snapshot snapshot() {
+        return new Snapshot();
+    }
+
     private float getAttributeValue(@NotNull Attribute attribute) {
         if (entity instanceof LivingEntity) {
             return ((LivingEntity) entity).getAttributeValue(attribute);
         }
         return 0f;
     }
+
+    /**
+     * Frozen copy of the entity, read by the pathfinding threads.
+     * <p>
+     * Movements are ignored until the computed path is applied, after which the snapshot delegates to the entity.
+     */
+    final class Snapshot implements IPathingEntity {
+        private final int age = PFPathingEntity.this.age();
+        private final boolean bound = PFPathingEntity.this.bound();
+        private final float searchRange = PFPathingEntity.this.searchRange;
+        private final Capabilities capabilities = new FrozenCapabilities(PFPathingEntity.this.capabilities());
+        private final Vec3d coordinates = PFPathingEntity.this.coordinates();
+        private final float width = PFPathingEntity.this.width();
+        private final float height = PFPathingEntity.this.height();
+        // Only written by the tick thread once the pathfinding thread is done
+        private boolean released;
+
+        private Snapshot() {
+        }
+
+        /**
+         * Makes the snapshot read and move the entity from now on.
+         */
+        void release() {
+            this.released = true;
+        }
+
+        @Override
+        public int age() {
+            return released ? PFPathingEntity.this.age() : age;
+        }
+
+        @Override
+        public boolean bound() {
+            return released ? PFPathingEntity.this.bound() : bound;
+        }
+
+        @Override
+        public float searchRange() {
+            return released ? PFPathingEntity.this.searchRange() : searchRange;
+        }
+
+        @Override
+        public Capabilities capabilities() {
+            return released ? PFPathingEntity.this.capabilities() : capabilities;
+        }
+
+        @Override
+        public void moveTo(Vec3d position, Passibility passibility, Gravitation gravitation) {
+            if (released) PFPathingEntity.this.moveTo(position, passibility, gravitation);
+        }
+
+        @Override
+        public Vec3d coordinates() {
+            return released ? PFPathingEntity.this.coordinates() : coordinates;
+        }
+
+        @Override
+        public float width() {
+            return released ? PFPathingEntity.this.width() : width;
+        }
+
+        @Override
+        public float height() {
+            return released ? PFPathingEntity.this.height() : height;
+        }
+    }
+
+    private record FrozenCapabilities(float speed, boolean fireResistant, boolean cautious, boolean climber,
+                                      boolean swimmer, boolean aquatic, boolean avian, boolean aquaphobic,
+                                      boolean avoidsDoorways, boolean opensDoors) implements Capabilities {
+        private FrozenCapabilities(Capabilities capabilities) {
+            this(capabilities.speed(), capabilities.fireResistant(), capabilities.cautious(), capabilities.climber(),
+                    capabilities.swimmer(), capabilities.aquatic(), capabilities.avian(), capabilities.aquaphobic(),
+                    capabilities.avoidsDoorways(), capabilities.opensDoors());
+        }
+    }
 }
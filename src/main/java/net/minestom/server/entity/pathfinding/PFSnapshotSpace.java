@@ -0,0 +1,145 @@
+package net.minestom.server.entity.pathfinding;
+
+import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
+import com.extollit.gaming.ai.path.model.IBlockDescription;
+import com.extollit.gaming.ai.path.model.IBlockObject;
+import com.extollit.gaming.ai.path.model.IColumnarSpace;
+import com.extollit.gaming.ai.path.model.IInstanceSpace;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Frozen copy of the blocks surrounding a path request, read by the pathfinding threads.
+ * <p>
+ * Block palettes are copied on write, taking the snapshot only shares them with the chunks.
+ * Once the computed path is applied on the tick thread, {@link #release()} switches the space
+ * to the live instance so that the path keeps following block changes.
+ */
+@ApiStatus.Internal
+final class PFSnapshotSpace implements IInstanceSpace {
+    private static final PFBlock AIR = PFBlock.get(Block.AIR);
+
+    private final PFInstanceSpace instanceSpace;
+    private final Long2ObjectMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private final int minSection, maxSection;
+    // Only written by the tick thread once the pathfinding thread is done
+    private boolean released;
+
+    private PFSnapshotSpace(PFInstanceSpace instanceSpace, int minSection, int maxSection) {
+        this.instanceSpace = instanceSpace;
+        this.minSection = minSection;
+        this.maxSection = maxSection;
+    }
+
+    /**
+     * Copies the loaded chunks within {@code range} blocks of {@code center}, must be called by the instance tick thread.
+     *
+     * @param instance the instance to copy
+     * @param center   the position of the pathing entity
+     * @param range    the pathfinding search range
+     * @return the snapshot
+     */
+    static @NotNull PFSnapshotSpace take(@NotNull Instance instance, @NotNull Point center, float range) {
+        final int blockRange = (int) Math.ceil(range);
+        final DimensionType dimensionType = instance.getDimensionType();
+        final int minSection = Math.max(dimensionType.getMinY() / Chunk.CHUNK_SECTION_SIZE, (center.blockY() - blockRange) >> 4);
+        final int maxSection = Math.min(dimensionType.getMaxY() / Chunk.CHUNK_SECTION_SIZE - 1, (center.blockY() + blockRange) >> 4);
+        PFSnapshotSpace space = new PFSnapshotSpace(instance.getInstanceSpace(), minSection, maxSection);
+        final int chunkRange = (blockRange >> 4) + 1;
+        final int centerX = center.blockX() >> 4, centerZ = center.blockZ() >> 4;
+        for (int cx = centerX - chunkRange; cx <= centerX + chunkRange; cx++) {
+            for (int cz = centerZ - chunkRange; cz <= centerZ + chunkRange; cz++) {
+                final Chunk chunk = instance.getChunk(cx, cz);
+                if (!ChunkUtils.isLoaded(chunk)) continue;
+                Palette[] palettes = new Palette[maxSection - minSection + 1];
+                synchronized (chunk) {
+                    for (int section = minSection; section <= maxSection; section++) {
+                        palettes[section - minSection] = chunk.getSection(section).blockPalette().clone();
+                    }
+                }
+                space.columns.put(ChunkUtils.getChunkIndex(cx, cz), space.new Column(cx, cz, palettes));
+            }
+        }
+        return space;
+    }
+
+    /**
+     * Makes the space read the live instance from now on.
+     */
+    void release() {
+        this.released = true;
+        // Unreachable copies stop sharing the palettes of the chunks
+        this.columns.clear();
+    }
+
+    @Override
+    public IBlockObject blockObjectAt(int x, int y, int z) {
+        if (released) return instanceSpace.blockObjectAt(x, y, z);
+        final Column column = columns.get(ChunkUtils.getChunkIndex(x >> 4, z >> 4));
+        return column != null ? column.block(x, y, z) : AIR;
+    }
+
+    @Override
+    public IColumnarSpace columnarSpaceAt(int cx, int cz) {
+        if (released) return instanceSpace.columnarSpaceAt(cx, cz);
+        return columns.get(ChunkUtils.getChunkIndex(cx, cz));
+    }
+
+    private final class Column implements IColumnarSpace {
+        // Not shared with the chunk, only updated by this snapshot
+        private final ColumnarOcclusionFieldList occlusionFieldList = new ColumnarOcclusionFieldList(this);
+        private final int chunkX, chunkZ;
+        private final Palette[] palettes;
+
+        private Column(int chunkX, int chunkZ, Palette[] palettes) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.palettes = palettes;
+        }
+
+        private PFBlock block(int x, int y, int z) {
+            final int section = y >> 4;
+            // Blocks out of the search range are considered empty
+            if (section < minSection || section > maxSection) return AIR;
+            final int stateId = palettes[section - minSection].get(x & 0xF, y & 0xF, z & 0xF);
+            return PFBlock.get(Block.fromStateId((short) stateId));
+        }
+
+        @Override
+        public IBlockDescription blockAt(int x, int y, int z) {
+            if (released) {
+                final IColumnarSpace live = instanceSpace.columnarSpaceAt(chunkX, chunkZ);
+                return live != null ? live.blockAt(x, y, z) : AIR;
+            }
+            return block(x, y, z);
+        }
+
+        @Override
+        public int metaDataAt(int x, int y, int z) {
+            return 0;
+        }
+
+        @Override
+        public ColumnarOcclusionFieldList occlusionFields() {
+            if (released) {
+                final IColumnarSpace live = instanceSpace.columnarSpaceAt(chunkX, chunkZ);
+                if (live != null) return live.occlusionFields();
+            }
+            return occlusionFieldList;
+        }
+
+        @Override
+        public IInstanceSpace instance() {
+            return PFSnapshotSpace.this;
+        }
+    }
+}
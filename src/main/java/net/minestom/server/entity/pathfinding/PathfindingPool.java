@@ -0,0 +1,143 @@
+package net.minestom.server.entity.pathfinding;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded thread pool computing the paths requested with {@link Navigator#requestPathTo(net.minestom.server.coordinate.Point, boolean)}.
+ * <p>
+ * The number of requests submitted per tick is limited by {@link #TICK_BUDGET},
+ * requests over the budget or rejected because of a full queue are retried the next tick.
+ */
+@ApiStatus.Experimental
+public final class PathfindingPool {
+    public static final int THREAD_COUNT = Integer.getInteger("minestom.pathfinding.threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+    public static final int QUEUE_SIZE = Integer.getInteger("minestom.pathfinding.queue-size", 1024);
+    public static final int TICK_BUDGET = Integer.getInteger("minestom.pathfinding.tick-budget", 64);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+        Thread thread = new Thread(runnable, "Ms-Pathfinding-" + THREAD_COUNTER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Budget of the current tick, identified by its start time
+    private static final AtomicLong BUDGET_TICK = new AtomicLong();
+    private static final AtomicInteger BUDGET_USED = new AtomicInteger();
+
+    // Metrics
+    private static final LongAdder SUBMITTED = new LongAdder();
+    private static final LongAdder COMPLETED = new LongAdder();
+    private static final LongAdder DEFERRED = new LongAdder();
+    private static final LongAdder COMPUTE_TIME = new LongAdder();
+    private static final AtomicLong MAX_COMPUTE_TIME = new AtomicLong();
+
+    private PathfindingPool() {
+    }
+
+    /**
+     * Reserves a submission in the budget of the current tick.
+     *
+     * @param tickTime the start time of the current tick
+     * @return true if a task can be submitted, false if it should be retried the next tick
+     */
+    static boolean acquireBudget(long tickTime) {
+        final long budgetTick = BUDGET_TICK.get();
+        if (budgetTick != tickTime && BUDGET_TICK.compareAndSet(budgetTick, tickTime)) {
+            BUDGET_USED.set(0);
+        }
+        if (BUDGET_USED.incrementAndGet() <= TICK_BUDGET) return true;
+        DEFERRED.increment();
+        return false;
+    }
+
+    /**
+     * Tries to submit a path computation, after {@link #acquireBudget(long)}.
+     *
+     * @param task the path computation
+     * @return true if the task has been submitted, false if the queue is full and it should be retried the next tick
+     */
+    static boolean submit(@NotNull Runnable task) {
+        try {
+            EXECUTOR.execute(() -> {
+                final long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    final long time = System.nanoTime() - start;
+                    COMPUTE_TIME.add(time);
+                    MAX_COMPUTE_TIME.accumulateAndGet(time, Math::max);
+                    COMPLETED.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            DEFERRED.increment();
+            return false;
+        }
+        SUBMITTED.increment();
+        return true;
+    }
+
+    /**
+     * Gets the number of path requests waiting for a pathfinding thread.
+     *
+     * @return the queue depth
+     */
+    public static int getQueueDepth() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * Gets the number of paths currently being computed.
+     *
+     * @return the number of active computations
+     */
+    public static int getActiveCount() {
+        return EXECUTOR.getActiveCount();
+    }
+
+    public static long getSubmittedCount() {
+        return SUBMITTED.sum();
+    }
+
+    public static long getCompletedCount() {
+        return COMPLETED.sum();
+    }
+
+    /**
+     * Gets the number of times a request has been postponed to the next tick,
+     * either because of the tick budget or because the queue was full.
+     *
+     * @return the number of deferred requests
+     */
+    public static long getDeferredCount() {
+        return DEFERRED.sum();
+    }
+
+    /**
+     * Gets the average time spent computing a path.
+     *
+     * @return the average compute time in nanoseconds
+     */
+    public static long getAverageComputeTime() {
+        final long completed = COMPLETED.sum();
+        return completed != 0 ? COMPUTE_TIME.sum() / completed : 0;
+    }
+
+    /**
+     * Gets the longest time spent computing a path.
+     *
+     * @return the maximum compute time in nanoseconds
+     */
+    public static long getMaxComputeTime() {
+        return MAX_COMPUTE_TIME.get();
+    }
+}
@@ -2,12 +2,14 @@ package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.IntIntImmutablePair;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.*;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,33 +24,57 @@ import org.jglrxavpok.hephaistos.nbt.mutable.MutableNBTCompound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Loads and saves chunks using the Anvil format.
+ * <p>
+ * Region files are memory-mapped for reading, chunks are read and decoded on a dedicated I/O pool
+ * ({@code minestom.anvil.io-threads} threads) with one lock per region file.
+ * A region file stays open while one of its chunks is loaded.
+ * <p>
+ * A mapping is dropped when its region is written or closed but only unmapped once garbage collected,
+ * Windows refuses to resize a file that is still mapped. Regions are therefore read with positional reads
+ * on Windows or when {@code minestom.anvil.mmap.disabled} is set.
+ */
 public class AnvilLoader implements IChunkLoader {
     private final static Logger LOGGER = LoggerFactory.getLogger(AnvilLoader.class);
     private static final Biome BIOME = Biome.PLAINS;
 
-    private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
+    private static final int IO_THREADS = Integer.getInteger("minestom.anvil.io-threads", Runtime.getRuntime().availableProcessors());
+    private static final AtomicInteger IO_THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService IO_POOL = Executors.newFixedThreadPool(IO_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "Ms-AnvilIO-" + IO_THREAD_COUNTER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = 2 * SECTOR_SIZE;
+    private static final boolean MAP_REGIONS = !Boolean.getBoolean("minestom.anvil.mmap.disabled") &&
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    // Region index -> region, see ChunkUtils#getChunkIndex
+    private final Map<Long, Region> regions = new ConcurrentHashMap<>();
     private final Path path;
     private final Path levelPath;
     private final Path regionPath;
 
-    private static class RegionCache extends ConcurrentHashMap<IntIntImmutablePair, Set<IntIntImmutablePair>> {
-    }
-
-    /**
-     * Represents the chunks currently loaded per region. Used to determine when a region file can be unloaded.
-     */
-    private final RegionCache perRegionLoadedChunks = new RegionCache();
-
     // thread local to avoid contention issues with locks
     private final ThreadLocal<Int2ObjectMap<BlockState>> blockStateId2ObjectCacheTLS = ThreadLocal.withInitial(Int2ObjectArrayMap::new);
 
@@ -83,22 +109,115 @@ public class AnvilLoader implements IChunkLoader {
             // No world folder
             return CompletableFuture.completedFuture(null);
         }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadMCA(instance, chunkX, chunkZ);
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                return null;
+            }
+        }, IO_POOL);
+    }
+
+    /**
+     * Loads the chunks grouped by region, each region is read once in file order
+     * and the chunks are then decoded in parallel.
+     */
+    @Override
+    public @NotNull Long2ObjectMap<CompletableFuture<@Nullable Chunk>> loadChunks(@NotNull Instance instance, @NotNull LongCollection chunks) {
+        Long2ObjectMap<CompletableFuture<Chunk>> futures = new Long2ObjectOpenHashMap<>(chunks.size());
+        if (!Files.exists(path)) {
+            // No world folder
+            for (long index : chunks) futures.put(index, CompletableFuture.completedFuture(null));
+            return futures;
+        }
+        // Region index -> chunk indexes
+        Long2ObjectMap<LongList> regionChunks = new Long2ObjectOpenHashMap<>();
+        for (long index : chunks) {
+            if (futures.containsKey(index)) continue;
+            futures.put(index, new CompletableFuture<>());
+            final int regionX = CoordinatesKt.chunkToRegion(ChunkUtils.getChunkCoordX(index));
+            final int regionZ = CoordinatesKt.chunkToRegion(ChunkUtils.getChunkCoordZ(index));
+            regionChunks.computeIfAbsent(ChunkUtils.getChunkIndex(regionX, regionZ), i -> new LongArrayList()).add(index);
+        }
+        for (Long2ObjectMap.Entry<LongList> entry : regionChunks.long2ObjectEntrySet()) {
+            final long regionIndex = entry.getLongKey();
+            final long[] regionChunkIndexes = entry.getValue().toLongArray();
+            IO_POOL.execute(() -> loadRegion(instance, ChunkUtils.getChunkCoordX(regionIndex), ChunkUtils.getChunkCoordZ(regionIndex),
+                    regionChunkIndexes, futures));
+        }
+        return futures;
+    }
+
+    private void loadRegion(Instance instance, int regionX, int regionZ, long[] chunks,
+                            Long2ObjectMap<CompletableFuture<Chunk>> futures) {
+        final byte[][] rawChunks = new byte[chunks.length][];
         try {
-            return loadMCA(instance, chunkX, chunkZ);
+            readRegion(regionX, regionZ, chunks, rawChunks);
         } catch (Exception e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
-        return CompletableFuture.completedFuture(null);
+        for (int i = 0; i < chunks.length; i++) {
+            final long index = chunks[i];
+            final byte[] rawChunk = rawChunks[i];
+            final CompletableFuture<Chunk> future = futures.get(index);
+            if (rawChunk == null) {
+                future.complete(null);
+                continue;
+            }
+            IO_POOL.execute(() -> {
+                final int chunkX = ChunkUtils.getChunkCoordX(index);
+                final int chunkZ = ChunkUtils.getChunkCoordZ(index);
+                Chunk chunk = null;
+                try {
+                    chunk = loadMCA(instance, chunkX, chunkZ, Region.decode(rawChunk, chunkX, chunkZ));
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                } finally {
+                    future.complete(chunk);
+                }
+            });
+        }
     }
 
-    private @NotNull CompletableFuture<@Nullable Chunk> loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException, AnvilException {
-        final RegionFile mcaFile = getMCAFile(instance, chunkX, chunkZ);
-        if (mcaFile == null)
-            return CompletableFuture.completedFuture(null);
-        final NBTCompound chunkData = mcaFile.getChunkData(chunkX, chunkZ);
+    private void readRegion(int regionX, int regionZ, long[] chunks, byte[][] rawChunks) throws IOException {
+        Region region;
+        while (true) {
+            region = region(regionX, regionZ, false);
+            if (region == null) return; // No region file
+            final Lock lock = region.lock.readLock();
+            lock.lock();
+            try {
+                if (region.closed) continue; // Unloaded in the meantime, retry with a new region
+                // Read the mapping sequentially
+                final int[] sectors = new int[chunks.length];
+                final int[] order = new int[chunks.length];
+                for (int i = 0; i < chunks.length; i++) {
+                    sectors[i] = region.sector(ChunkUtils.getChunkCoordX(chunks[i]), ChunkUtils.getChunkCoordZ(chunks[i]));
+                    order[i] = i;
+                }
+                IntArrays.quickSort(order, (a, b) -> Integer.compare(sectors[a], sectors[b]));
+                for (int i : order) {
+                    if (sectors[i] == 0) continue; // Chunk not present
+                    rawChunks[i] = region.readRaw(ChunkUtils.getChunkCoordX(chunks[i]), ChunkUtils.getChunkCoordZ(chunks[i]));
+                    if (rawChunks[i] != null) region.loadedChunks.add(chunks[i]);
+                }
+                break;
+            } finally {
+                lock.unlock();
+            }
+        }
+        closeIfUnused(region);
+    }
+
+    private @Nullable Chunk loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException, AnvilException, NBTException {
+        final NBTCompound chunkData = readChunkData(chunkX, chunkZ);
         if (chunkData == null)
-            return CompletableFuture.completedFuture(null);
+            return null;
+        return loadMCA(instance, chunkX, chunkZ, chunkData);
+    }
 
+    private @NotNull Chunk loadMCA(Instance instance, int chunkX, int chunkZ, NBTCompound chunkData) throws AnvilException {
         final ChunkReader chunkReader = new ChunkReader(chunkData);
 
         Chunk chunk = new DynamicChunk(instance, chunkX, chunkZ);
@@ -128,34 +247,95 @@ public class AnvilLoader implements IChunkLoader {
             // Block entities
             loadBlockEntities(chunk, chunkReader);
         }
-        synchronized (perRegionLoadedChunks) {
-            int regionX = CoordinatesKt.chunkToRegion(chunkX);
-            int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
-            var chunks = perRegionLoadedChunks.computeIfAbsent(new IntIntImmutablePair(regionX, regionZ), r -> new HashSet<>()); // region cache may have been removed on another thread due to unloadChunk
-            chunks.add(new IntIntImmutablePair(chunkX, chunkZ));
-        }
-        return CompletableFuture.completedFuture(chunk);
+        return chunk;
     }
 
-    private @Nullable RegionFile getMCAFile(Instance instance, int chunkX, int chunkZ) {
+    private @Nullable NBTCompound readChunkData(int chunkX, int chunkZ) throws IOException, NBTException {
         final int regionX = CoordinatesKt.chunkToRegion(chunkX);
         final int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
-        return alreadyLoaded.computeIfAbsent(RegionFile.Companion.createFileName(regionX, regionZ), n -> {
+        Region region;
+        NBTCompound chunkData;
+        while (true) {
+            region = region(regionX, regionZ, false);
+            if (region == null) return null; // No region file
+            final Lock lock = region.lock.readLock();
+            lock.lock();
             try {
-                final Path regionPath = this.regionPath.resolve(n);
-                if (!Files.exists(regionPath)) {
-                    return null;
-                }
-                synchronized (perRegionLoadedChunks) {
-                    Set<IntIntImmutablePair> previousVersion = perRegionLoadedChunks.put(new IntIntImmutablePair(regionX, regionZ), new HashSet<>());
-                    assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
+                if (region.closed) continue; // Unloaded in the meantime, retry with a new region
+                chunkData = region.read(chunkX, chunkZ);
+                if (chunkData != null) region.loadedChunks.add(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+                break;
+            } finally {
+                lock.unlock();
+            }
+        }
+        closeIfUnused(region);
+        return chunkData;
+    }
+
+    /**
+     * Closes a region that was opened by a read or a save without loading any of its chunks.
+     */
+    private void closeIfUnused(Region region) {
+        if (!region.loadedChunks.isEmpty()) return;
+        final Lock lock = region.lock.writeLock();
+        lock.lock();
+        try {
+            // Chunks are only added with the read lock held
+            if (region.closed || !region.loadedChunks.isEmpty()) return;
+            this.regions.remove(ChunkUtils.getChunkIndex(region.regionX, region.regionZ), region);
+            region.close();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lists the chunks present in the region files of this world.
+     *
+     * @return the chunk indexes, see {@link ChunkUtils#getChunkIndex(int, int)}
+     * @throws IOException if a region file cannot be read
+     */
+    @NotNull LongList storedChunks() throws IOException {
+        LongList chunks = new LongArrayList();
+        if (!Files.isDirectory(regionPath)) return chunks;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(regionPath, "r.*.*.mca")) {
+            for (Path file : files) {
+                final String[] parts = file.getFileName().toString().split("\\.");
+                final int regionX = Integer.parseInt(parts[1]);
+                final int regionZ = Integer.parseInt(parts[2]);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    if (channel.size() < HEADER_SIZE) continue;
+                    final ByteBuffer locations = ByteBuffer.allocate(SECTOR_SIZE);
+                    while (locations.hasRemaining()) {
+                        if (channel.read(locations, locations.position()) < 0) break;
+                    }
+                    for (int i = 0; i < 1024; i++) {
+                        if (locations.getInt(i * 4) == 0) continue;
+                        chunks.add(ChunkUtils.getChunkIndex(regionX * 32 + (i & 31), regionZ * 32 + (i >> 5)));
+                    }
                 }
-                return new RegionFile(new RandomAccessFile(regionPath.toFile(), "rw"), regionX, regionZ, instance.getDimensionType().getMinY(), instance.getDimensionType().getMaxY() - 1);
-            } catch (IOException | AnvilException e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-                return null;
             }
-        });
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the number of region files currently open.
+     */
+    int openRegionCount() {
+        return regions.size();
+    }
+
+    private @Nullable Region region(int regionX, int regionZ, boolean create) {
+        final long index = ChunkUtils.getChunkIndex(regionX, regionZ);
+        final Region region = regions.get(index);
+        if (region != null) return region;
+        final Path file = regionPath.resolve(RegionFile.Companion.createFileName(regionX, regionZ));
+        if (!create && !Files.exists(file)) return null;
+        return regions.computeIfAbsent(index, i -> new Region(file, regionX, regionZ));
     }
 
     private void loadSections(Chunk chunk, ChunkReader chunkReader) {
@@ -320,40 +500,31 @@ public class AnvilLoader implements IChunkLoader {
     public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
         final int chunkX = chunk.getChunkX();
         final int chunkZ = chunk.getChunkZ();
-        RegionFile mcaFile;
-        synchronized (alreadyLoaded) {
-            mcaFile = getMCAFile(chunk.instance, chunkX, chunkZ);
-            if (mcaFile == null) {
-                final int regionX = CoordinatesKt.chunkToRegion(chunkX);
-                final int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
-                final String n = RegionFile.Companion.createFileName(regionX, regionZ);
-                File regionFile = new File(regionPath.toFile(), n);
-                try {
-                    if (!regionFile.exists()) {
-                        if (!regionFile.getParentFile().exists()) {
-                            regionFile.getParentFile().mkdirs();
-                        }
-                        regionFile.createNewFile();
-                    }
-                    mcaFile = new RegionFile(new RandomAccessFile(regionFile, "rw"), regionX, regionZ);
-                    alreadyLoaded.put(n, mcaFile);
-                } catch (AnvilException | IOException e) {
-                    LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return AsyncUtils.VOID_FUTURE;
-                }
-            }
-        }
         ChunkWriter writer = new ChunkWriter(SupportedVersion.Companion.getLatest());
         save(chunk, writer);
-        try {
-            LOGGER.debug("Attempt saving at {} {}", chunk.getChunkX(), chunk.getChunkZ());
-            mcaFile.writeColumnData(writer.toNBT(), chunk.getChunkX(), chunk.getChunkZ());
-        } catch (IOException e) {
-            LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
-            MinecraftServer.getExceptionManager().handleException(e);
-            return AsyncUtils.VOID_FUTURE;
+        final NBTCompound chunkData = writer.toNBT();
+        final int regionX = CoordinatesKt.chunkToRegion(chunkX);
+        final int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
+        Region region;
+        while (true) {
+            region = Objects.requireNonNull(region(regionX, regionZ, true));
+            final Lock lock = region.lock.writeLock();
+            lock.lock();
+            try {
+                if (region.closed) continue; // Unloaded in the meantime, retry with a new region
+                LOGGER.debug("Attempt saving at {} {}", chunkX, chunkZ);
+                region.write(chunkData, chunkX, chunkZ);
+                break;
+            } catch (IOException | AnvilException e) {
+                LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
+                MinecraftServer.getExceptionManager().handleException(e);
+                break;
+            } finally {
+                lock.unlock();
+            }
         }
+        // Saved after its unload, or not loaded from this region
+        closeIfUnused(region);
         return AsyncUtils.VOID_FUTURE;
     }
 
@@ -443,26 +614,24 @@ public class AnvilLoader implements IChunkLoader {
     public void unloadChunk(Chunk chunk) {
         final int regionX = CoordinatesKt.chunkToRegion(chunk.chunkX);
         final int regionZ = CoordinatesKt.chunkToRegion(chunk.chunkZ);
+        final long regionIndex = ChunkUtils.getChunkIndex(regionX, regionZ);
 
-        final IntIntImmutablePair regionKey = new IntIntImmutablePair(regionX, regionZ);
-        synchronized (perRegionLoadedChunks) {
-            Set<IntIntImmutablePair> chunks = perRegionLoadedChunks.get(regionKey);
-            if (chunks != null) { // if null, trying to unload a chunk from a region that was not created by the AnvilLoader
-                // don't check return value, trying to unload a chunk not created by the AnvilLoader is valid
-                chunks.remove(new IntIntImmutablePair(chunk.chunkX, chunk.chunkZ));
-
-                if (chunks.isEmpty()) {
-                    perRegionLoadedChunks.remove(regionKey);
-                    RegionFile regionFile = alreadyLoaded.remove(RegionFile.Companion.createFileName(regionX, regionZ));
-                    if (regionFile != null) {
-                        try {
-                            regionFile.close();
-                        } catch (IOException e) {
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        }
-                    }
-                }
+        final Region region = regions.get(regionIndex);
+        if (region == null) return; // Trying to unload a chunk from a region that was not opened by the AnvilLoader
+        final Lock lock = region.lock.writeLock();
+        lock.lock();
+        try {
+            if (region.closed) return;
+            // don't check return value, trying to unload a chunk not created by the AnvilLoader is valid
+            region.loadedChunks.remove(ChunkUtils.getChunkIndex(chunk.chunkX, chunk.chunkZ));
+            if (region.loadedChunks.isEmpty()) {
+                this.regions.remove(regionIndex, region);
+                region.close();
             }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -475,4 +644,138 @@ public class AnvilLoader implements IChunkLoader {
     public boolean supportsParallelSaving() {
         return true;
     }
+
+    private static final class Region {
+        private final Path file;
+        private final int regionX, regionZ;
+        // Read lock to read chunks, write lock to write or close
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // Chunks loaded from this region, used to determine when the region can be closed
+        final Set<Long> loadedChunks = ConcurrentHashMap.newKeySet();
+        volatile boolean closed;
+
+        private volatile MappedByteBuffer mapped;
+        // Used instead of the mapping when MAP_REGIONS is disabled
+        private volatile FileChannel channel;
+        private RegionFile writer;
+
+        Region(Path file, int regionX, int regionZ) {
+            this.file = file;
+            this.regionX = regionX;
+            this.regionZ = regionZ;
+        }
+
+        @Nullable NBTCompound read(int chunkX, int chunkZ) throws IOException, NBTException {
+            final byte[] rawChunk = readRaw(chunkX, chunkZ);
+            return rawChunk != null ? decode(rawChunk, chunkX, chunkZ) : null;
+        }
+
+        /**
+         * Gets the first sector of a chunk.
+         *
+         * @return the sector index, 0 if the chunk is not present
+         */
+        int sector(int chunkX, int chunkZ) throws IOException {
+            final int position = ((chunkX & 31) + (chunkZ & 31) * 32) * 4;
+            if (!MAP_REGIONS) {
+                final FileChannel channel = channel();
+                if (channel.size() < HEADER_SIZE) return 0;
+                return read(channel, position, 4).getInt(0) >>> 8;
+            }
+            final ByteBuffer buffer = map();
+            if (buffer.limit() < HEADER_SIZE) return 0;
+            return buffer.getInt(position) >>> 8;
+        }
+
+        /**
+         * Copies the compression type followed by the compressed data of a chunk.
+         */
+        byte @Nullable [] readRaw(int chunkX, int chunkZ) throws IOException {
+            final int sector = sector(chunkX, chunkZ);
+            if (sector == 0) return null; // Chunk not present
+            final int offset = sector * SECTOR_SIZE;
+            if (!MAP_REGIONS) {
+                final FileChannel channel = channel();
+                final int length = read(channel, offset, 4).getInt(0);
+                return read(channel, offset + 4, length).array();
+            }
+            final ByteBuffer buffer = map();
+            final int length = buffer.getInt(offset);
+            byte[] rawChunk = new byte[length];
+            buffer.get(offset + 4, rawChunk);
+            return rawChunk;
+        }
+
+        static @NotNull NBTCompound decode(byte[] rawChunk, int chunkX, int chunkZ) throws IOException, NBTException {
+            final byte compression = rawChunk[0];
+            final CompressedProcesser processer = switch (compression) {
+                case 1 -> CompressedProcesser.GZIP;
+                case 2 -> CompressedProcesser.ZLIB;
+                case 3 -> CompressedProcesser.NONE;
+                default -> throw new IOException("Unknown compression type " + compression + " for chunk " + chunkX + ", " + chunkZ);
+            };
+            try (NBTReader reader = new NBTReader(new ByteArrayInputStream(rawChunk, 1, rawChunk.length - 1), processer)) {
+                return (NBTCompound) reader.read();
+            }
+        }
+
+        /**
+         * Writes a chunk, the write lock must be held.
+         */
+        void write(NBTCompound chunkData, int chunkX, int chunkZ) throws IOException, AnvilException {
+            RegionFile writer = this.writer;
+            if (writer == null) {
+                Files.createDirectories(file.getParent());
+                this.writer = writer = new RegionFile(new RandomAccessFile(file.toFile(), "rw"), regionX, regionZ);
+            }
+            writer.writeColumnData(chunkData, chunkX, chunkZ);
+            // The file may have grown, map it again on the next read
+            this.mapped = null;
+        }
+
+        /**
+         * Closes the region, the write lock must be held.
+         */
+        void close() throws IOException {
+            this.closed = true;
+            this.mapped = null;
+            if (channel != null) channel.close();
+            if (writer != null) writer.close();
+        }
+
+        private FileChannel channel() throws IOException {
+            FileChannel channel = this.channel;
+            if (channel == null) {
+                synchronized (this) {
+                    channel = this.channel;
+                    if (channel == null) this.channel = channel = FileChannel.open(file, StandardOpenOption.READ);
+                }
+            }
+            return channel;
+        }
+
+        private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) throw new IOException("Unexpected end of region file");
+            }
+            return buffer;
+        }
+
+        private ByteBuffer map() throws IOException {
+            MappedByteBuffer mapped = this.mapped;
+            if (mapped == null) {
+                synchronized (this) {
+                    mapped = this.mapped;
+                    if (mapped == null) {
+                        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                            this.mapped = mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                        }
+                    }
+                }
+            }
+            return mapped;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 // TODO light data & API
 
@@ -49,6 +50,9 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     private boolean readOnly;
 
     protected volatile boolean loaded = true;
+    // Modified since loaded from or written by the chunk loader
+    // Modification count shifted left, lowest bit set while dirty
+    private final AtomicLong modifications = new AtomicLong();
     private final Viewable viewable;
 
     // Path finding
@@ -244,6 +248,49 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         this.readOnly = readOnly;
     }
 
+    /**
+     * Gets if this chunk has been modified since it has been loaded from, or last saved to, the {@link IChunkLoader}.
+     * <p>
+     * Only dirty chunks are written by {@link InstanceContainer#saveDirtyChunksToStorage()}.
+     *
+     * @return true if the chunk needs to be saved
+     */
+    public boolean isDirty() {
+        return (modifications.get() & 1) != 0;
+    }
+
+    /**
+     * Flags this chunk as modified.
+     * <p>
+     * Done automatically when a block or biome is changed,
+     * needs to be called when modifying the sections directly.
+     */
+    public void markDirty() {
+        this.modifications.updateAndGet(value -> (value | 1) + 2);
+    }
+
+    void markClean() {
+        this.modifications.updateAndGet(value -> value & ~1L);
+    }
+
+    /**
+     * Gets a stamp identifying the current modifications, to be given to {@link #markClean(long)} once saved.
+     *
+     * @return the modification stamp
+     */
+    long modificationStamp() {
+        return modifications.get();
+    }
+
+    /**
+     * Clears the dirty flag if the chunk has not been modified since the stamp was taken.
+     *
+     * @param stamp the stamp taken when the saved state was read
+     */
+    void markClean(long stamp) {
+        this.modifications.compareAndSet(stamp, stamp & ~1L);
+    }
+
     /**
      * Changes this chunk columnar space.
      *
@@ -0,0 +1,303 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Pool running the chunk generation of every {@link InstanceContainer}
+ * ({@code minestom.generation.threads} threads, one generation per thread at most).
+ * <p>
+ * Queued chunks are generated closest to a player first, priorities are refreshed at most every 50 milliseconds
+ * by one of the threads, and only for the instances whose players changed chunk.
+ * Work that is not needed anymore (e.g. chunks left by players before being generated) is cancelled when picked.
+ */
+@ApiStatus.Experimental
+public final class ChunkGenerationExecutor {
+    static final int THREADS = Integer.getInteger("minestom.generation.threads", Runtime.getRuntime().availableProcessors());
+    private static final long PRIORITY_REFRESH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final Condition NOT_EMPTY = LOCK.newCondition();
+    private static PriorityQueue<Task> queue = new PriorityQueue<>();
+    private static long lastPriorityRefresh;
+    private static boolean refreshing;
+    // Instance -> chunk indexes of the players able to view its chunks, only used by the refreshing thread
+    private static final Map<Instance, long[]> PLAYER_CHUNKS = new WeakHashMap<>();
+
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+    private static final LongAdder GENERATED = new LongAdder();
+    private static final LongAdder CANCELLED = new LongAdder();
+    private static final LongAdder TOTAL_LATENCY = new LongAdder();
+    private static final LongAdder TOTAL_GENERATION_TIME = new LongAdder();
+
+    static {
+        for (int i = 0; i < THREADS; i++) {
+            Thread thread = new Thread(ChunkGenerationExecutor::work, "Ms-Generation-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private ChunkGenerationExecutor() {
+    }
+
+    /**
+     * Queues the generation of a chunk.
+     *
+     * @param chunk      the chunk to generate, used to compute the priority
+     * @param cancelled  checked before starting the generation, true to skip it
+     * @param generation the generation task
+     * @param onCancel   called instead of {@code generation} when cancelled
+     */
+    static void submit(@NotNull Chunk chunk, @NotNull BooleanSupplier cancelled,
+                       @NotNull Runnable generation, @NotNull Runnable onCancel) {
+        Task task = new Task(chunk, cancelled, generation, onCancel);
+        task.priority = playerDistance(chunk);
+        LOCK.lock();
+        try {
+            queue.add(task);
+            NOT_EMPTY.signal();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of chunks waiting to be generated.
+     *
+     * @return the queued chunk count
+     */
+    public static int getQueuedCount() {
+        LOCK.lock();
+        try {
+            return queue.size();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of chunks currently being generated.
+     *
+     * @return the running generation count
+     */
+    public static int getRunningCount() {
+        return RUNNING.get();
+    }
+
+    /**
+     * Gets the total number of generated chunks.
+     *
+     * @return the generated chunk count
+     */
+    public static long getGeneratedCount() {
+        return GENERATED.sum();
+    }
+
+    /**
+     * Gets the total number of generations cancelled before being started.
+     *
+     * @return the cancelled generation count
+     */
+    public static long getCancelledCount() {
+        return CANCELLED.sum();
+    }
+
+    /**
+     * Gets the average time between the submission of a generation and its end.
+     *
+     * @return the average latency in milliseconds, 0 if nothing has been generated
+     */
+    public static double getAverageLatency() {
+        final long generated = GENERATED.sum();
+        return generated != 0 ? TOTAL_LATENCY.sum() / (generated * 1_000_000d) : 0;
+    }
+
+    /**
+     * Gets the average time spent running the generator, excluding the time spent in queue.
+     *
+     * @return the average generation time in milliseconds, 0 if nothing has been generated
+     */
+    public static double getAverageGenerationTime() {
+        final long generated = GENERATED.sum();
+        return generated != 0 ? TOTAL_GENERATION_TIME.sum() / (generated * 1_000_000d) : 0;
+    }
+
+    private static void work() {
+        while (true) {
+            final Task task;
+            try {
+                task = next();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                if (task.cancelled.getAsBoolean()) {
+                    CANCELLED.increment();
+                    task.onCancel.run();
+                    continue;
+                }
+                RUNNING.incrementAndGet();
+                final long start = System.nanoTime();
+                try {
+                    task.generation.run();
+                } finally {
+                    final long end = System.nanoTime();
+                    RUNNING.decrementAndGet();
+                    TOTAL_LATENCY.add(end - task.submitTime);
+                    TOTAL_GENERATION_TIME.add(end - start);
+                    GENERATED.increment();
+                }
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    private static Task next() throws InterruptedException {
+        final List<Task> tasks;
+        LOCK.lock();
+        try {
+            while (queue.isEmpty()) NOT_EMPTY.await();
+            final long time = System.nanoTime();
+            if (refreshing || time - lastPriorityRefresh < PRIORITY_REFRESH_INTERVAL) return queue.poll();
+            refreshing = true;
+            lastPriorityRefresh = time;
+            tasks = new ArrayList<>(queue);
+        } finally {
+            LOCK.unlock();
+        }
+        int[] priorities = null;
+        try {
+            // Players moved since the tasks were queued, computed without blocking the other threads
+            priorities = computePriorities(tasks);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        LOCK.lock();
+        try {
+            if (priorities != null) {
+                for (int i = 0; i < priorities.length; i++) tasks.get(i).priority = priorities[i];
+                // Heapified again, tasks polled in the meantime are not in the queue anymore
+                queue = new PriorityQueue<>(new ArrayList<>(queue));
+            }
+            refreshing = false;
+        } finally {
+            LOCK.unlock();
+        }
+        return next();
+    }
+
+    /**
+     * Computes the priorities of tasks, skipping the instances whose players did not change chunk since the last call.
+     *
+     * @return the new priorities, null if none changed
+     */
+    private static int[] computePriorities(List<Task> tasks) {
+        Map<Instance, long[]> playerChunks = new HashMap<>();
+        int[] priorities = new int[tasks.size()];
+        boolean changed = false;
+        for (int i = 0; i < priorities.length; i++) {
+            final Task task = tasks.get(i);
+            final long[] chunks = playerChunks.computeIfAbsent(task.chunk.getInstance(), instance -> {
+                final long[] current = playerChunks(instance);
+                final long[] previous = PLAYER_CHUNKS.get(instance);
+                if (Arrays.equals(previous, current)) return previous;
+                PLAYER_CHUNKS.put(instance, current);
+                return current;
+            });
+            if (task.playerChunks == chunks) {
+                priorities[i] = task.priority;
+                continue;
+            }
+            task.playerChunks = chunks;
+            priorities[i] = playerDistance(chunks, task.chunk);
+            changed |= priorities[i] != task.priority;
+        }
+        return changed ? priorities : null;
+    }
+
+    /**
+     * Gets the distance in chunks between a chunk and the closest player able to view it.
+     */
+    private static int playerDistance(Chunk chunk) {
+        final Instance instance = chunk.getInstance();
+        int distance = playerDistance(instance.getPlayers(), chunk);
+        if (instance instanceof InstanceContainer container) {
+            for (SharedInstance shared : container.getSharedInstances()) {
+                distance = Math.min(distance, playerDistance(shared.getPlayers(), chunk));
+            }
+        }
+        return distance;
+    }
+
+    private static int playerDistance(Collection<Player> players, Chunk chunk) {
+        int distance = Integer.MAX_VALUE;
+        for (Player player : players) {
+            final var position = player.getPosition();
+            distance = Math.min(distance, Math.max(Math.abs(position.chunkX() - chunk.getChunkX()),
+                    Math.abs(position.chunkZ() - chunk.getChunkZ())));
+        }
+        return distance;
+    }
+
+    private static int playerDistance(long[] playerChunks, Chunk chunk) {
+        int distance = Integer.MAX_VALUE;
+        for (long index : playerChunks) {
+            distance = Math.min(distance, Math.max(Math.abs(ChunkUtils.getChunkCoordX(index) - chunk.getChunkX()),
+                    Math.abs(ChunkUtils.getChunkCoordZ(index) - chunk.getChunkZ())));
+        }
+        return distance;
+    }
+
+    /**
+     * Gets the chunks of the players able to view the chunks of an instance, sorted.
+     */
+    private static long[] playerChunks(Instance instance) {
+        List<Player> players = new ArrayList<>(instance.getPlayers());
+        if (instance instanceof InstanceContainer container) {
+            for (SharedInstance shared : container.getSharedInstances()) players.addAll(shared.getPlayers());
+        }
+        long[] chunks = new long[players.size()];
+        for (int i = 0; i < chunks.length; i++) {
+            final var position = players.get(i).getPosition();
+            chunks[i] = ChunkUtils.getChunkIndex(position.chunkX(), position.chunkZ());
+        }
+        Arrays.sort(chunks);
+        return chunks;
+    }
+
+    private static final class Task implements Comparable<Task> {
+        private final Chunk chunk;
+        private final BooleanSupplier cancelled;
+        private final Runnable generation;
+        private final Runnable onCancel;
+        private final long submitTime = System.nanoTime();
+        private int priority;
+        // Player chunks used to compute the priority, null if computed at submission
+        private long[] playerChunks;
+
+        private Task(Chunk chunk, BooleanSupplier cancelled, Runnable generation, Runnable onCancel) {
+            this.chunk = chunk;
+            this.cancelled = cancelled;
+            this.generation = generation;
+            this.onCancel = onCancel;
+        }
+
+        @Override
+        public int compareTo(@NotNull Task other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+}
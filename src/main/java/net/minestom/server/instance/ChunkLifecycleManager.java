@@ -0,0 +1,194 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Unloads the chunks of an {@link InstanceContainer} which are not in use anymore.
+ * <p>
+ * A chunk is in use while it has viewers or contains entities, it is unloaded once it has not been used
+ * nor modified for the grace period, or earlier (least recently used first) when the estimated palette memory
+ * of the instance exceeds the memory budget. Shared palettes are not counted toward the budget,
+ * unloading their chunk would not free them. Dirty chunks are queued for saving before being unloaded.
+ * <p>
+ * Chunks are checked every second from the instance tick, see {@link InstanceContainer#setChunkLifecycleManager(ChunkLifecycleManager)}.
+ */
+@ApiStatus.Experimental
+public final class ChunkLifecycleManager {
+    private final long gracePeriod;
+    private final long memoryBudget;
+
+    // Chunk index -> last time the chunk was used
+    private final Long2LongMap accessTimes = new Long2LongOpenHashMap();
+
+    private volatile int chunkCount;
+    private volatile int usedChunkCount;
+    private volatile long estimatedMemory;
+    private volatile long sharedMemory;
+    private volatile long unloadedCount;
+
+    /**
+     * @param gracePeriod  the time a chunk can stay unused before being unloaded
+     * @param memoryBudget the estimated memory of the palettes not shared with other palettes, in bytes,
+     *                     after which unused chunks are unloaded,
+     *                     {@link Long#MAX_VALUE} to only rely on the grace period
+     */
+    public ChunkLifecycleManager(@NotNull Duration gracePeriod, long memoryBudget) {
+        Check.argCondition(gracePeriod.isNegative(), "The grace period cannot be negative");
+        Check.argCondition(memoryBudget < 0, "The memory budget cannot be negative");
+        this.gracePeriod = gracePeriod.toMillis();
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Gets the number of chunks loaded in the instance during the last check.
+     *
+     * @return the loaded chunk count
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Gets the number of chunks which had viewers or entities during the last check.
+     *
+     * @return the used chunk count
+     */
+    public int getUsedChunkCount() {
+        return usedChunkCount;
+    }
+
+    /**
+     * Gets the estimated palette memory of the chunks kept loaded during the last check.
+     *
+     * @return the estimated memory in bytes
+     * @see #estimateMemory(Chunk)
+     */
+    public long getEstimatedMemory() {
+        return estimatedMemory;
+    }
+
+    /**
+     * Gets the part of {@link #getEstimatedMemory()} shared with other palettes.
+     *
+     * @return the estimated shared memory in bytes
+     * @see #estimateSharedMemory(Chunk)
+     */
+    public long getSharedMemory() {
+        return sharedMemory;
+    }
+
+    /**
+     * Gets the total number of chunks unloaded by this manager.
+     *
+     * @return the unloaded chunk count
+     */
+    public long getUnloadedCount() {
+        return unloadedCount;
+    }
+
+    /**
+     * Estimates the memory used by the block and biome palettes of a chunk.
+     *
+     * @param chunk the chunk to estimate
+     * @return the estimated memory in bytes
+     */
+    public static long estimateMemory(@NotNull Chunk chunk) {
+        long memory = 0;
+        synchronized (chunk) {
+            for (Section section : chunk.getSections()) {
+                memory += section.blockPalette().estimatedMemory() + section.biomePalette().estimatedMemory();
+            }
+        }
+        return memory;
+    }
+
+    /**
+     * Estimates the memory of the palettes whose entries are shared with other palettes, either reachable copies
+     * of the chunk (e.g. {@link InstanceContainer#copy()}) or identical interned sections.
+     * These palettes are only duplicated once modified.
+     *
+     * @param chunk the chunk to estimate
+     * @return the estimated shared memory in bytes
+     */
+    public static long estimateSharedMemory(@NotNull Chunk chunk) {
+        long memory = 0;
+        synchronized (chunk) {
+            for (Section section : chunk.getSections()) {
+                final Palette blockPalette = section.blockPalette();
+                final Palette biomePalette = section.biomePalette();
+                if (blockPalette.isShared()) memory += blockPalette.estimatedMemory();
+                if (biomePalette.isShared()) memory += biomePalette.estimatedMemory();
+            }
+        }
+        return memory;
+    }
+
+    void update(@NotNull InstanceContainer instance) {
+        final long time = System.currentTimeMillis();
+        List<Candidate> unused = new ArrayList<>();
+        LongSet present = new LongOpenHashSet();
+        int chunkCount = 0, usedChunkCount = 0;
+        long memory = 0, sharedMemory = 0;
+        for (Chunk chunk : instance.getChunks()) {
+            if (!chunk.isLoaded()) continue;
+            final long index = ChunkUtils.getChunkIndex(chunk);
+            final long chunkMemory = estimateMemory(chunk);
+            final long chunkSharedMemory = estimateSharedMemory(chunk);
+            final boolean used = !chunk.getViewers().isEmpty() ||
+                    !instance.getEntityTracker().chunkEntities(chunk.getChunkX(), chunk.getChunkZ(), EntityTracker.Target.ENTITIES).isEmpty();
+            long lastAccess = accessTimes.getOrDefault(index, -1);
+            if (used || lastAccess == -1 || chunk.getLastChangeTime() > lastAccess) {
+                this.accessTimes.put(index, time);
+                lastAccess = time;
+            }
+            present.add(index);
+            chunkCount++;
+            memory += chunkMemory;
+            sharedMemory += chunkSharedMemory;
+            if (used) {
+                usedChunkCount++;
+            } else {
+                unused.add(new Candidate(chunk, lastAccess, chunkMemory, chunkSharedMemory));
+            }
+        }
+        // Forget chunks unloaded by other means
+        this.accessTimes.keySet().retainAll(present);
+
+        // Least recently used first
+        unused.sort(Comparator.comparingLong(Candidate::lastAccess));
+        for (Candidate candidate : unused) {
+            final boolean expired = time - candidate.lastAccess >= gracePeriod;
+            if (!expired && memory - sharedMemory <= memoryBudget) break;
+            final Chunk chunk = candidate.chunk;
+            // Kept loaded until the next update when the save queue is full
+            if (chunk.isDirty() && instance.queueChunkSave(chunk) == null) continue;
+            instance.unloadChunk(chunk);
+            this.accessTimes.remove(ChunkUtils.getChunkIndex(chunk));
+            this.unloadedCount++;
+            chunkCount--;
+            memory -= candidate.memory;
+            sharedMemory -= candidate.sharedMemory;
+        }
+
+        this.chunkCount = chunkCount;
+        this.usedChunkCount = usedChunkCount;
+        this.estimatedMemory = memory;
+        this.sharedMemory = sharedMemory;
+    }
+
+    private record Candidate(Chunk chunk, long lastAccess, long memory, long sharedMemory) {
+    }
+}
@@ -0,0 +1,153 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind queue used by {@link InstanceContainer} to save chunks.
+ * <p>
+ * Chunks are copied on the calling thread while holding their lock, the copies are then written
+ * by the instance {@link IChunkLoader} on a dedicated pool ({@code minestom.chunk-save.threads} threads).
+ * A chunk queued again before being written only replaces its pending copy, and at most
+ * {@code minestom.chunk-save.max-pending} copies can wait for all instances, further chunks are rejected
+ * without blocking and stay dirty.
+ * <p>
+ * Chunks are marked clean once their copy has been written, unless modified in the meantime.
+ * A failed write is retried when the chunk has been unloaded, as it cannot be saved again by its instance.
+ * The server waits for the pending copies when stopping, see {@link #awaitPending(long, TimeUnit)}.
+ */
+final class ChunkSaveQueue {
+    private static final int THREADS = Integer.getInteger("minestom.chunk-save.threads", 2);
+    private static final int MAX_PENDING = Integer.getInteger("minestom.chunk-save.max-pending", 1024);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService SAVE_POOL = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "Ms-ChunkSave-" + THREAD_COUNTER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Semaphore PENDING_PERMITS = new Semaphore(MAX_PENDING);
+
+    private final InstanceContainer instance;
+    // Chunk index -> latest copy waiting to be written
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    // Only one drain per instance so that copies of the same chunk are written in order
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    ChunkSaveQueue(@NotNull InstanceContainer instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Copies the chunk and queues the copy to be written, without blocking.
+     *
+     * @param chunk the chunk to save
+     * @return a future completed once the chunk (or a more recent copy) has been written,
+     * null if too many copies are pending, the chunk is then left dirty
+     */
+    @Nullable CompletableFuture<Void> enqueue(@NotNull Chunk chunk) {
+        if (!PENDING_PERMITS.tryAcquire()) return null;
+        final Chunk snapshot;
+        final long stamp;
+        synchronized (chunk) {
+            snapshot = chunk.copy(instance, chunk.getChunkX(), chunk.getChunkZ());
+            stamp = chunk.modificationStamp();
+        }
+        final Pending entry = pending.compute(ChunkUtils.getChunkIndex(chunk), (index, previous) -> {
+            if (previous == null) return new Pending(chunk, snapshot, stamp, new CompletableFuture<>(), 1);
+            // Already queued, the permit is held by the previous copy
+            PENDING_PERMITS.release();
+            return new Pending(chunk, snapshot, stamp, previous.future, 1);
+        });
+        scheduleDrain();
+        return entry.future;
+    }
+
+    /**
+     * Drops the copy waiting for this chunk, used when the chunk is saved directly.
+     *
+     * @param chunk the chunk being saved
+     */
+    void discard(@NotNull Chunk chunk) {
+        final Pending entry = pending.remove(ChunkUtils.getChunkIndex(chunk));
+        if (entry == null) return;
+        PENDING_PERMITS.release();
+        entry.future.complete(null);
+    }
+
+    /**
+     * Waits for the copies queued by all instances to be written.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if no copy is pending anymore, false if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static boolean awaitPending(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        // Each pending copy holds a permit
+        if (!PENDING_PERMITS.tryAcquire(MAX_PENDING, timeout, unit)) return false;
+        PENDING_PERMITS.release(MAX_PENDING);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) SAVE_POOL.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            while (!pending.isEmpty()) {
+                final List<Map.Entry<Long, Pending>> batch = new ArrayList<>(pending.entrySet());
+                final List<Chunk> snapshots = new ArrayList<>(batch.size());
+                for (Map.Entry<Long, Pending> entry : batch) snapshots.add(entry.getValue().snapshot);
+                Throwable failure = null;
+                try {
+                    instance.getChunkLoader().saveChunks(snapshots).join();
+                } catch (Throwable t) {
+                    failure = t;
+                    MinecraftServer.getExceptionManager().handleException(t);
+                }
+                for (Map.Entry<Long, Pending> entry : batch) {
+                    final Pending value = entry.getValue();
+                    if (failure != null && !value.chunk.isLoaded() && value.attempts < MAX_ATTEMPTS) {
+                        // Unloaded chunks cannot be marked dirty anymore, keep the copy for the next batch
+                        pending.replace(entry.getKey(), value,
+                                new Pending(value.chunk, value.snapshot, value.stamp, value.future, value.attempts + 1));
+                        continue;
+                    }
+                    // Replaced copies keep their future, completed with the next batch
+                    if (!pending.remove(entry.getKey(), value)) continue;
+                    PENDING_PERMITS.release();
+                    if (failure != null) {
+                        // Still dirty, saved again by the next instance save if loaded, lost otherwise
+                        value.future.completeExceptionally(failure);
+                    } else {
+                        value.chunk.markClean(value.stamp);
+                        value.future.complete(null);
+                    }
+                }
+            }
+        } finally {
+            this.draining.set(false);
+            // Chunks queued after the last check
+            if (!pending.isEmpty()) scheduleDrain();
+        }
+    }
+
+    private record Pending(Chunk chunk, Chunk snapshot, long stamp, CompletableFuture<Void> future, int attempts) {
+    }
+}
@@ -20,8 +20,8 @@ import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,8 +46,8 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
     private long lastChange;
-    final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
-    final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
+    final CachedPacket chunkCache = CachedPacket.strong(this::createChunkPacket);
+    final CachedPacket lightCache = CachedPacket.strong(this::createLightPacket);
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
@@ -56,10 +56,18 @@ public class DynamicChunk extends Chunk {
         this.sections = List.of(sectionsTemp);
     }
 
+    DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ, @NotNull List<Section> sections) {
+        super(instance, chunkX, chunkZ, true);
+        Check.argCondition(sections.size() != maxSection - minSection,
+                "Expected {0} sections, got {1}", maxSection - minSection, sections.size());
+        this.sections = List.copyOf(sections);
+    }
+
     @Override
     public void setBlock(int x, int y, int z, @NotNull Block block) {
         assertLock();
         this.lastChange = System.currentTimeMillis();
+        markDirty();
         this.chunkCache.invalidate();
         this.lightCache.invalidate();
         // Update pathfinder
@@ -86,11 +94,14 @@ public class DynamicChunk extends Chunk {
         } else {
             this.tickableMap.remove(index);
         }
+        // Notified last so that flow fields read the new block
+        instance.getInstanceSpace().blockChanged(x, y, z);
     }
 
     @Override
     public void setBiome(int x, int y, int z, @NotNull Biome biome) {
         assertLock();
+        markDirty();
         this.chunkCache.invalidate();
         Section section = getSectionAt(y);
         section.biomePalette().set(
@@ -174,6 +185,7 @@ public class DynamicChunk extends Chunk {
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
         dynamicChunk.sections = sections.stream().map(Section::clone).toList();
         dynamicChunk.entries.putAll(entries);
+        if (isDirty()) dynamicChunk.markDirty();
         return dynamicChunk;
     }
 
@@ -181,6 +193,17 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        markDirty();
+        this.chunkCache.invalidate();
+        this.lightCache.invalidate();
+    }
+
+    @Override
+    protected void unload() {
+        super.unload();
+        // Free the shared packet cache
+        this.chunkCache.invalidate();
+        this.lightCache.invalidate();
     }
 
     private synchronized @NotNull ChunkDataPacket createChunkPacket() {
@@ -203,10 +226,9 @@ public class DynamicChunk extends Chunk {
                     "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
         }
         // Data
-        final byte[] data = ObjectPool.PACKET_POOL.use(buffer ->
-                NetworkBuffer.makeArray(networkBuffer -> {
-                    for (Section section : sections) networkBuffer.write(section);
-                }));
+        final byte[] data = NetworkBuffer.makeArray(networkBuffer -> {
+            for (Section section : sections) networkBuffer.write(section);
+        });
         return new ChunkDataPacket(chunkX, chunkZ,
                 new ChunkData(heightmapsNBT, data, entries),
                 createLightData());
@@ -47,6 +47,20 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
 
     @UnmodifiableView <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, @NotNull Target<T> target);
 
+    /**
+     * Gets the largest distance between the position of a tracked entity and a corner of its bounding box.
+     * <p>
+     * Never decreases, can be added to the range of {@link #nearbyEntities(Point, double, Target, Consumer)}
+     * to find the entities whose bounding box is within range.
+     */
+    double maxBoundingBoxExtent();
+
+    /**
+     * Called every time the bounding box of an entity changes.
+     */
+    @ApiStatus.Internal
+    void boundingBoxUpdate(@NotNull Entity entity);
+
     @UnmodifiableView
     default <T extends Entity> @NotNull Collection<T> chunkEntities(@NotNull Point point, @NotNull Target<T> target) {
         return chunkEntities(point.chunkX(), point.chunkZ(), target);
@@ -3,6 +3,7 @@ package net.minestom.server.instance;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
+import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
@@ -33,12 +34,14 @@ final class EntityTrackerImpl implements EntityTracker {
     // The array index is the Target enum ordinal
     final TargetEntry<Entity>[] entries = EntityTracker.Target.TARGETS.stream().map((Function<Target<?>, TargetEntry>) TargetEntry::new).toArray(TargetEntry[]::new);
     private final Int2ObjectSyncMap<Point> entityPositions = Int2ObjectSyncMap.hashmap();
+    private volatile double maxBoundingBoxExtent;
 
     @Override
     public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
                                             @NotNull Target<T> target, @Nullable Update<T> update) {
         var prevPoint = entityPositions.putIfAbsent(entity.getEntityId(), point);
         if (prevPoint != null) return;
+        updateBoundingBoxExtent(entity);
         final long index = getChunkIndex(point);
         for (TargetEntry<Entity> entry : entries) {
             if (entry.target.type().isInstance(entity)) {
@@ -132,6 +135,29 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public double maxBoundingBoxExtent() {
+        return maxBoundingBoxExtent;
+    }
+
+    @Override
+    public void boundingBoxUpdate(@NotNull Entity entity) {
+        // Unregistered entities are accounted once registered
+        if (entityPositions.containsKey(entity.getEntityId())) updateBoundingBoxExtent(entity);
+    }
+
+    private void updateBoundingBoxExtent(Entity entity) {
+        final BoundingBox boundingBox = entity.getBoundingBox();
+        final double x = Math.max(Math.abs(boundingBox.minX()), Math.abs(boundingBox.maxX()));
+        final double y = Math.max(Math.abs(boundingBox.minY()), Math.abs(boundingBox.maxY()));
+        final double z = Math.max(Math.abs(boundingBox.minZ()), Math.abs(boundingBox.maxZ()));
+        final double extent = Math.sqrt(x * x + y * y + z * z);
+        if (extent <= maxBoundingBoxExtent) return;
+        synchronized (this) {
+            if (extent > maxBoundingBoxExtent) this.maxBoundingBoxExtent = extent;
+        }
+    }
+
     @Override
     public <T extends Entity> void nearbyEntities(@NotNull Point point, double range, @NotNull Target<T> target, @NotNull Consumer<T> query) {
         final Long2ObjectSyncMap<List<Entity>> entities = entries[target.ordinal()].chunkEntities;
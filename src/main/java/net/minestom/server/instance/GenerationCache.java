@@ -0,0 +1,146 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the result of chunk generations to skip the generator when the same chunk is generated again,
+ * e.g. by every instance created from the same template.
+ * <p>
+ * Entries are keyed by the {@link Generator} instance and the chunk coordinates, the generator must therefore
+ * be deterministic and reused between instances. Generations creating forks are never cached as they depend on
+ * the neighbour chunks. The least recently used chunks are evicted once {@code maxChunks} is reached.
+ * <p>
+ * A cache can be shared between instances, see {@link InstanceContainer#setGenerationCache(GenerationCache)}.
+ */
+@ApiStatus.Experimental
+public final class GenerationCache {
+    private final int maxChunks;
+    private final Map<Key, CachedSection[]> entries;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * @param maxChunks the maximum number of chunks to keep
+     */
+    public GenerationCache(int maxChunks) {
+        Check.argCondition(maxChunks <= 0, "The cache must be able to hold at least one chunk");
+        this.maxChunks = maxChunks;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedSection[]> eldest) {
+                return size() > GenerationCache.this.maxChunks;
+            }
+        };
+    }
+
+    /**
+     * Gets the number of cached chunks.
+     *
+     * @return the cached chunk count
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of generations skipped thanks to this cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of generations which were not cached.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Removes every cached chunk, to call when a generator output changes.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Copies a cached generation into {@code chunk}.
+     *
+     * @return true if the chunk has been restored, false if it must be generated
+     */
+    boolean restore(@NotNull Generator generator, @NotNull Chunk chunk) {
+        final CachedSection[] cachedSections;
+        synchronized (this) {
+            cachedSections = entries.get(new Key(generator, chunk));
+            if (cachedSections == null) {
+                this.missCount++;
+                return false;
+            }
+            this.hitCount++;
+        }
+        synchronized (chunk) {
+            final List<Section> sections = chunk.getSections();
+            for (int i = 0; i < cachedSections.length; i++) {
+                final CachedSection cachedSection = cachedSections[i];
+                sections.get(i).setPalettes(cachedSection.blockPalette.clone(), cachedSection.biomePalette.clone());
+            }
+            // Block entities, handlers and nbt
+            for (int i = 0; i < cachedSections.length; i++) {
+                final int height = (chunk.getMinSection() + i) * Chunk.CHUNK_SECTION_SIZE;
+                Int2ObjectMaps.fastForEach(cachedSections[i].blocks, blockEntry -> {
+                    final int index = blockEntry.getIntKey();
+                    chunk.setBlock(ChunkUtils.blockIndexToChunkPositionX(index),
+                            ChunkUtils.blockIndexToChunkPositionY(index) + height,
+                            ChunkUtils.blockIndexToChunkPositionZ(index), blockEntry.getValue());
+                });
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the result of a generation, must be called before the chunk is modified by anything else.
+     */
+    void store(@NotNull Generator generator, @NotNull Chunk chunk, @NotNull GeneratorImpl.UnitImpl unit) {
+        if (!unit.forks().isEmpty()) return;
+        final List<GenerationUnit> units = ((GeneratorImpl.AreaModifierImpl) unit.modifier()).sections();
+        CachedSection[] cachedSections = new CachedSection[units.size()];
+        for (int i = 0; i < cachedSections.length; i++) {
+            final var modifier = (GeneratorImpl.SectionModifierImpl) units.get(i).modifier();
+            final Int2ObjectMap<Block> blocks = modifier.cache().isEmpty() ?
+                    Int2ObjectMaps.emptyMap() : new Int2ObjectOpenHashMap<>(modifier.cache());
+            cachedSections[i] = new CachedSection(modifier.blockPalette().clone(), modifier.biomePalette().clone(), blocks);
+        }
+        synchronized (this) {
+            this.entries.put(new Key(generator, chunk), cachedSections);
+        }
+    }
+
+    private record Key(Generator generator, int chunkX, int chunkZ, int minSection, int maxSection) {
+        Key(Generator generator, Chunk chunk) {
+            this(generator, chunk.getChunkX(), chunk.getChunkZ(), chunk.getMinSection(), chunk.getMaxSection());
+        }
+    }
+
+    private record CachedSection(Palette blockPalette, Palette biomePalette, Int2ObjectMap<Block> blocks) {
+    }
+}
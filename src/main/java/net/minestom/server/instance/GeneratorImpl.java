@@ -247,6 +247,14 @@ final class GeneratorImpl {
             });
         }
 
+        @Override
+        public void setAll(@NotNull Supplier supplier) {
+            final int startX = start.blockX();
+            final int startY = start.blockY();
+            final int startZ = start.blockZ();
+            setAllRelative((x, y, z) -> supplier.get(x + startX, y + startY, z + startZ));
+        }
+
         @Override
         public void fill(@NotNull Block block) {
             if (requireCache(block)) {
@@ -257,10 +265,45 @@ final class GeneratorImpl {
                         }
                     }
                 }
+            } else if (!cache.isEmpty()) {
+                this.cache.clear();
             }
             this.blockPalette.fill(retrieveBlockId(block));
         }
 
+        @Override
+        public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+            // Section relative bounds
+            final Point sectionStart = this.start;
+            final int minX = Math.max(start.blockX() - sectionStart.blockX(), 0);
+            final int minY = Math.max(start.blockY() - sectionStart.blockY(), 0);
+            final int minZ = Math.max(start.blockZ() - sectionStart.blockZ(), 0);
+            final int maxX = Math.min(end.blockX() - sectionStart.blockX(), 16);
+            final int maxY = Math.min(end.blockY() - sectionStart.blockY(), 16);
+            final int maxZ = Math.min(end.blockZ() - sectionStart.blockZ(), 16);
+            if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+            if (minX == 0 && minY == 0 && minZ == 0 && maxX == 16 && maxY == 16 && maxZ == 16) {
+                fill(block);
+                return;
+            }
+            final boolean requireCache = requireCache(block);
+            if (requireCache || !cache.isEmpty()) {
+                for (int x = minX; x < maxX; x++) {
+                    for (int y = minY; y < maxY; y++) {
+                        for (int z = minZ; z < maxZ; z++) {
+                            final int index = getBlockIndex(x, y, z);
+                            if (requireCache) {
+                                this.cache.put(index, block);
+                            } else {
+                                this.cache.remove(index);
+                            }
+                        }
+                    }
+                }
+            }
+            this.blockPalette.fill(minX, minY, minZ, maxX, maxY, maxZ, retrieveBlockId(block));
+        }
+
         @Override
         public void fillBiome(@NotNull Biome biome) {
             if (fork) throw new IllegalStateException("Cannot modify biomes of a fork");
@@ -348,6 +391,24 @@ final class GeneratorImpl {
             }
         }
 
+        @Override
+        public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+            final int minX = start.blockX(), minY = start.blockY(), minZ = start.blockZ();
+            final int maxX = end.blockX(), maxY = end.blockY(), maxZ = end.blockZ();
+            if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+            checkBorder(minX, minY, minZ);
+            checkBorder(maxX - 1, maxY - 1, maxZ - 1);
+            // Let each intersecting section fill its part at once
+            for (GenerationUnit section : sections) {
+                final Point sectionStart = section.absoluteStart();
+                final Point sectionEnd = section.absoluteEnd();
+                if (sectionEnd.blockX() <= minX || sectionStart.blockX() >= maxX ||
+                        sectionEnd.blockY() <= minY || sectionStart.blockY() >= maxY ||
+                        sectionEnd.blockZ() <= minZ || sectionStart.blockZ() >= maxZ) continue;
+                section.modifier().fill(start, end, block);
+            }
+        }
+
         @Override
         public void fillBiome(@NotNull Biome biome) {
             for (GenerationUnit section : sections) {
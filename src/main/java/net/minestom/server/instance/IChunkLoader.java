@@ -1,15 +1,16 @@
 package net.minestom.server.instance;
 
-import net.minestom.server.MinecraftServer;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Interface implemented to change the way chunks are loaded/saved.
@@ -36,6 +37,23 @@ public interface IChunkLoader {
      */
     @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ);
 
+    /**
+     * Loads multiple chunks at once, implementations can group the reads by file.
+     * <p>
+     * Defaults to {@link #loadChunk(Instance, int, int)} for every chunk.
+     *
+     * @param instance the {@link Instance} where the chunks belong
+     * @param chunks   the chunks to load, long values from {@link ChunkUtils#getChunkIndex(int, int)}
+     * @return a {@link CompletableFuture} per chunk index, containing the chunk or null if not present
+     */
+    default @NotNull Long2ObjectMap<CompletableFuture<@Nullable Chunk>> loadChunks(@NotNull Instance instance, @NotNull LongCollection chunks) {
+        Long2ObjectMap<CompletableFuture<Chunk>> futures = new Long2ObjectOpenHashMap<>(chunks.size());
+        for (long index : chunks) {
+            futures.put(index, loadChunk(instance, ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index)));
+        }
+        return futures;
+    }
+
     default @NotNull CompletableFuture<Void> saveInstance(@NotNull Instance instance) {
         return AsyncUtils.VOID_FUTURE;
     }
@@ -59,29 +77,12 @@ public interface IChunkLoader {
      * should be called even if the saving failed (you can throw an exception).
      */
     default @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
-        if (supportsParallelSaving()) {
-            ExecutorService parallelSavingThreadPool = ForkJoinPool.commonPool();
-            chunks.forEach(c -> parallelSavingThreadPool.execute(() -> saveChunk(c)));
-            try {
-                parallelSavingThreadPool.shutdown();
-                parallelSavingThreadPool.awaitTermination(1L, java.util.concurrent.TimeUnit.DAYS);
-            } catch (InterruptedException e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-            }
-            return AsyncUtils.VOID_FUTURE;
-        } else {
-            CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-            AtomicInteger counter = new AtomicInteger();
-            for (Chunk chunk : chunks) {
-                saveChunk(chunk).whenComplete((unused, throwable) -> {
-                    final boolean isLast = counter.incrementAndGet() == chunks.size();
-                    if (isLast) {
-                        completableFuture.complete(null);
-                    }
-                });
-            }
-            return completableFuture;
-        }
+        final boolean parallel = supportsParallelSaving();
+        return CompletableFuture.allOf(chunks.stream()
+                .map(chunk -> parallel ?
+                        CompletableFuture.supplyAsync(() -> saveChunk(chunk)).thenCompose(Function.identity()) :
+                        saveChunk(chunk))
+                .toArray(CompletableFuture[]::new));
     }
 
     /**
@@ -1,5 +1,8 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.pointer.Pointers;
@@ -174,6 +177,9 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     /**
      * Loads the chunk if the chunk is already loaded or if
      * {@link #hasEnabledAutoChunkLoad()} returns true.
+     * <p>
+     * The generation of a chunk requested while players could view it is skipped if all of them left
+     * before it started, the future is then completed with null.
      *
      * @param chunkX the chunk X
      * @param chunkZ the chunk Z
@@ -192,6 +198,22 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return loadOptionalChunk(point.chunkX(), point.chunkZ());
     }
 
+    /**
+     * Loads multiple chunks, each one if already loaded or if {@link #hasEnabledAutoChunkLoad()} returns true.
+     * <p>
+     * Chunks missing from memory are requested at once from the {@link IChunkLoader}.
+     *
+     * @param chunks the chunks to load, long values from {@link ChunkUtils#getChunkIndex(int, int)}
+     * @return a {@link CompletableFuture} per chunk index, completed once the chunk has been processed, can contain null if not loaded
+     */
+    public @NotNull Long2ObjectMap<CompletableFuture<@Nullable Chunk>> loadOptionalChunks(@NotNull LongCollection chunks) {
+        Long2ObjectMap<CompletableFuture<Chunk>> futures = new Long2ObjectOpenHashMap<>(chunks.size());
+        for (long index : chunks) {
+            futures.put(index, loadOptionalChunk(ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index)));
+        }
+        return futures;
+    }
+
     /**
      * Schedules the removal of a {@link Chunk}, this method does not promise when it will be done.
      * <p>
@@ -1,6 +1,7 @@
 package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.*;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
@@ -20,6 +21,8 @@ import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.block.BlockUtils;
@@ -34,38 +37,54 @@ import org.jetbrains.annotations.Nullable;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import static net.minestom.server.utils.chunk.ChunkUtils.*;
 
 /**
  * InstanceContainer is an instance that contains chunks in contrary to SharedInstance.
+ * <p>
+ * Identical section palettes of loaded and generated chunks can be shared until modified,
+ * see {@code minestom.palette-interning}.
  */
 public class InstanceContainer extends Instance {
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
+    private static final boolean INTERN_PALETTES = Boolean.getBoolean("minestom.palette-interning");
 
     // the shared instances assigned to this instance
     private final List<SharedInstance> sharedInstances = new CopyOnWriteArrayList<>();
 
     // the chunk generator used, can be null
     private volatile Generator generator;
+    private volatile GenerationCache generationCache;
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    // chunks loaded using #loadChunk, their generation is never cancelled
+    private final Set<Long> requiredChunks = ConcurrentHashMap.newKeySet();
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
+    // write-behind queue used to save dirty chunks
+    private final ChunkSaveQueue saveQueue = new ChunkSaveQueue(this);
+    private Task autosaveTask;
+    // unloads the unused chunks, can be null
+    private ChunkLifecycleManager chunkLifecycleManager;
+    private Task chunkLifecycleTask;
 
     // used to automatically enable the chunk loading or not
     private boolean autoChunkLoad = true;
@@ -210,7 +229,14 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Chunk> loadChunk(int chunkX, int chunkZ) {
-        return loadOrRetrieve(chunkX, chunkZ, () -> retrieveChunk(chunkX, chunkZ));
+        return loadOrRetrieve(chunkX, chunkZ, () -> {
+            // Explicitly requested, the generation cannot be cancelled
+            final long index = getChunkIndex(chunkX, chunkZ);
+            this.requiredChunks.add(index);
+            return retrieveChunk(chunkX, chunkZ).whenComplete((chunk, throwable) -> this.requiredChunks.remove(index))
+                    // Optional load cancelled before being required
+                    .thenCompose(chunk -> chunk != null ? CompletableFuture.completedFuture(chunk) : loadChunk(chunkX, chunkZ));
+        });
     }
 
     @Override
@@ -249,12 +275,66 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunkToStorage(@NotNull Chunk chunk) {
-        return chunkLoader.saveChunk(chunk);
+        // The current state supersedes any queued copy
+        this.saveQueue.discard(chunk);
+        final long stamp = chunk.modificationStamp();
+        return chunkLoader.saveChunk(chunk).thenRun(() -> chunk.markClean(stamp));
     }
 
+    /**
+     * Saves all the loaded chunks.
+     * <p>
+     * Chunks are copied on the calling thread, the copies are then written in the background
+     * by the {@link IChunkLoader}. Chunks are saved directly once too many copies are pending.
+     *
+     * @return a {@link CompletableFuture} called once the chunks have been written
+     * @see #saveDirtyChunksToStorage()
+     */
     @Override
     public @NotNull CompletableFuture<Void> saveChunksToStorage() {
-        return chunkLoader.saveChunks(getChunks());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Chunk chunk : getChunks()) {
+            final CompletableFuture<Void> future = queueChunkSave(chunk);
+            futures.add(future != null ? future : saveChunkToStorage(chunk));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Saves the chunks modified since their last save, used by the autosave.
+     * <p>
+     * Never blocks, the chunks that cannot be queued because too many copies are pending
+     * stay dirty and are saved by the next call.
+     *
+     * @return a {@link CompletableFuture} called once the queued chunks have been written
+     * @see Chunk#isDirty()
+     */
+    public @NotNull CompletableFuture<Void> saveDirtyChunksToStorage() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Chunk chunk : getChunks()) {
+            if (!chunk.isDirty()) continue;
+            final CompletableFuture<Void> future = queueChunkSave(chunk);
+            if (future != null) futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    @Nullable CompletableFuture<Void> queueChunkSave(@NotNull Chunk chunk) {
+        return saveQueue.enqueue(chunk);
+    }
+
+    /**
+     * Changes the interval at which the dirty chunks are saved using {@link #saveDirtyChunksToStorage()}.
+     * <p>
+     * The save is started from the instance tick.
+     *
+     * @param interval the autosave interval, null to disable it (default)
+     */
+    public synchronized void setAutosaveInterval(@Nullable Duration interval) {
+        final Task previous = this.autosaveTask;
+        if (previous != null) previous.cancel();
+        this.autosaveTask = interval != null ?
+                scheduler().buildTask(this::saveDirtyChunksToStorage).delay(interval).repeat(interval).schedule() : null;
     }
 
     protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
@@ -263,10 +343,67 @@ public class InstanceContainer extends Instance {
         final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
         if (prev != null) return prev;
         final IChunkLoader loader = chunkLoader;
-        final Runnable retriever = () -> loader.loadChunk(this, chunkX, chunkZ)
+        final Runnable retriever = () -> completeRetrieval(chunkX, chunkZ, loader.loadChunk(this, chunkX, chunkZ), completableFuture);
+        if (loader.supportsParallelLoading()) {
+            CompletableFuture.runAsync(retriever);
+        } else {
+            retriever.run();
+        }
+        return completableFuture;
+    }
+
+    @Override
+    public @NotNull Long2ObjectMap<CompletableFuture<@Nullable Chunk>> loadOptionalChunks(@NotNull LongCollection chunks) {
+        Long2ObjectMap<CompletableFuture<Chunk>> futures = new Long2ObjectOpenHashMap<>(chunks.size());
+        LongList missing = new LongArrayList();
+        for (long index : chunks) {
+            if (futures.containsKey(index)) continue;
+            final Chunk chunk = this.chunks.get(index);
+            if (chunk != null) {
+                // Chunk already loaded
+                futures.put(index, CompletableFuture.completedFuture(chunk));
+                continue;
+            }
+            if (!hasEnabledAutoChunkLoad()) {
+                futures.put(index, AsyncUtils.empty());
+                continue;
+            }
+            CompletableFuture<Chunk> completableFuture = new CompletableFuture<>();
+            final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
+            if (prev != null) {
+                futures.put(index, prev);
+                continue;
+            }
+            futures.put(index, completableFuture);
+            missing.add(index);
+        }
+        if (missing.isEmpty()) return futures;
+        // Request all the missing chunks at once
+        final IChunkLoader loader = chunkLoader;
+        final Runnable retriever = () -> {
+            final Long2ObjectMap<CompletableFuture<Chunk>> loaded = loader.loadChunks(this, missing);
+            for (long index : missing) {
+                final CompletableFuture<Chunk> loadFuture = Objects.requireNonNullElseGet(loaded.get(index),
+                        () -> CompletableFuture.completedFuture(null));
+                completeRetrieval(getChunkCoordX(index), getChunkCoordZ(index), loadFuture, futures.get(index));
+            }
+        };
+        if (loader.supportsParallelLoading()) {
+            CompletableFuture.runAsync(retriever);
+        } else {
+            retriever.run();
+        }
+        return futures;
+    }
+
+    private void completeRetrieval(int chunkX, int chunkZ, CompletableFuture<Chunk> loadFuture,
+                                   CompletableFuture<Chunk> completableFuture) {
+        final long index = getChunkIndex(chunkX, chunkZ);
+        loadFuture
                 .thenCompose(chunk -> {
                     if (chunk != null) {
                         // Chunk has been loaded from storage
+                        chunk.markClean();
                         return CompletableFuture.completedFuture(chunk);
                     } else {
                         // Loader couldn't load the chunk, generate it
@@ -276,6 +413,7 @@ public class InstanceContainer extends Instance {
                 // cache the retrieved chunk
                 .thenAccept(chunk -> {
                     // TODO run in the instance thread?
+                    if (INTERN_PALETTES) internPalettes(chunk);
                     cacheChunk(chunk);
                     EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
                     final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
@@ -283,15 +421,17 @@ public class InstanceContainer extends Instance {
                     completableFuture.complete(chunk);
                 })
                 .exceptionally(throwable -> {
-                    MinecraftServer.getExceptionManager().handleException(throwable);
+                    this.loadingChunks.remove(index, completableFuture);
+                    final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    if (cause instanceof CancellationException) {
+                        // Generation not needed anymore, only optional loads can be cancelled
+                        completableFuture.complete(null);
+                    } else {
+                        completableFuture.completeExceptionally(throwable);
+                        MinecraftServer.getExceptionManager().handleException(throwable);
+                    }
                     return null;
                 });
-        if (loader.supportsParallelLoading()) {
-            CompletableFuture.runAsync(retriever);
-        } else {
-            retriever.run();
-        }
-        return completableFuture;
     }
 
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
@@ -301,13 +441,27 @@ public class InstanceContainer extends Instance {
         Check.notNull(chunk, "Chunks supplied by a ChunkSupplier cannot be null.");
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
+            final GenerationCache generationCache = this.generationCache;
+            if (generationCache != null && generationCache.restore(generator, chunk)) {
+                // Same result as a previous generation
+                chunk.markDirty();
+                processFork(chunk);
+                refreshLastBlockChangeTime();
+                return CompletableFuture.completedFuture(chunk);
+            }
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            final long index = getChunkIndex(chunkX, chunkZ);
+            // Chunks requested for players are not needed anymore once all of them left
+            final boolean viewed = !chunk.getViewers().isEmpty();
+            final BooleanSupplier cancelled = () -> viewed && !requiredChunks.contains(index) && chunk.getViewers().isEmpty();
+            ChunkGenerationExecutor.submit(chunk, cancelled, () -> {
                 var chunkUnit = GeneratorImpl.chunk(chunk);
                 try {
                     // Generate block/biome palette
                     generator.generate(chunkUnit);
+                    // Not present in storage
+                    chunk.markDirty();
+                    if (generationCache != null) generationCache.store(generator, chunk, chunkUnit);
                     // Apply nbt/handler
                     if (chunkUnit.modifier() instanceof GeneratorImpl.AreaModifierImpl chunkModifier) {
                         for (var section : chunkModifier.sections()) {
@@ -353,7 +507,7 @@ public class InstanceContainer extends Instance {
                     refreshLastBlockChangeTime();
                     resultFuture.complete(chunk);
                 }
-            });
+            }, () -> resultFuture.cancel(false));
             return resultFuture;
         } else {
             // No chunk generator, execute the callback with the empty chunk
@@ -362,6 +516,18 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Shares the palettes of freshly loaded/generated sections with identical ones, copied back on write.
+     * <p>
+     * Disabled by default as every interned section is copied on its first write, even without an identical section.
+     * Set {@code minestom.palette-interning} for instances mostly read after being loaded (e.g. lobbies and minigame maps).
+     */
+    private static void internPalettes(Chunk chunk) {
+        synchronized (chunk) {
+            for (Section section : chunk.getSections()) section.intern();
+        }
+    }
+
     private void processFork(Chunk chunk) {
         this.generationForks.compute(ChunkUtils.getChunkIndex(chunk), (aLong, sectionModifiers) -> {
             if (sectionModifiers != null) {
@@ -379,6 +545,7 @@ public class InstanceContainer extends Instance {
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.blockPalette().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            chunk.markDirty();
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -533,6 +700,24 @@ public class InstanceContainer extends Instance {
         this.generator = generator;
     }
 
+    /**
+     * Gets the {@link GenerationCache} used to skip the generation of previously generated chunks.
+     *
+     * @return the generation cache, null if every chunk is generated
+     */
+    public @Nullable GenerationCache getGenerationCache() {
+        return generationCache;
+    }
+
+    /**
+     * Changes the {@link GenerationCache} of this instance, can be shared with other instances using the same generator.
+     *
+     * @param generationCache the new generation cache, null to always run the generator (default)
+     */
+    public void setGenerationCache(@Nullable GenerationCache generationCache) {
+        this.generationCache = generationCache;
+    }
+
     /**
      * Gets all the instance chunks.
      *
@@ -543,6 +728,28 @@ public class InstanceContainer extends Instance {
         return chunks.values();
     }
 
+    /**
+     * Gets the {@link ChunkLifecycleManager} unloading the unused chunks of this instance.
+     *
+     * @return the chunk lifecycle manager, null if chunks are only unloaded manually
+     */
+    public @Nullable ChunkLifecycleManager getChunkLifecycleManager() {
+        return chunkLifecycleManager;
+    }
+
+    /**
+     * Changes the {@link ChunkLifecycleManager} used to unload the unused chunks, checked every second from the instance tick.
+     *
+     * @param chunkLifecycleManager the new chunk lifecycle manager, null to only unload chunks manually (default)
+     */
+    public synchronized void setChunkLifecycleManager(@Nullable ChunkLifecycleManager chunkLifecycleManager) {
+        final Task previous = this.chunkLifecycleTask;
+        if (previous != null) previous.cancel();
+        this.chunkLifecycleManager = chunkLifecycleManager;
+        this.chunkLifecycleTask = chunkLifecycleManager != null ?
+                scheduler().buildTask(() -> chunkLifecycleManager.update(this)).repeat(TaskSchedule.seconds(1)).schedule() : null;
+    }
+
     /**
      * Gets the {@link IChunkLoader} of this instance.
      *
@@ -7,11 +7,13 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Used to register {@link Instance}.
@@ -121,6 +123,24 @@ public final class InstanceManager {
         }
     }
 
+    /**
+     * Waits for the chunks queued for saving by the instance containers to be written.
+     * <p>
+     * Called when the server stops, the save threads would otherwise be killed with the JVM.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if all the queued chunks have been written, false if the timeout elapsed
+     */
+    @ApiStatus.Internal
+    public boolean awaitPendingSaves(@NotNull Duration timeout) {
+        try {
+            return ChunkSaveQueue.awaitPending(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Gets all the registered instances.
      *
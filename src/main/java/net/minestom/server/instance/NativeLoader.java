@@ -0,0 +1,402 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.world.DimensionType;
+import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Loads and saves a whole instance from a single file, meant for small maps loaded many times (e.g. minigames).
+ * <p>
+ * Sections are stored in the palette layout used in memory and on the network, so loading a chunk
+ * does not involve any NBT parsing or block state lookup. The file is read once, the first time the loader is used,
+ * the same loader can therefore be given to multiple instances of the same map.
+ * <p>
+ * Saved chunks are kept in memory, the file is only rewritten by {@link #saveInstance(Instance)} and {@link #flush()}.
+ * <p>
+ * Block state ids are only valid for a given protocol version, use {@link #convertAnvil(Path, Path, DimensionType)}
+ * to create the file again after an update.
+ */
+@ApiStatus.Experimental
+public class NativeLoader implements IChunkLoader {
+    private final static Logger LOGGER = LoggerFactory.getLogger(NativeLoader.class);
+    private static final int MAGIC = 0x4D534E57; // MSNW
+    private static final byte FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    private volatile boolean read;
+    private volatile boolean modified;
+    private int minSection, maxSection;
+    private volatile NBTCompound instanceData = NBTCompound.EMPTY;
+    // Chunk index -> encoded chunk, see ChunkUtils#getChunkIndex
+    private final Map<Long, ByteBuffer> chunks = new ConcurrentHashMap<>();
+
+    public NativeLoader(@NotNull Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Converts an Anvil world to a file readable by {@link NativeLoader}.
+     * <p>
+     * Every chunk present in the region files is converted.
+     *
+     * @param anvilWorld    the Anvil world folder
+     * @param output        the file to create or replace
+     * @param dimensionType the registered dimension type of the world
+     * @throws IOException if the region files cannot be listed or the output cannot be written
+     */
+    public static void convertAnvil(@NotNull Path anvilWorld, @NotNull Path output,
+                                    @NotNull DimensionType dimensionType) throws IOException {
+        AnvilLoader anvilLoader = new AnvilLoader(anvilWorld);
+        // Not registered, only used to read the chunks
+        InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), dimensionType, anvilLoader);
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (long index : anvilLoader.storedChunks()) {
+            futures.add(anvilLoader.loadChunk(instance, ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index)));
+        }
+        NativeLoader loader = new NativeLoader(output);
+        loader.minSection = instance.getDimensionType().getMinY() / Chunk.CHUNK_SECTION_SIZE;
+        loader.maxSection = loader.minSection + instance.getDimensionType().getHeight() / Chunk.CHUNK_SECTION_SIZE;
+        loader.read = true;
+        loader.instanceData = instance.tagHandler().asCompound();
+        for (CompletableFuture<Chunk> future : futures) {
+            final Chunk chunk = future.join();
+            if (chunk == null) continue;
+            loader.chunks.put(ChunkUtils.getChunkIndex(chunk), encodeChunk(chunk));
+            anvilLoader.unloadChunk(chunk);
+        }
+        loader.writeFile();
+    }
+
+    @Override
+    public void loadInstance(@NotNull Instance instance) {
+        try {
+            readFile();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return;
+        }
+        final NBTCompound data = this.instanceData;
+        if (!data.isEmpty()) instance.tagHandler().updateContent(data);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        try {
+            readFile();
+            final ByteBuffer data = chunks.get(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+            if (data == null) return CompletableFuture.completedFuture(null);
+            return CompletableFuture.completedFuture(decodeChunk(instance, chunkX, chunkZ, data));
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveInstance(@NotNull Instance instance) {
+        try {
+            readFile(instance);
+            this.instanceData = instance.tagHandler().asCompound();
+            writeFile();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+        return saveChunks(List.of(chunk));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        if (chunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
+        try {
+            readFile(chunks.iterator().next().getInstance());
+            for (Chunk chunk : chunks) {
+                this.chunks.put(ChunkUtils.getChunkIndex(chunk), encodeChunk(chunk));
+            }
+            // Whole file is written at once, by saveInstance or flush
+            this.modified = true;
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    /**
+     * Writes the chunks saved since the last write to the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void flush() throws IOException {
+        if (modified) writeFile();
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
+    private @NotNull Chunk decodeChunk(Instance instance, int chunkX, int chunkZ, ByteBuffer data) {
+        final int minSection = instance.getDimensionType().getMinY() / Chunk.CHUNK_SECTION_SIZE;
+        final int sectionCount = instance.getDimensionType().getHeight() / Chunk.CHUNK_SECTION_SIZE;
+        if (minSection != this.minSection || sectionCount != maxSection - this.minSection) {
+            throw new IllegalStateException("Instance dimension type (" + instance.getDimensionType().getName() +
+                    ") does not match the stored sections " + this.minSection + " to " + maxSection);
+        }
+        NetworkBuffer reader = reader(data);
+        List<Section> sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            final Palette blockPalette = Palette.readBlocks(reader);
+            final Palette biomePalette = Palette.readBiomes(reader);
+            final byte[] skyLight = reader.read(BYTE_ARRAY);
+            final byte[] blockLight = reader.read(BYTE_ARRAY);
+            sections.add(new Section(blockPalette, biomePalette, skyLight, blockLight));
+        }
+        DynamicChunk chunk = new DynamicChunk(instance, chunkX, chunkZ, sections);
+        // Block entities
+        final int entryCount = reader.read(VAR_INT);
+        if (entryCount == 0) return chunk;
+        synchronized (chunk) {
+            for (int i = 0; i < entryCount; i++) {
+                final int index = reader.read(VAR_INT);
+                Block block = Objects.requireNonNull(Block.fromStateId((short) reader.readVarInt()));
+                if (reader.read(BOOLEAN)) {
+                    block = block.withHandler(MinecraftServer.getBlockManager().getHandlerOrDummy(reader.read(STRING)));
+                }
+                if (reader.read(BOOLEAN)) {
+                    block = block.withNbt((NBTCompound) reader.read(NBT));
+                }
+                chunk.setBlock(ChunkUtils.blockIndexToChunkPositionX(index),
+                        ChunkUtils.blockIndexToChunkPositionY(index),
+                        ChunkUtils.blockIndexToChunkPositionZ(index), block);
+            }
+        }
+        return chunk;
+    }
+
+    private static @NotNull ByteBuffer encodeChunk(@NotNull Chunk chunk) {
+        final byte[] bytes;
+        synchronized (chunk) {
+            bytes = NetworkBuffer.makeArray(writer -> {
+                for (Section section : chunk.getSections()) {
+                    writer.write(section.blockPalette());
+                    writer.write(section.biomePalette());
+                    writer.write(BYTE_ARRAY, section.getSkyLight());
+                    writer.write(BYTE_ARRAY, section.getBlockLight());
+                }
+                // Block entities
+                final Int2ObjectMap<Block> entries = blockEntries(chunk);
+                writer.write(VAR_INT, entries.size());
+                for (Int2ObjectMap.Entry<Block> entry : entries.int2ObjectEntrySet()) {
+                    final Block block = entry.getValue();
+                    final BlockHandler handler = block.handler();
+                    final NBTCompound nbt = block.nbt();
+                    writer.write(VAR_INT, entry.getIntKey());
+                    writer.write(VAR_INT, (int) block.stateId());
+                    writer.write(BOOLEAN, handler != null);
+                    if (handler != null) writer.write(STRING, handler.getNamespaceId().asString());
+                    writer.write(BOOLEAN, nbt != null);
+                    if (nbt != null) writer.write(NBT, nbt);
+                }
+            });
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static Int2ObjectMap<Block> blockEntries(Chunk chunk) {
+        if (chunk instanceof DynamicChunk dynamicChunk) return dynamicChunk.entries;
+        // Unknown implementation, look for cached blocks
+        Int2ObjectMap<Block> entries = new Int2ObjectOpenHashMap<>();
+        final int minY = chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE;
+        final int maxY = chunk.getMaxSection() * Chunk.CHUNK_SECTION_SIZE;
+        for (int y = minY; y < maxY; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                    final Block block = chunk.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                    if (block != null) entries.put(ChunkUtils.getBlockIndex(x, y, z), block);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void readFile() throws IOException {
+        readFile(null);
+    }
+
+    /**
+     * Reads the file if it has not been read yet.
+     *
+     * @param instance the instance used to initialize an empty world if the file does not exist, null to keep it unset
+     */
+    private void readFile(@Nullable Instance instance) throws IOException {
+        // Only the first use reads the file, checked without the monitor
+        if (!read) readFileLocked(instance);
+    }
+
+    private synchronized void readFileLocked(@Nullable Instance instance) throws IOException {
+        if (read) return;
+        if (!Files.exists(path)) {
+            if (instance == null) return;
+            this.minSection = instance.getDimensionType().getMinY() / Chunk.CHUNK_SECTION_SIZE;
+            this.maxSection = minSection + instance.getDimensionType().getHeight() / Chunk.CHUNK_SECTION_SIZE;
+            this.read = true;
+            return;
+        }
+        LOGGER.debug("Reading world file {}", path);
+        final ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+        NetworkBuffer reader = reader(file);
+        if (reader.readInt() != MAGIC) throw new IOException("Not a world file: " + path);
+        final byte version = reader.readByte();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported world format version " + version + ": " + path);
+        final int protocolVersion = reader.readVarInt();
+        if (protocolVersion != MinecraftServer.PROTOCOL_VERSION) {
+            throw new IOException("World file " + path + " was written for protocol " + protocolVersion +
+                    ", block states may be different. Convert it again");
+        }
+        final int minSection = reader.readByte();
+        final int maxSection = reader.readByte();
+        final int[] biomeMapping = readBiomeMapping(reader);
+        final NBTCompound instanceData = (NBTCompound) reader.read(NBT);
+        final int chunkCount = reader.readVarInt();
+        for (int i = 0; i < chunkCount; i++) {
+            final int chunkX = reader.readInt();
+            final int chunkZ = reader.readInt();
+            final int length = reader.readVarInt();
+            ByteBuffer data = file.slice(reader.readIndex(), length);
+            reader.readIndex(reader.readIndex() + length);
+            if (biomeMapping != null) data = remapBiomes(data, maxSection - minSection, biomeMapping);
+            this.chunks.put(ChunkUtils.getChunkIndex(chunkX, chunkZ), data);
+        }
+        this.minSection = minSection;
+        this.maxSection = maxSection;
+        this.instanceData = instanceData;
+        this.read = true;
+    }
+
+    private synchronized void writeFile() throws IOException {
+        NetworkBuffer writer = new NetworkBuffer(64 * 1024);
+        writer.writeInt(MAGIC);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeVarInt(MinecraftServer.PROTOCOL_VERSION);
+        writer.writeByte((byte) minSection);
+        writer.writeByte((byte) maxSection);
+        final Collection<Biome> biomes = MinecraftServer.getBiomeManager().unmodifiableCollection();
+        writer.writeVarInt(biomes.size());
+        for (Biome biome : biomes) {
+            writer.writeVarInt(biome.id());
+            writer.write(STRING, biome.name().asString());
+        }
+        writer.write(NBT, instanceData);
+        // Reset before the copy, chunks saved in the meantime are written by the next call
+        this.modified = false;
+        final Map<Long, ByteBuffer> chunks = Map.copyOf(this.chunks);
+        writer.writeVarInt(chunks.size());
+        for (Map.Entry<Long, ByteBuffer> entry : chunks.entrySet()) {
+            final long index = entry.getKey();
+            final ByteBuffer data = entry.getValue();
+            writer.writeInt(ChunkUtils.getChunkCoordX(index));
+            writer.writeInt(ChunkUtils.getChunkCoordZ(index));
+            writer.writeVarInt(data.remaining());
+            writer.write(RAW_BYTES, bytes(data));
+        }
+        byte[] bytes = new byte[writer.writeIndex()];
+        writer.copyTo(0, bytes, 0, bytes.length);
+        // Replace the file at once so that a crash cannot leave a partially written world
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.modified = true;
+            throw e;
+        }
+        LOGGER.debug("Wrote {} chunks to {}", chunks.size(), path);
+    }
+
+    /**
+     * Reads the stored biome ids and maps them to the ids currently registered.
+     *
+     * @return the stored id to current id mapping, null if all ids are identical
+     */
+    private static int @Nullable [] readBiomeMapping(NetworkBuffer reader) {
+        final int count = reader.readVarInt();
+        int[] mapping = null;
+        boolean identical = true;
+        for (int i = 0; i < count; i++) {
+            final int id = reader.readVarInt();
+            final String name = reader.read(STRING);
+            Biome biome = MinecraftServer.getBiomeManager().getByName(NamespaceID.from(name));
+            if (biome == null) {
+                LOGGER.warn("Unknown biome {}, replaced by {}", name, Biome.PLAINS.name());
+                biome = Biome.PLAINS;
+            }
+            if (mapping == null || id >= mapping.length) {
+                mapping = mapping == null ? new int[Math.max(count, id + 1)] : Arrays.copyOf(mapping, id + 1);
+            }
+            mapping[id] = biome.id();
+            identical &= id == biome.id();
+        }
+        return identical ? null : mapping;
+    }
+
+    private static ByteBuffer remapBiomes(ByteBuffer data, int sectionCount, int[] mapping) {
+        NetworkBuffer reader = reader(data);
+        return ByteBuffer.wrap(NetworkBuffer.makeArray(writer -> {
+            for (int i = 0; i < sectionCount; i++) {
+                writer.write(Palette.readBlocks(reader));
+                final Palette biomePalette = Palette.readBiomes(reader);
+                biomePalette.replaceAll((x, y, z, value) -> value < mapping.length ? mapping[value] : Biome.PLAINS.id());
+                writer.write(biomePalette);
+                writer.write(BYTE_ARRAY, reader.read(BYTE_ARRAY));
+                writer.write(BYTE_ARRAY, reader.read(BYTE_ARRAY));
+            }
+            // Block entities
+            writer.write(RAW_BYTES, reader.readBytes(reader.readableBytes()));
+        }));
+    }
+
+    private static NetworkBuffer reader(ByteBuffer data) {
+        NetworkBuffer reader = new NetworkBuffer(data.duplicate().clear(), false);
+        reader.writeIndex(data.limit());
+        return reader;
+    }
+
+    private static byte[] bytes(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.get(data.position(), bytes);
+        return bytes;
+    }
+}
@@ -12,7 +12,7 @@ public final class Section implements NetworkBuffer.Writer {
     private byte[] skyLight;
     private byte[] blockLight;
 
-    private Section(Palette blockPalette, Palette biomePalette,
+    Section(Palette blockPalette, Palette biomePalette,
                     byte[] skyLight, byte[] blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -33,6 +33,19 @@ public final class Section implements NetworkBuffer.Writer {
         return biomePalette;
     }
 
+    void setPalettes(@NotNull Palette blockPalette, @NotNull Palette biomePalette) {
+        this.blockPalette = blockPalette;
+        this.biomePalette = biomePalette;
+    }
+
+    /**
+     * Shares the palettes with identical sections, see {@link Palette#intern()}.
+     */
+    void intern() {
+        this.blockPalette.intern();
+        this.biomePalette.intern();
+    }
+
     public byte[] getSkyLight() {
         return skyLight;
     }
@@ -1,5 +1,7 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.block.Block;
@@ -50,6 +52,11 @@ public class SharedInstance extends Instance {
         return instanceContainer.loadOptionalChunk(chunkX, chunkZ);
     }
 
+    @Override
+    public @NotNull Long2ObjectMap<CompletableFuture<@Nullable Chunk>> loadOptionalChunks(@NotNull LongCollection chunks) {
+        return instanceContainer.loadOptionalChunks(chunks);
+    }
+
     @Override
     public void unloadChunk(@NotNull Chunk chunk) {
         instanceContainer.unloadChunk(chunk);
@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.network.NetworkBuffer;
@@ -8,6 +9,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.function.IntUnaryOperator;
 
+import static net.minestom.server.network.NetworkBuffer.*;
+
 /**
  * Palette that switches between its backend based on the use case.
  */
@@ -23,6 +26,23 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette = new FilledPalette(dimension, 0);
     }
 
+    static AdaptivePalette read(NetworkBuffer reader, byte dimension, byte maxBitsPerEntry, byte defaultBitsPerEntry) {
+        AdaptivePalette adaptivePalette = new AdaptivePalette(dimension, maxBitsPerEntry, defaultBitsPerEntry);
+        final byte bitsPerEntry = reader.read(BYTE);
+        if (bitsPerEntry == 0) {
+            final int value = reader.read(VAR_INT);
+            reader.read(LONG_ARRAY); // Empty
+            adaptivePalette.palette = new FilledPalette(dimension, value);
+        } else {
+            final boolean hasPalette = bitsPerEntry <= maxBitsPerEntry;
+            final IntArrayList paletteToValueList = hasPalette ?
+                    new IntArrayList(reader.readCollection(VAR_INT)) : IntArrayList.of(0);
+            final long[] values = reader.read(LONG_ARRAY);
+            adaptivePalette.palette = new FlexiblePalette(adaptivePalette, bitsPerEntry, paletteToValueList, values);
+        }
+        return adaptivePalette;
+    }
+
     @Override
     public int get(int x, int y, int z) {
         if (x < 0 || y < 0 || z < 0) {
@@ -51,14 +71,33 @@ final class AdaptivePalette implements Palette, Cloneable {
 
     @Override
     public void fill(int value) {
-        this.palette = new FilledPalette(dimension, value);
+        setPalette(new FilledPalette(dimension, value));
+    }
+
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        if (minX < 0 || minY < 0 || minZ < 0) {
+            throw new IllegalArgumentException("Coordinates must be positive");
+        }
+        final byte dimension = this.dimension;
+        if (maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Coordinates must be within the palette dimension");
+        }
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        if (minX == 0 && minY == 0 && minZ == 0 && maxX == dimension && maxY == dimension && maxZ == dimension) {
+            fill(value);
+            return;
+        }
+        if (palette instanceof FilledPalette filledPalette && filledPalette.value() == value)
+            return; // Nothing to change
+        flexiblePalette().fill(minX, minY, minZ, maxX, maxY, maxZ, value);
     }
 
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
         SpecializedPalette newPalette = new FlexiblePalette(this);
         newPalette.setAll(supplier);
-        this.palette = newPalette;
+        setPalette(newPalette);
     }
 
     @Override
@@ -79,6 +118,21 @@ final class AdaptivePalette implements Palette, Cloneable {
         return palette.count();
     }
 
+    @Override
+    public void intern() {
+        final SpecializedPalette optimized = optimizedPalette();
+        if (optimized instanceof FilledPalette filledPalette) {
+            setPalette(PaletteInterner.intern(filledPalette));
+        } else if (optimized instanceof FlexiblePalette flexiblePalette) {
+            setPalette(PaletteInterner.intern(flexiblePalette));
+        }
+    }
+
+    @Override
+    public boolean isShared() {
+        return palette.isShared();
+    }
+
     @Override
     public int bitsPerEntry() {
         return palette.bitsPerEntry();
@@ -98,7 +152,10 @@ final class AdaptivePalette implements Palette, Cloneable {
     public @NotNull Palette clone() {
         try {
             AdaptivePalette adaptivePalette = (AdaptivePalette) super.clone();
-            adaptivePalette.palette = palette.clone();
+            // Copied on write
+            final SpecializedPalette palette = this.palette;
+            adaptivePalette.palette = palette instanceof FlexiblePalette flexiblePalette ?
+                    flexiblePalette.share(this, adaptivePalette) : palette.clone();
             return adaptivePalette;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
@@ -108,7 +165,7 @@ final class AdaptivePalette implements Palette, Cloneable {
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         final SpecializedPalette optimized = optimizedPalette();
-        this.palette = optimized;
+        setPalette(optimized);
         optimized.write(writer);
     }
 
@@ -128,6 +185,10 @@ final class AdaptivePalette implements Palette, Cloneable {
                     return new FilledPalette(dimension, entries.iterator().nextInt());
                 } else if (currentBitsPerEntry > defaultBitsPerEntry &&
                         (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
+                    if (flexiblePalette.isShared()) {
+                        flexiblePalette = flexiblePalette.unshare(this);
+                        this.palette = flexiblePalette;
+                    }
                     flexiblePalette.resize((byte) bitsPerEntry);
                     return flexiblePalette;
                 }
@@ -142,10 +203,20 @@ final class AdaptivePalette implements Palette, Cloneable {
             currentPalette = new FlexiblePalette(this);
             currentPalette.fill(filledPalette.value());
             this.palette = currentPalette;
+        } else if (currentPalette instanceof FlexiblePalette flexiblePalette && flexiblePalette.isShared()) {
+            // Referenced by a clone
+            currentPalette = flexiblePalette.unshare(this);
+            this.palette = currentPalette;
         }
         return currentPalette;
     }
 
+    private void setPalette(SpecializedPalette palette) {
+        final SpecializedPalette previous = this.palette;
+        if (previous != palette && previous instanceof FlexiblePalette flexiblePalette) flexiblePalette.release(this);
+        this.palette = palette;
+    }
+
     private static void validateDimension(int dimension) {
         if (dimension <= 1 || (dimension & dimension - 1) != 0)
             throw new IllegalArgumentException("Dimension must be a positive power of 2");
@@ -35,6 +35,11 @@ record FilledPalette(byte dim, int value) implements SpecializedPalette.Immutabl
         return value != 0 ? maxSize() : 0;
     }
 
+    @Override
+    public int bitsPerEntry() {
+        return 0;
+    }
+
     @Override
     public int dimension() {
         return dim;
@@ -7,8 +7,10 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
 import java.util.function.IntUnaryOperator;
 
 import static net.minestom.server.network.NetworkBuffer.*;
@@ -29,6 +31,11 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     IntArrayList paletteToValueList;
     // value = palette index
     private Int2IntOpenHashMap valueToPaletteMap;
+    // Adaptive palettes referencing this one, copied before being modified when another one is still reachable
+    // Null while only referenced by a single palette, weak so that unreachable copies stop sharing it
+    private volatile List<WeakReference<AdaptivePalette>> owners;
+    // Referenced by the interner, never modified again
+    private volatile boolean interned;
 
     FlexiblePalette(AdaptivePalette adaptivePalette, byte bitsPerEntry) {
         this.adaptivePalette = adaptivePalette;
@@ -49,6 +56,38 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this(adaptivePalette, adaptivePalette.defaultBitsPerEntry);
     }
 
+    FlexiblePalette(AdaptivePalette adaptivePalette, byte bitsPerEntry,
+                    IntArrayList paletteToValueList, long[] values) {
+        this.adaptivePalette = adaptivePalette;
+        this.bitsPerEntry = bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        if (values.length != (maxSize() + valuesPerLong - 1) / valuesPerLong)
+            throw new IllegalArgumentException("Invalid palette data length " + values.length + " for " + bitsPerEntry + " bits per entry");
+        if (paletteToValueList.isEmpty() || paletteToValueList.getInt(0) != 0)
+            throw new IllegalArgumentException("Palette must start with the default value");
+
+        this.paletteToValueList = paletteToValueList;
+        this.valueToPaletteMap = new Int2IntOpenHashMap(paletteToValueList.size());
+        this.valueToPaletteMap.defaultReturnValue(-1);
+        for (int i = 0; i < paletteToValueList.size(); i++) {
+            this.valueToPaletteMap.put(paletteToValueList.getInt(i), i);
+        }
+        this.values = values;
+        // Index 0 is always the default value
+        int count = 0;
+        final int size = maxSize();
+        final int magicMask = (1 << bitsPerEntry) - 1;
+        for (int i = 0; i < values.length; i++) {
+            final long value = values[i];
+            final int startIndex = i * valuesPerLong;
+            final int endIndex = Math.min(startIndex + valuesPerLong, size);
+            for (int index = startIndex; index < endIndex; index++) {
+                if ((value >> (index - startIndex) * bitsPerEntry & magicMask) != 0) count++;
+            }
+        }
+        this.count = count;
+    }
+
     @Override
     public int get(int x, int y, int z) {
         final int bitsPerEntry = this.bitsPerEntry;
@@ -109,6 +148,47 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this.count = maxSize();
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        value = getPaletteIndex(value);
+        // Retrieved after the potential resize
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long[] values = this.values;
+        final int dimension = dimension();
+        int count = this.count;
+        if (minX == 0 && minZ == 0 && maxX == dimension && maxZ == dimension) {
+            // Complete layers are contiguous, replace whole longs when possible
+            final int startIndex = minY * dimension * dimension;
+            final int endIndex = maxY * dimension * dimension;
+            long block = 0;
+            for (int i = 0; i < valuesPerLong; i++)
+                block |= (long) value << i * bitsPerEntry;
+            int index = startIndex;
+            while (index < endIndex) {
+                if (index % valuesPerLong == 0 && index + valuesPerLong <= endIndex) {
+                    final int longIndex = index / valuesPerLong;
+                    if (count != 0) count -= presentCount(values[longIndex], bitsPerEntry, valuesPerLong);
+                    values[longIndex] = block;
+                    index += valuesPerLong;
+                } else {
+                    if (write(values, bitsPerEntry, valuesPerLong, index++, value)) count--;
+                }
+            }
+        } else {
+            for (int y = minY; y < maxY; y++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    for (int x = minX; x < maxX; x++) {
+                        final int sectionIndex = getSectionIndex(dimension, x, y, z);
+                        if (write(values, bitsPerEntry, valuesPerLong, sectionIndex, value)) count--;
+                    }
+                }
+            }
+        }
+        if (value != 0) count += (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+        this.count = count;
+    }
+
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
         int[] cache = WRITE_CACHE.get();
@@ -201,6 +281,8 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
             palette.paletteToValueList = paletteToValueList.clone();
             palette.valueToPaletteMap = valueToPaletteMap.clone();
             palette.count = count;
+            palette.owners = null;
+            palette.interned = false;
             return palette;
         } catch (CloneNotSupportedException e) {
             MinecraftServer.getExceptionManager().handleException(e);
@@ -266,6 +348,29 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
+    /**
+     * Writes a palette index without updating the count.
+     *
+     * @return true if the previous entry was not the default value
+     */
+    private static boolean write(long[] values, int bitsPerEntry, int valuesPerLong, int sectionIndex, int value) {
+        final int index = sectionIndex / valuesPerLong;
+        final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
+        final long block = values[index];
+        final long clear = (1L << bitsPerEntry) - 1L;
+        values[index] = block & ~(clear << bitIndex) | ((long) value << bitIndex);
+        return (block >> bitIndex & clear) != 0;
+    }
+
+    private static int presentCount(long block, int bitsPerEntry, int valuesPerLong) {
+        final long clear = (1L << bitsPerEntry) - 1L;
+        int count = 0;
+        for (int i = 0; i < valuesPerLong; i++) {
+            if ((block >> i * bitsPerEntry & clear) != 0) count++;
+        }
+        return count;
+    }
+
     void resize(byte newBitsPerEntry) {
         newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? 15 : newBitsPerEntry;
         FlexiblePalette palette = new FlexiblePalette(adaptivePalette, newBitsPerEntry);
@@ -293,6 +398,69 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         return lastPaletteIndex;
     }
 
+    long[] values() {
+        return values;
+    }
+
+    /**
+     * Shares this palette with a new owner.
+     *
+     * @param owner    the current owner
+     * @param newOwner the palette referencing this one from now on
+     */
+    synchronized FlexiblePalette share(AdaptivePalette owner, AdaptivePalette newOwner) {
+        if (interned) return this;
+        List<WeakReference<AdaptivePalette>> owners = this.owners;
+        if (owners == null) {
+            owners = new ArrayList<>(2);
+            owners.add(new WeakReference<>(owner));
+        }
+        owners.add(new WeakReference<>(newOwner));
+        this.owners = owners;
+        return this;
+    }
+
+    /**
+     * Marks this palette as referenced by the interner, it is never modified again.
+     */
+    FlexiblePalette intern() {
+        this.interned = true;
+        return this;
+    }
+
+    @Override
+    public boolean isShared() {
+        if (interned) return true;
+        if (owners == null) return false;
+        synchronized (this) {
+            final List<WeakReference<AdaptivePalette>> owners = this.owners;
+            if (owners == null) return false;
+            owners.removeIf(reference -> reference.refersTo(null));
+            if (owners.size() > 1) return true;
+            this.owners = null;
+            return false;
+        }
+    }
+
+    /**
+     * Copies this palette for a single owner, must be called instead of modifying a shared palette.
+     */
+    FlexiblePalette unshare(AdaptivePalette owner) {
+        FlexiblePalette palette = (FlexiblePalette) clone();
+        release(owner);
+        return palette;
+    }
+
+    /**
+     * Removes an owner, called when it stops referencing this palette.
+     */
+    synchronized void release(AdaptivePalette owner) {
+        final List<WeakReference<AdaptivePalette>> owners = this.owners;
+        if (owners == null) return;
+        owners.removeIf(reference -> reference.refersTo(owner) || reference.refersTo(null));
+        if (owners.size() <= 1) this.owners = null;
+    }
+
     boolean hasPalette() {
         return bitsPerEntry <= maxBitsPerEntry();
     }
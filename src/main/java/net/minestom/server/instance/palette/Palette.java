@@ -23,6 +23,18 @@ public interface Palette extends NetworkBuffer.Writer {
         return new AdaptivePalette((byte) dimension, (byte) maxBitsPerEntry, (byte) bitsPerEntry);
     }
 
+    /**
+     * Reads a block palette in the layout written by {@link #write(NetworkBuffer)},
+     * the entries are used as-is without being re-encoded.
+     */
+    static @NotNull Palette readBlocks(@NotNull NetworkBuffer reader) {
+        return AdaptivePalette.read(reader, (byte) 16, (byte) 8, (byte) 4);
+    }
+
+    static @NotNull Palette readBiomes(@NotNull NetworkBuffer reader) {
+        return AdaptivePalette.read(reader, (byte) 4, (byte) 3, (byte) 1);
+    }
+
     int get(int x, int y, int z);
 
     void getAll(@NotNull EntryConsumer consumer);
@@ -33,6 +45,11 @@ public interface Palette extends NetworkBuffer.Writer {
 
     void fill(int value);
 
+    /**
+     * Sets every entry from the min (inclusive) to the max (exclusive) coordinates to {@code value}.
+     */
+    void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value);
+
     void setAll(@NotNull EntrySupplier supplier);
 
     void replace(int x, int y, int z, @NotNull IntUnaryOperator operator);
@@ -61,6 +78,39 @@ public interface Palette extends NetworkBuffer.Writer {
         return dimension * dimension * dimension;
     }
 
+    /**
+     * Returns an estimation of the heap memory used by the entries of this palette.
+     */
+    default long estimatedMemory() {
+        final int bitsPerEntry = bitsPerEntry();
+        if (bitsPerEntry == 0) return Integer.BYTES; // Single value
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long values = (long) ((maxSize() + valuesPerLong - 1) / valuesPerLong) * Long.BYTES;
+        // Indirect palettes also map values to palette indexes and back
+        final long palette = bitsPerEntry <= maxBitsPerEntry() ? (1L << bitsPerEntry) * 3 * Integer.BYTES : 0;
+        return values + palette;
+    }
+
+    /**
+     * Returns true if the entries of this palette are shared with one of its reachable clones or are interned,
+     * they are copied on the next write.
+     * <p>
+     * Clones are weakly tracked, an unreachable clone stops sharing the entries once garbage collected.
+     */
+    default boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Replaces the entries of this palette by an identical read-only copy shared with other palettes,
+     * the entries are copied back on the next write.
+     */
+    default void intern() {
+    }
+
+    /**
+     * Creates a copy of this palette, the entries are only copied once either palette is modified.
+     */
     @NotNull Palette clone();
 
     @FunctionalInterface
@@ -0,0 +1,95 @@
+package net.minestom.server.instance.palette;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates palettes with identical content.
+ * <p>
+ * Interned flexible palettes are never modified again and copied by their owners on write. Entries are removed once the palette is not referenced anymore.
+ */
+final class PaletteInterner {
+    private static final Map<Long, FilledPalette> FILLED_PALETTES = new ConcurrentHashMap<>();
+    private static final Map<Content, Entry> FLEXIBLE_PALETTES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<FlexiblePalette> QUEUE = new ReferenceQueue<>();
+
+    private PaletteInterner() {
+    }
+
+    static FilledPalette intern(FilledPalette palette) {
+        final long key = (long) palette.dim() << 32 | (palette.value() & 0xFFFFFFFFL);
+        return FILLED_PALETTES.computeIfAbsent(key, k -> palette);
+    }
+
+    static FlexiblePalette intern(FlexiblePalette palette) {
+        purge();
+        final Content content = new Content(palette);
+        while (true) {
+            final Entry entry = FLEXIBLE_PALETTES.get(content);
+            if (entry != null) {
+                final FlexiblePalette interned = entry.get();
+                if (interned != null) return interned;
+                FLEXIBLE_PALETTES.remove(content, entry);
+                continue;
+            }
+            if (FLEXIBLE_PALETTES.putIfAbsent(content, new Entry(palette, content)) == null) {
+                // Read-only from now on
+                return palette.intern();
+            }
+        }
+    }
+
+    private static void purge() {
+        Reference<? extends FlexiblePalette> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            final Entry entry = (Entry) reference;
+            FLEXIBLE_PALETTES.remove(entry.content, entry);
+        }
+    }
+
+    private static final class Entry extends WeakReference<FlexiblePalette> {
+        private final Content content;
+
+        private Entry(FlexiblePalette palette, Content content) {
+            super(palette, QUEUE);
+            this.content = content;
+        }
+    }
+
+    private static final class Content {
+        private final int dimension;
+        private final int bitsPerEntry;
+        private final long[] values;
+        private final IntArrayList paletteToValueList;
+        private final int hash;
+
+        private Content(FlexiblePalette palette) {
+            this.dimension = palette.dimension();
+            this.bitsPerEntry = palette.bitsPerEntry();
+            this.values = palette.values();
+            this.paletteToValueList = palette.paletteToValueList;
+            int hash = 31 * dimension + bitsPerEntry;
+            hash = 31 * hash + Arrays.hashCode(values);
+            this.hash = 31 * hash + paletteToValueList.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Content content)) return false;
+            return hash == content.hash && dimension == content.dimension && bitsPerEntry == content.bitsPerEntry &&
+                    Arrays.equals(values, content.values) && paletteToValueList.equals(content.paletteToValueList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
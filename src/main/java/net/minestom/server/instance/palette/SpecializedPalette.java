@@ -29,6 +29,11 @@ interface SpecializedPalette extends Palette {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         default void setAll(@NotNull EntrySupplier supplier) {
             throw new UnsupportedOperationException();
@@ -12,10 +12,25 @@ import java.util.function.Consumer;
 
 import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.NBT;
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
 
-record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
+final class ItemMetaImpl implements ItemMeta {
     static final ItemMetaImpl EMPTY = new ItemMetaImpl(TagHandler.newHandler());
 
+    private final TagHandler tagHandler;
+    /**
+     * Network encoding of {@link #toNBT()}, computed on first write.
+     */
+    private volatile Encoded encoded;
+
+    ItemMetaImpl(TagHandler tagHandler) {
+        this.tagHandler = tagHandler;
+    }
+
+    TagHandler tagHandler() {
+        return tagHandler;
+    }
+
     @Override
     public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
         return tagHandler.getTag(tag);
@@ -45,7 +60,12 @@ record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
             writer.write(BYTE, (byte) 0);
             return;
         }
-        writer.write(NBT, nbt);
+        Encoded encoded = this.encoded;
+        if (encoded == null || (encoded.nbt != nbt && !encoded.nbt.equals(nbt))) {
+            final byte[] bytes = NetworkBuffer.makeArray(buffer -> buffer.write(NBT, nbt));
+            this.encoded = encoded = new Encoded(nbt, bytes);
+        }
+        writer.write(RAW_BYTES, encoded.bytes);
     }
 
     @Override
@@ -65,6 +85,9 @@ record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
         return toSNBT();
     }
 
+    private record Encoded(NBTCompound nbt, byte[] bytes) {
+    }
+
     record Builder(TagHandler tagHandler) implements ItemMeta.Builder {
         @Override
         public @NotNull ItemMetaImpl build() {
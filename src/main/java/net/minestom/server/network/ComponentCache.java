@@ -0,0 +1,82 @@
+package net.minestom.server.network;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cache of the UTF-8 JSON encoding of components written through {@link NetworkBuffer#COMPONENT}.
+ * <p>
+ * Scoreboards, tab lists, boss bars and action bars tend to write the same components every tick,
+ * components are immutable so their encoding can be reused as long as they are equal.
+ * The cache is bounded by the total size of the encoded bytes ({@code minestom.component-cache.max-bytes}),
+ * a value of 0 disables it.
+ */
+@ApiStatus.Experimental
+public final class ComponentCache {
+    private static final long MAX_BYTES = Long.getLong("minestom.component-cache.max-bytes", 4 * 1024 * 1024);
+    /**
+     * Components whose encoding is larger than this are not cached.
+     */
+    private static final int MAX_ENTRY_BYTES = Integer.getInteger("minestom.component-cache.max-entry-bytes", 8 * 1024);
+
+    private static final Cache<Component, byte[]> CACHE = MAX_BYTES > 0 ? Caffeine.newBuilder()
+            .maximumWeight(MAX_BYTES)
+            .<Component, byte[]>weigher((component, bytes) -> bytes.length)
+            .executor(Runnable::run)
+            .recordStats()
+            .build() : null;
+
+    private ComponentCache() {
+    }
+
+    static byte[] serialize(@NotNull Component component) {
+        final Cache<Component, byte[]> cache = CACHE;
+        if (cache == null) return encode(component);
+        byte[] bytes = cache.getIfPresent(component);
+        if (bytes == null) {
+            bytes = encode(component);
+            if (bytes.length <= MAX_ENTRY_BYTES) cache.put(component, bytes);
+        }
+        return bytes;
+    }
+
+    private static byte[] encode(Component component) {
+        final String json = GsonComponentSerializer.gson().serialize(component);
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static boolean isEnabled() {
+        return CACHE != null;
+    }
+
+    public static long getHitCount() {
+        return CACHE != null ? CACHE.stats().hitCount() : 0;
+    }
+
+    public static long getMissCount() {
+        return CACHE != null ? CACHE.stats().missCount() : 0;
+    }
+
+    public static double getHitRate() {
+        return CACHE != null ? CACHE.stats().hitRate() : 0;
+    }
+
+    /**
+     * Gets the number of cached encodings, approximate.
+     *
+     * @return the number of cached components
+     */
+    public static long getSize() {
+        return CACHE != null ? CACHE.estimatedSize() : 0;
+    }
+
+    public static void invalidateAll() {
+        if (CACHE != null) CACHE.invalidateAll();
+    }
+}
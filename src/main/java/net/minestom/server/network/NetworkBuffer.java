@@ -4,6 +4,7 @@ import net.kyori.adventure.text.Component;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.item.ItemStack;
+import net.minestom.server.utils.BufferPool;
 import net.minestom.server.utils.Direction;
 import net.minestom.server.utils.Either;
 import org.jetbrains.annotations.ApiStatus;
@@ -60,20 +61,27 @@ public final class NetworkBuffer {
 
     ByteBuffer nioBuffer;
     final boolean resizable;
+    // Grows through the buffer pool size classes, releasing the previous buffer
+    final boolean pooled;
     int writeIndex;
     int readIndex;
 
     NBTWriter nbtWriter;
     NBTReader nbtReader;
 
-    public NetworkBuffer(@NotNull ByteBuffer buffer, boolean resizable) {
+    private NetworkBuffer(@NotNull ByteBuffer buffer, boolean resizable, boolean pooled) {
         this.nioBuffer = buffer.order(ByteOrder.BIG_ENDIAN);
         this.resizable = resizable;
+        this.pooled = pooled;
 
         this.writeIndex = buffer.position();
         this.readIndex = buffer.position();
     }
 
+    public NetworkBuffer(@NotNull ByteBuffer buffer, boolean resizable) {
+        this(buffer, resizable, false);
+    }
+
     public NetworkBuffer(@NotNull ByteBuffer buffer) {
         this(buffer, true);
     }
@@ -86,6 +94,20 @@ public final class NetworkBuffer {
         this(1024);
     }
 
+    /**
+     * Creates a buffer writing into {@code buffer}, obtained from {@link BufferPool#acquire(int)}.
+     * <p>
+     * Once full, the content is moved to a buffer of the next size class and the previous one is released,
+     * the current buffer must be retrieved using {@link #nioBuffer()} once written.
+     *
+     * @param buffer the pooled buffer to start with
+     * @return a resizable buffer
+     */
+    @ApiStatus.Internal
+    public static @NotNull NetworkBuffer pooled(@NotNull ByteBuffer buffer) {
+        return new NetworkBuffer(buffer, true, true);
+    }
+
     public <T> void write(@NotNull Type<T> type, @NotNull T value) {
         var impl = (NetworkBufferTypes.TypeImpl<T>) type;
         final long length = impl.writer().write(this, value);
@@ -101,6 +123,72 @@ public final class NetworkBuffer {
         return impl.reader().read(this);
     }
 
+    // Primitive variants of write(Type, value) and read(Type), without boxing
+
+    public void writeBoolean(boolean value) {
+        this.writeIndex += NetworkBufferTypes.writeBoolean(this, value);
+    }
+
+    public void writeByte(byte value) {
+        this.writeIndex += NetworkBufferTypes.writeByte(this, value);
+    }
+
+    public void writeShort(short value) {
+        this.writeIndex += NetworkBufferTypes.writeShort(this, value);
+    }
+
+    public void writeInt(int value) {
+        this.writeIndex += NetworkBufferTypes.writeInt(this, value);
+    }
+
+    public void writeLong(long value) {
+        this.writeIndex += NetworkBufferTypes.writeLong(this, value);
+    }
+
+    public void writeFloat(float value) {
+        this.writeIndex += NetworkBufferTypes.writeFloat(this, value);
+    }
+
+    public void writeDouble(double value) {
+        this.writeIndex += NetworkBufferTypes.writeDouble(this, value);
+    }
+
+    public void writeVarInt(int value) {
+        this.writeIndex += NetworkBufferTypes.writeVarInt(this, value);
+    }
+
+    public boolean readBoolean() {
+        return NetworkBufferTypes.readBoolean(this);
+    }
+
+    public byte readByte() {
+        return NetworkBufferTypes.readByte(this);
+    }
+
+    public short readShort() {
+        return NetworkBufferTypes.readShort(this);
+    }
+
+    public int readInt() {
+        return NetworkBufferTypes.readInt(this);
+    }
+
+    public long readLong() {
+        return NetworkBufferTypes.readLong(this);
+    }
+
+    public float readFloat() {
+        return NetworkBufferTypes.readFloat(this);
+    }
+
+    public double readDouble() {
+        return NetworkBufferTypes.readDouble(this);
+    }
+
+    public int readVarInt() {
+        return NetworkBufferTypes.readVarInt(this);
+    }
+
     public <T> void writeOptional(@NotNull Type<T> type, @Nullable T value) {
         write(BOOLEAN, value != null);
         if (value != null) write(type, value);
@@ -253,10 +341,27 @@ public final class NetworkBuffer {
         return writeIndex - readIndex;
     }
 
+    /**
+     * Gets the buffer currently backing this network buffer, which changes when it is resized.
+     *
+     * @return the backing buffer
+     */
+    @ApiStatus.Internal
+    public @NotNull ByteBuffer nioBuffer() {
+        return nioBuffer;
+    }
+
     void ensureSize(int length) {
         if (!resizable) return;
         if (nioBuffer.capacity() < writeIndex + length) {
             final int newCapacity = Math.max(nioBuffer.capacity() * 2, writeIndex + length);
+            if (pooled) {
+                final ByteBuffer previous = nioBuffer;
+                nioBuffer = BufferPool.acquire(newCapacity).order(ByteOrder.BIG_ENDIAN)
+                        .put(0, previous, 0, writeIndex);
+                BufferPool.release(previous);
+                return;
+            }
             ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity);
             nioBuffer.position(0);
             newBuffer.put(nioBuffer);
@@ -23,38 +23,14 @@ final class NetworkBufferTypes {
     private static final int CONTINUE_BIT = 0x80;
 
     static final TypeImpl<Boolean> BOOLEAN = new TypeImpl<>(Boolean.class,
-            (buffer, value) -> {
-                buffer.ensureSize(1);
-                buffer.nioBuffer.put(buffer.writeIndex(), value ? (byte) 1 : (byte) 0);
-                return 1;
-            },
-            buffer -> {
-                final byte value = buffer.nioBuffer.get(buffer.readIndex());
-                buffer.readIndex += 1;
-                return value == 1;
-            });
+            (buffer, value) -> writeBoolean(buffer, value),
+            NetworkBufferTypes::readBoolean);
     static final TypeImpl<Byte> BYTE = new TypeImpl<>(Byte.class,
-            (buffer, value) -> {
-                buffer.ensureSize(1);
-                buffer.nioBuffer.put(buffer.writeIndex(), value);
-                return 1;
-            },
-            buffer -> {
-                final byte value = buffer.nioBuffer.get(buffer.readIndex());
-                buffer.readIndex += 1;
-                return value;
-            });
+            (buffer, value) -> writeByte(buffer, value),
+            NetworkBufferTypes::readByte);
     static final TypeImpl<Short> SHORT = new TypeImpl<>(Short.class,
-            (buffer, value) -> {
-                buffer.ensureSize(2);
-                buffer.nioBuffer.putShort(buffer.writeIndex(), value);
-                return 2;
-            },
-            buffer -> {
-                final short value = buffer.nioBuffer.getShort(buffer.readIndex());
-                buffer.readIndex += 2;
-                return value;
-            });
+            (buffer, value) -> writeShort(buffer, value),
+            NetworkBufferTypes::readShort);
     static final TypeImpl<Integer> UNSIGNED_SHORT = new TypeImpl<>(Integer.class,
             (buffer, value) -> {
                 buffer.ensureSize(2);
@@ -67,96 +43,20 @@ final class NetworkBufferTypes {
                 return value & 0xFFFF;
             });
     static final TypeImpl<Integer> INT = new TypeImpl<>(Integer.class,
-            (buffer, value) -> {
-                buffer.ensureSize(4);
-                buffer.nioBuffer.putInt(buffer.writeIndex(), value);
-                return 4;
-            },
-            buffer -> {
-                final int value = buffer.nioBuffer.getInt(buffer.readIndex());
-                buffer.readIndex += 4;
-                return value;
-            });
+            (buffer, value) -> writeInt(buffer, value),
+            NetworkBufferTypes::readInt);
     static final TypeImpl<Long> LONG = new TypeImpl<>(Long.class,
-            (buffer, value) -> {
-                buffer.ensureSize(8);
-                buffer.nioBuffer.putLong(buffer.writeIndex(), value);
-                return 8;
-            },
-            buffer -> {
-                final long value = buffer.nioBuffer.getLong(buffer.readIndex());
-                buffer.readIndex += 8;
-                return value;
-            });
+            (buffer, value) -> writeLong(buffer, value),
+            NetworkBufferTypes::readLong);
     static final TypeImpl<Float> FLOAT = new TypeImpl<>(Float.class,
-            (buffer, value) -> {
-                buffer.ensureSize(4);
-                buffer.nioBuffer.putFloat(buffer.writeIndex(), value);
-                return 4;
-            },
-            buffer -> {
-                final float value = buffer.nioBuffer.getFloat(buffer.readIndex());
-                buffer.readIndex += 4;
-                return value;
-            });
+            (buffer, value) -> writeFloat(buffer, value),
+            NetworkBufferTypes::readFloat);
     static final TypeImpl<Double> DOUBLE = new TypeImpl<>(Double.class,
-            (buffer, value) -> {
-                buffer.ensureSize(8);
-                buffer.nioBuffer.putDouble(buffer.writeIndex(), value);
-                return 8;
-            },
-            buffer -> {
-                final double value = buffer.nioBuffer.getDouble(buffer.readIndex());
-                buffer.readIndex += 8;
-                return value;
-            });
+            (buffer, value) -> writeDouble(buffer, value),
+            NetworkBufferTypes::readDouble);
     static final TypeImpl<Integer> VAR_INT = new TypeImpl<>(Integer.class,
-            (buffer, boxed) -> {
-                final int value = boxed;
-                final int index = buffer.writeIndex();
-                if ((value & (0xFFFFFFFF << 7)) == 0) {
-                    buffer.ensureSize(1);
-                    buffer.nioBuffer.put(index, (byte) value);
-                    return 1;
-                } else if ((value & (0xFFFFFFFF << 14)) == 0) {
-                    buffer.ensureSize(2);
-                    buffer.nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
-                    return 2;
-                } else if ((value & (0xFFFFFFFF << 21)) == 0) {
-                    buffer.ensureSize(3);
-                    var nio = buffer.nioBuffer;
-                    nio.put(index, (byte) (value & 0x7F | 0x80));
-                    nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
-                    nio.put(index + 2, (byte) (value >>> 14));
-                    return 3;
-                } else if ((value & (0xFFFFFFFF << 28)) == 0) {
-                    buffer.ensureSize(4);
-                    var nio = buffer.nioBuffer;
-                    nio.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
-                            | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
-                    return 4;
-                } else {
-                    buffer.ensureSize(5);
-                    var nio = buffer.nioBuffer;
-                    nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
-                            | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
-                    nio.put(index + 4, (byte) (value >>> 28));
-                    return 5;
-                }
-            },
-            buffer -> {
-                int index = buffer.readIndex();
-                // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
-                int result = 0;
-                for (int shift = 0; ; shift += 7) {
-                    byte b = buffer.nioBuffer.get(index++);
-                    result |= (b & 0x7f) << shift;
-                    if (b >= 0) {
-                        buffer.readIndex += index - buffer.readIndex();
-                        return result;
-                    }
-                }
-            });
+            (buffer, value) -> writeVarInt(buffer, value),
+            NetworkBufferTypes::readVarInt);
     static final TypeImpl<Long> VAR_LONG = new TypeImpl<>(Long.class,
             (buffer, value) -> {
                 buffer.ensureSize(10);
@@ -280,8 +180,9 @@ final class NetworkBufferTypes {
             });
     static final TypeImpl<Component> COMPONENT = new TypeImpl<>(Component.class,
             (buffer, value) -> {
-                final String json = GsonComponentSerializer.gson().serialize(value);
-                buffer.write(STRING, json);
+                final byte[] bytes = ComponentCache.serialize(value);
+                buffer.write(VAR_INT, bytes.length);
+                buffer.write(RAW_BYTES, bytes);
                 return -1;
             },
             buffer -> {
@@ -308,7 +209,7 @@ final class NetworkBufferTypes {
                 buffer.write(BOOLEAN, true);
                 buffer.write(VAR_INT, value.material().id());
                 buffer.write(BYTE, (byte) value.amount());
-                buffer.write(NBT, value.meta().toNBT());
+                value.meta().write(buffer);
                 return -1;
             },
             buffer -> {
@@ -506,6 +407,138 @@ final class NetworkBufferTypes {
                 return Entity.Pose.values()[ordinal];
             });
 
+    // Specialized readers and writers, used directly by NetworkBuffer to avoid boxing and the megamorphic writer call
+    static int writeBoolean(@NotNull NetworkBuffer buffer, boolean value) {
+        buffer.ensureSize(1);
+        buffer.nioBuffer.put(buffer.writeIndex(), value ? (byte) 1 : (byte) 0);
+        return 1;
+    }
+
+    static int writeByte(@NotNull NetworkBuffer buffer, byte value) {
+        buffer.ensureSize(1);
+        buffer.nioBuffer.put(buffer.writeIndex(), value);
+        return 1;
+    }
+
+    static int writeShort(@NotNull NetworkBuffer buffer, short value) {
+        buffer.ensureSize(2);
+        buffer.nioBuffer.putShort(buffer.writeIndex(), value);
+        return 2;
+    }
+
+    static int writeInt(@NotNull NetworkBuffer buffer, int value) {
+        buffer.ensureSize(4);
+        buffer.nioBuffer.putInt(buffer.writeIndex(), value);
+        return 4;
+    }
+
+    static int writeLong(@NotNull NetworkBuffer buffer, long value) {
+        buffer.ensureSize(8);
+        buffer.nioBuffer.putLong(buffer.writeIndex(), value);
+        return 8;
+    }
+
+    static int writeFloat(@NotNull NetworkBuffer buffer, float value) {
+        buffer.ensureSize(4);
+        buffer.nioBuffer.putFloat(buffer.writeIndex(), value);
+        return 4;
+    }
+
+    static int writeDouble(@NotNull NetworkBuffer buffer, double value) {
+        buffer.ensureSize(8);
+        buffer.nioBuffer.putDouble(buffer.writeIndex(), value);
+        return 8;
+    }
+
+    static int writeVarInt(@NotNull NetworkBuffer buffer, int value) {
+        final int index = buffer.writeIndex();
+        if ((value & (0xFFFFFFFF << 7)) == 0) {
+            buffer.ensureSize(1);
+            buffer.nioBuffer.put(index, (byte) value);
+            return 1;
+        } else if ((value & (0xFFFFFFFF << 14)) == 0) {
+            buffer.ensureSize(2);
+            buffer.nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
+            return 2;
+        } else if ((value & (0xFFFFFFFF << 21)) == 0) {
+            buffer.ensureSize(3);
+            var nio = buffer.nioBuffer;
+            nio.put(index, (byte) (value & 0x7F | 0x80));
+            nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
+            nio.put(index + 2, (byte) (value >>> 14));
+            return 3;
+        } else if ((value & (0xFFFFFFFF << 28)) == 0) {
+            buffer.ensureSize(4);
+            var nio = buffer.nioBuffer;
+            nio.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
+            return 4;
+        } else {
+            buffer.ensureSize(5);
+            var nio = buffer.nioBuffer;
+            nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
+            nio.put(index + 4, (byte) (value >>> 28));
+            return 5;
+        }
+    }
+
+    static boolean readBoolean(@NotNull NetworkBuffer buffer) {
+        final byte value = buffer.nioBuffer.get(buffer.readIndex());
+        buffer.readIndex += 1;
+        return value == 1;
+    }
+
+    static byte readByte(@NotNull NetworkBuffer buffer) {
+        final byte value = buffer.nioBuffer.get(buffer.readIndex());
+        buffer.readIndex += 1;
+        return value;
+    }
+
+    static short readShort(@NotNull NetworkBuffer buffer) {
+        final short value = buffer.nioBuffer.getShort(buffer.readIndex());
+        buffer.readIndex += 2;
+        return value;
+    }
+
+    static int readInt(@NotNull NetworkBuffer buffer) {
+        final int value = buffer.nioBuffer.getInt(buffer.readIndex());
+        buffer.readIndex += 4;
+        return value;
+    }
+
+    static long readLong(@NotNull NetworkBuffer buffer) {
+        final long value = buffer.nioBuffer.getLong(buffer.readIndex());
+        buffer.readIndex += 8;
+        return value;
+    }
+
+    static float readFloat(@NotNull NetworkBuffer buffer) {
+        final float value = buffer.nioBuffer.getFloat(buffer.readIndex());
+        buffer.readIndex += 4;
+        return value;
+    }
+
+    static double readDouble(@NotNull NetworkBuffer buffer) {
+        final double value = buffer.nioBuffer.getDouble(buffer.readIndex());
+        buffer.readIndex += 8;
+        return value;
+    }
+
+    static int readVarInt(@NotNull NetworkBuffer buffer) {
+        int index = buffer.readIndex();
+        // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
+        int result = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.nioBuffer.get(index++);
+            result |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                buffer.readIndex += index - buffer.readIndex();
+                return result;
+            }
+        }
+    }
+
     record TypeImpl<T>(@NotNull Class<T> type,
                        @NotNull TypeWriter<T> writer,
                        @NotNull TypeReader<T> reader) implements NetworkBuffer.Type<T> {
@@ -4,15 +4,13 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
-
 public record ClientPlayerPacket(boolean onGround) implements ClientPacket {
     public ClientPlayerPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(BOOLEAN));
+        this(reader.readBoolean());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BOOLEAN, onGround);
+        writer.writeBoolean(onGround);
     }
 }
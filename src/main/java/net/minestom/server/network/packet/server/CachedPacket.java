@@ -13,24 +13,46 @@ import java.util.function.Supplier;
  * Represents a packet that is only computed when required (either due to memory demand or invalidated data)
  * <p>
  * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
+ * Packets created using {@link #strong(Supplier)} are instead stored in the size-bounded {@link PacketCache}.
  * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
     private final Supplier<ServerPacket> packetSupplier;
+    private final boolean strong;
     private volatile SoftReference<FramedPacket> packet;
 
-    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+    private CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier, boolean strong) {
         this.packetSupplier = packetSupplier;
+        this.strong = strong && PacketCache.isEnabled();
+    }
+
+    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+        this(packetSupplier, false);
     }
 
     public CachedPacket(@NotNull ServerPacket packet) {
         this(() -> packet);
     }
 
+    /**
+     * Creates a cached packet whose frame is kept in the {@link PacketCache} LRU
+     * instead of a soft reference.
+     *
+     * @param packetSupplier the packet supplier, must be thread-safe
+     * @return a new cached packet
+     */
+    public static @NotNull CachedPacket strong(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+        return new CachedPacket(packetSupplier, true);
+    }
+
     public void invalidate() {
-        this.packet = null;
+        if (strong) {
+            PacketCache.invalidate(this);
+        } else {
+            this.packet = null;
+        }
     }
 
     public @NotNull ServerPacket packet() {
@@ -46,6 +68,14 @@ public final class CachedPacket implements SendablePacket {
     private @Nullable FramedPacket updatedCache() {
         if (!PacketUtils.CACHED_PACKET)
             return null;
+        if (strong) {
+            FramedPacket cache = PacketCache.get(this);
+            if (cache == null) {
+                cache = PacketUtils.allocateTrimmedPacket(packetSupplier.get());
+                PacketCache.put(this, cache);
+            }
+            return cache;
+        }
         SoftReference<FramedPacket> ref = packet;
         FramedPacket cache;
         if (ref == null || (cache = ref.get()) == null) {
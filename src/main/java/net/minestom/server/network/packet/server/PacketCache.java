@@ -0,0 +1,85 @@
+package net.minestom.server.network.packet.server;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Strongly referenced LRU of framed packets, used by {@link CachedPacket#strong(java.util.function.Supplier)}.
+ * <p>
+ * Meant for large packets sent to many players (chunk and light data), which are expensive to compress again
+ * after a {@link java.lang.ref.SoftReference} got cleared. The cache is bounded by the total size of the
+ * framed packets ({@code minestom.packet-cache.max-bytes}), a value of 0 falls back to soft references.
+ */
+@ApiStatus.Experimental
+public final class PacketCache {
+    private static final long MAX_BYTES = Long.getLong("minestom.packet-cache.max-bytes", 64 * 1024 * 1024);
+
+    // Keys are compared by identity, CachedPacket does not override equals
+    private static final Cache<CachedPacket, FramedPacket> CACHE = MAX_BYTES > 0 ? Caffeine.newBuilder()
+            .maximumWeight(MAX_BYTES)
+            .<CachedPacket, FramedPacket>weigher((key, packet) -> packet.body().limit())
+            .executor(Runnable::run)
+            .recordStats()
+            .build() : null;
+
+    private PacketCache() {
+    }
+
+    static @Nullable FramedPacket get(@NotNull CachedPacket key) {
+        return CACHE.getIfPresent(key);
+    }
+
+    static void put(@NotNull CachedPacket key, @NotNull FramedPacket packet) {
+        CACHE.put(key, packet);
+    }
+
+    static void invalidate(@NotNull CachedPacket key) {
+        CACHE.invalidate(key);
+    }
+
+    public static boolean isEnabled() {
+        return CACHE != null;
+    }
+
+    public static long getHitCount() {
+        return CACHE != null ? CACHE.stats().hitCount() : 0;
+    }
+
+    public static long getMissCount() {
+        return CACHE != null ? CACHE.stats().missCount() : 0;
+    }
+
+    public static double getHitRate() {
+        return CACHE != null ? CACHE.stats().hitRate() : 0;
+    }
+
+    public static long getEvictionCount() {
+        return CACHE != null ? CACHE.stats().evictionCount() : 0;
+    }
+
+    /**
+     * Gets the number of cached packets, approximate.
+     *
+     * @return the number of cached packets
+     */
+    public static long getSize() {
+        return CACHE != null ? CACHE.estimatedSize() : 0;
+    }
+
+    /**
+     * Gets the total size of the cached packets in bytes, approximate.
+     *
+     * @return the cache weight
+     */
+    public static long getBytes() {
+        if (CACHE == null) return 0;
+        return CACHE.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    public static void invalidateAll() {
+        if (CACHE != null) CACHE.invalidateAll();
+    }
+}
@@ -14,7 +14,7 @@ public record AcknowledgeBlockChangePacket(int sequence) implements ServerPacket
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, sequence);
+        writer.writeVarInt(sequence);
     }
 
     @Override
@@ -36,7 +36,7 @@ public record AdvancementsPacket(boolean reset, @NotNull List<AdvancementMapping
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BOOLEAN, reset);
+        writer.writeBoolean(reset);
         writer.writeCollection(advancementMappings);
         writer.writeCollection(STRING, identifiersToRemove);
         writer.writeCollection(progressMappings);
@@ -182,14 +182,14 @@ public record AdvancementsPacket(boolean reset, @NotNull List<AdvancementMapping
             writer.write(COMPONENT, title);
             writer.write(COMPONENT, description);
             writer.write(ITEM, icon);
-            writer.write(VAR_INT, frameType.ordinal());
-            writer.write(INT, flags);
+            writer.writeVarInt(frameType.ordinal());
+            writer.writeInt(flags);
             if ((flags & 0x1) != 0) {
                 assert backgroundTexture != null;
                 writer.write(STRING, backgroundTexture);
             }
-            writer.write(FLOAT, x);
-            writer.write(FLOAT, y);
+            writer.writeFloat(x);
+            writer.writeFloat(y);
         }
 
         @Override
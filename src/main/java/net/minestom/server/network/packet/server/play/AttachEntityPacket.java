@@ -20,8 +20,8 @@ public record AttachEntityPacket(int attachedEntityId, int holdingEntityId) impl
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, attachedEntityId);
-        writer.write(INT, holdingEntityId);
+        writer.writeInt(attachedEntityId);
+        writer.writeInt(holdingEntityId);
     }
 
     @Override
@@ -23,9 +23,9 @@ public record BlockActionPacket(@NotNull Point blockPosition, byte actionId,
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BLOCK_POSITION, blockPosition);
-        writer.write(BYTE, actionId);
-        writer.write(BYTE, actionParam);
-        writer.write(VAR_INT, blockId);
+        writer.writeByte(actionId);
+        writer.writeByte(actionParam);
+        writer.writeVarInt(blockId);
     }
 
     @Override
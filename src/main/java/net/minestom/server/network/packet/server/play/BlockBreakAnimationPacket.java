@@ -16,9 +16,9 @@ public record BlockBreakAnimationPacket(int entityId, @NotNull Point blockPositi
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         writer.write(BLOCK_POSITION, blockPosition);
-        writer.write(BYTE, destroyStage);
+        writer.writeByte(destroyStage);
     }
 
     @Override
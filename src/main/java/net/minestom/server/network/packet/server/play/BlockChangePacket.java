@@ -22,7 +22,7 @@ public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId)
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BLOCK_POSITION, blockPosition);
-        writer.write(VAR_INT, blockStateId);
+        writer.writeVarInt(blockStateId);
     }
 
     @Override
@@ -19,12 +19,12 @@ public record BlockEntityDataPacket(@NotNull Point blockPosition, int action,
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BLOCK_POSITION, blockPosition);
-        writer.write(VAR_INT, action);
+        writer.writeVarInt(action);
         if (data != null) {
             writer.write(NBT, data);
         } else {
             // TAG_End
-            writer.write(BYTE, (byte) 0x00);
+            writer.writeByte((byte) 0x00);
         }
     }
 
@@ -33,7 +33,7 @@ public record BossBarPacket(@NotNull UUID uuid, @NotNull Action action) implemen
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(NetworkBuffer.UUID, uuid);
-        writer.write(VAR_INT, action.id());
+        writer.writeVarInt(action.id());
         writer.write(action);
     }
 
@@ -73,10 +73,10 @@ public record BossBarPacket(@NotNull UUID uuid, @NotNull Action action) implemen
         @Override
         public void write(@NotNull NetworkBuffer writer) {
             writer.write(COMPONENT, title);
-            writer.write(FLOAT, health);
-            writer.write(VAR_INT, AdventurePacketConvertor.getBossBarColorValue(color));
-            writer.write(VAR_INT, AdventurePacketConvertor.getBossBarOverlayValue(overlay));
-            writer.write(BYTE, flags);
+            writer.writeFloat(health);
+            writer.writeVarInt(AdventurePacketConvertor.getBossBarColorValue(color));
+            writer.writeVarInt(AdventurePacketConvertor.getBossBarOverlayValue(overlay));
+            writer.writeByte(flags);
         }
 
         @Override
@@ -117,7 +117,7 @@ public record BossBarPacket(@NotNull UUID uuid, @NotNull Action action) implemen
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(FLOAT, health);
+            writer.writeFloat(health);
         }
 
         @Override
@@ -168,8 +168,8 @@ public record BossBarPacket(@NotNull UUID uuid, @NotNull Action action) implemen
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, AdventurePacketConvertor.getBossBarColorValue(color));
-            writer.write(VAR_INT, AdventurePacketConvertor.getBossBarOverlayValue(overlay));
+            writer.writeVarInt(AdventurePacketConvertor.getBossBarColorValue(color));
+            writer.writeVarInt(AdventurePacketConvertor.getBossBarOverlayValue(overlay));
         }
 
         @Override
@@ -189,7 +189,7 @@ public record BossBarPacket(@NotNull UUID uuid, @NotNull Action action) implemen
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(BYTE, flags);
+            writer.writeByte(flags);
         }
 
         @Override
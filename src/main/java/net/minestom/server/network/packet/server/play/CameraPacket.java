@@ -19,7 +19,7 @@ public record CameraPacket(int cameraId) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, cameraId);
+        writer.writeVarInt(cameraId);
     }
 
     @Override
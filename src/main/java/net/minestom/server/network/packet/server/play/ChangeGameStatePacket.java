@@ -15,8 +15,8 @@ public record ChangeGameStatePacket(@NotNull Reason reason, float value) impleme
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, (byte) reason.ordinal());
-        writer.write(FLOAT, value);
+        writer.writeByte((byte) reason.ordinal());
+        writer.writeFloat(value);
     }
 
     @Override
@@ -21,7 +21,7 @@ public record ChatPreviewPacket(int queryId, @Nullable Component preview) implem
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, queryId);
+        writer.writeInt(queryId);
         writer.writeOptional(COMPONENT, preview);
     }
 
@@ -20,8 +20,8 @@ public record ChunkDataPacket(int chunkX, int chunkZ,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, chunkX);
-        writer.write(INT, chunkZ);
+        writer.writeInt(chunkX);
+        writer.writeInt(chunkZ);
         writer.write(chunkData);
         writer.write(lightData);
     }
@@ -14,7 +14,7 @@ public record ClearTitlesPacket(boolean reset) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BOOLEAN, reset);
+        writer.writeBoolean(reset);
     }
 
     @Override
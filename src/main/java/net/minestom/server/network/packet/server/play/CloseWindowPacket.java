@@ -14,7 +14,7 @@ public record CloseWindowPacket(byte windowId) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
+        writer.writeByte(windowId);
     }
 
     @Override
@@ -15,9 +15,9 @@ public record CollectItemPacket(int collectedEntityId, int collectorEntityId, in
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, collectedEntityId);
-        writer.write(VAR_INT, collectorEntityId);
-        writer.write(VAR_INT, pickupItemCount);
+        writer.writeVarInt(collectedEntityId);
+        writer.writeVarInt(collectorEntityId);
+        writer.writeVarInt(pickupItemCount);
     }
 
     @Override
@@ -15,7 +15,7 @@ public record CraftRecipeResponse(byte windowId, String recipe) implements Serve
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
+        writer.writeByte(windowId);
         writer.write(STRING, recipe);
     }
 
@@ -21,8 +21,8 @@ public record DeathCombatEventPacket(int playerId, int entityId,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, playerId);
-        writer.write(INT, entityId);
+        writer.writeVarInt(playerId);
+        writer.writeInt(entityId);
         writer.write(COMPONENT, message);
     }
 
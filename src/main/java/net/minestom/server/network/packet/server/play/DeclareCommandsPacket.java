@@ -29,7 +29,7 @@ public record DeclareCommandsPacket(@NotNull List<Node> nodes,
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.writeCollection(nodes);
-        writer.write(VAR_INT, rootIndex);
+        writer.writeVarInt(rootIndex);
     }
 
     @Override
@@ -48,7 +48,7 @@ public record DeclareCommandsPacket(@NotNull List<Node> nodes,
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(BYTE, flags);
+            writer.writeByte(flags);
 
             if (children != null && children.length > 262114) {
                 throw new RuntimeException("Children length " + children.length + " is bigger than the maximum allowed " + 262114);
@@ -56,7 +56,7 @@ public record DeclareCommandsPacket(@NotNull List<Node> nodes,
             writer.write(VAR_INT_ARRAY, children);
 
             if ((flags & 0x08) != 0) {
-                writer.write(VAR_INT, redirectedNode);
+                writer.writeVarInt(redirectedNode);
             }
 
             if (isLiteral() || isArgument()) {
@@ -65,7 +65,7 @@ public record DeclareCommandsPacket(@NotNull List<Node> nodes,
 
             if (isArgument()) {
                 final int parserId = Argument.CONTAINER.toId(parser);
-                writer.write(VAR_INT, parserId);
+                writer.writeVarInt(parserId);
                 if (properties != null) {
                     writer.write(RAW_BYTES, properties);
                 }
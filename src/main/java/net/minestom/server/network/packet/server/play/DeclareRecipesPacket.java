@@ -108,8 +108,8 @@ public record DeclareRecipesPacket(@NotNull List<DeclaredRecipe> recipes) implem
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, width);
-            writer.write(VAR_INT, height);
+            writer.writeVarInt(width);
+            writer.writeVarInt(height);
             writer.write(STRING, group);
             for (Ingredient ingredient : ingredients) {
                 ingredient.write(writer);
@@ -137,8 +137,8 @@ public record DeclareRecipesPacket(@NotNull List<DeclaredRecipe> recipes) implem
             writer.write(STRING, group);
             writer.write(ingredient);
             writer.write(ITEM, result);
-            writer.write(FLOAT, experience);
-            writer.write(VAR_INT, cookingTime);
+            writer.writeFloat(experience);
+            writer.writeVarInt(cookingTime);
         }
 
         @Override
@@ -161,8 +161,8 @@ public record DeclareRecipesPacket(@NotNull List<DeclaredRecipe> recipes) implem
             writer.write(STRING, group);
             writer.write(ingredient);
             writer.write(ITEM, result);
-            writer.write(FLOAT, experience);
-            writer.write(VAR_INT, cookingTime);
+            writer.writeFloat(experience);
+            writer.writeVarInt(cookingTime);
         }
 
         @Override
@@ -185,8 +185,8 @@ public record DeclareRecipesPacket(@NotNull List<DeclaredRecipe> recipes) implem
             writer.write(STRING, group);
             writer.write(ingredient);
             writer.write(ITEM, result);
-            writer.write(FLOAT, experience);
-            writer.write(VAR_INT, cookingTime);
+            writer.writeFloat(experience);
+            writer.writeVarInt(cookingTime);
         }
 
         @Override
@@ -209,8 +209,8 @@ public record DeclareRecipesPacket(@NotNull List<DeclaredRecipe> recipes) implem
             writer.write(STRING, group);
             writer.write(ingredient);
             writer.write(ITEM, result);
-            writer.write(FLOAT, experience);
-            writer.write(VAR_INT, cookingTime);
+            writer.writeFloat(experience);
+            writer.writeVarInt(cookingTime);
         }
 
         @Override
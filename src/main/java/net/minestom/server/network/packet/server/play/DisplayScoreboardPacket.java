@@ -15,7 +15,7 @@ public record DisplayScoreboardPacket(byte position, String scoreName) implement
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, position);
+        writer.writeByte(position);
         writer.write(STRING, scoreName);
     }
 
@@ -16,10 +16,10 @@ public record EffectPacket(int effectId, Point position, int data,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, effectId);
+        writer.writeInt(effectId);
         writer.write(BLOCK_POSITION, position);
-        writer.write(INT, data);
-        writer.write(BOOLEAN, disableRelativeVolume);
+        writer.writeInt(data);
+        writer.writeBoolean(disableRelativeVolume);
     }
 
     @Override
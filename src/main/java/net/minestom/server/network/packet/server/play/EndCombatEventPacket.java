@@ -15,8 +15,8 @@ public record EndCombatEventPacket(int duration, int entityId) implements Server
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, duration);
-        writer.write(INT, entityId);
+        writer.writeVarInt(duration);
+        writer.writeInt(entityId);
     }
 
     @Override
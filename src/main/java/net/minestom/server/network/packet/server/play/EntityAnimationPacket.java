@@ -15,8 +15,8 @@ public record EntityAnimationPacket(int entityId, @NotNull Animation animation)
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(BYTE, (byte) animation.ordinal());
+        writer.writeVarInt(entityId);
+        writer.writeByte((byte) animation.ordinal());
     }
 
     @Override
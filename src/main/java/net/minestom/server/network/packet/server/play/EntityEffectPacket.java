@@ -19,7 +19,7 @@ public record EntityEffectPacket(int entityId, @NotNull Potion potion,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         writer.write(potion);
         writer.writeOptional(NBT, factorCodec);
     }
@@ -32,13 +32,13 @@ public record EntityEquipmentPacket(int entityId,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         int index = 0;
         for (var entry : equipments.entrySet()) {
             final boolean last = index++ == equipments.size() - 1;
             byte slotEnum = (byte) entry.getKey().ordinal();
             if (!last) slotEnum |= 0x80;
-            writer.write(BYTE, slotEnum);
+            writer.writeByte(slotEnum);
             writer.write(ITEM, entry.getValue());
         }
     }
@@ -28,12 +28,12 @@ public record EntityMetaDataPacket(int entityId,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         for (var entry : entries.entrySet()) {
-            writer.write(BYTE, entry.getKey().byteValue());
+            writer.writeByte(entry.getKey().byteValue());
             writer.write(entry.getValue());
         }
-        writer.write(BYTE, (byte) 0xFF); // End
+        writer.writeByte((byte) 0xFF); // End
     }
 
     private static Map<Integer, Metadata.Entry<?>> readEntries(@NotNull NetworkBuffer reader) {
@@ -35,22 +35,22 @@ public record EntityPropertiesPacket(int entityId, List<AttributeInstance> prope
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(VAR_INT, properties.size());
+        writer.writeVarInt(entityId);
+        writer.writeVarInt(properties.size());
         for (AttributeInstance instance : properties) {
             final Attribute attribute = instance.getAttribute();
 
             writer.write(STRING, attribute.key());
-            writer.write(DOUBLE, (double) instance.getBaseValue());
+            writer.writeDouble((double) instance.getBaseValue());
 
             {
                 Collection<AttributeModifier> modifiers = instance.getModifiers();
-                writer.write(VAR_INT, modifiers.size());
+                writer.writeVarInt(modifiers.size());
 
                 for (var modifier : modifiers) {
                     writer.write(UUID, modifier.getId());
-                    writer.write(DOUBLE, modifier.getAmount());
-                    writer.write(BYTE, (byte) modifier.getOperation().getId());
+                    writer.writeDouble(modifier.getAmount());
+                    writer.writeByte((byte) modifier.getOperation().getId());
                 }
             }
         }
@@ -5,19 +5,17 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.*;
-
 public record EntityRotationPacket(int entityId, float yaw, float pitch, boolean onGround) implements ServerPacket {
     public EntityRotationPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f, reader.read(BOOLEAN));
+        this(reader.readVarInt(), reader.readByte() * 360f / 256f, reader.readByte() * 360f / 256f, reader.readBoolean());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(BYTE, (byte) (yaw * 256 / 360));
-        writer.write(BYTE, (byte) (pitch * 256 / 360));
-        writer.write(BOOLEAN, onGround);
+        writer.writeVarInt(entityId);
+        writer.writeByte((byte) (yaw * 256 / 360));
+        writer.writeByte((byte) (pitch * 256 / 360));
+        writer.writeBoolean(onGround);
     }
 
     @Override
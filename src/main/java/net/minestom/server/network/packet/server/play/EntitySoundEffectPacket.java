@@ -18,12 +18,12 @@ public record EntitySoundEffectPacket(int soundId, Sound.Source source, int enti
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, soundId);
-        writer.write(VAR_INT, AdventurePacketConvertor.getSoundSourceValue(source));
-        writer.write(VAR_INT, entityId);
-        writer.write(FLOAT, volume);
-        writer.write(FLOAT, pitch);
-        writer.write(LONG, seed);
+        writer.writeVarInt(soundId);
+        writer.writeVarInt(AdventurePacketConvertor.getSoundSourceValue(source));
+        writer.writeVarInt(entityId);
+        writer.writeFloat(volume);
+        writer.writeFloat(pitch);
+        writer.writeLong(seed);
     }
 
     @Override
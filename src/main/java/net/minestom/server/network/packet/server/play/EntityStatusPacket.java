@@ -15,8 +15,8 @@ public record EntityStatusPacket(int entityId, byte status) implements ServerPac
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, entityId);
-        writer.write(BYTE, status);
+        writer.writeInt(entityId);
+        writer.writeByte(status);
     }
 
     @Override
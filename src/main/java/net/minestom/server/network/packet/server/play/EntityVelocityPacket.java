@@ -7,13 +7,10 @@ import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.SHORT;
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
-
 public record EntityVelocityPacket(int entityId, short velocityX, short velocityY,
                                    short velocityZ) implements ServerPacket {
     public EntityVelocityPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT));
+        this(reader.readVarInt(), reader.readShort(), reader.readShort(), reader.readShort());
     }
 
     public EntityVelocityPacket(int entityId, Point velocity) {
@@ -27,10 +24,10 @@ public record EntityVelocityPacket(int entityId, short velocityX, short velocity
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(SHORT, velocityX);
-        writer.write(SHORT, velocityY);
-        writer.write(SHORT, velocityZ);
+        writer.writeVarInt(entityId);
+        writer.writeShort(velocityX);
+        writer.writeShort(velocityY);
+        writer.writeShort(velocityZ);
     }
 
     @Override
@@ -17,15 +17,15 @@ public record ExplosionPacket(float x, float y, float z, float radius, byte @Not
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(FLOAT, x);
-        writer.write(FLOAT, y);
-        writer.write(FLOAT, z);
-        writer.write(FLOAT, radius);
-        writer.write(VAR_INT, records.length / 3); // each record is 3 bytes long
+        writer.writeFloat(x);
+        writer.writeFloat(y);
+        writer.writeFloat(z);
+        writer.writeFloat(radius);
+        writer.writeVarInt(records.length / 3); // each record is 3 bytes long
         writer.write(RAW_BYTES, records);
-        writer.write(FLOAT, playerMotionX);
-        writer.write(FLOAT, playerMotionY);
-        writer.write(FLOAT, playerMotionZ);
+        writer.writeFloat(playerMotionX);
+        writer.writeFloat(playerMotionY);
+        writer.writeFloat(playerMotionZ);
     }
 
     @Override
@@ -20,14 +20,14 @@ public record FacePlayerPacket(FacePosition facePosition,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, facePosition.ordinal());
-        writer.write(DOUBLE, target.x());
-        writer.write(DOUBLE, target.y());
-        writer.write(DOUBLE, target.z());
+        writer.writeVarInt(facePosition.ordinal());
+        writer.writeDouble(target.x());
+        writer.writeDouble(target.y());
+        writer.writeDouble(target.z());
         final boolean isEntity = entityId > 0;
-        writer.write(BOOLEAN, isEntity);
+        writer.writeBoolean(isEntity);
         if (isEntity) {
-            writer.write(VAR_INT, entityId);
+            writer.writeVarInt(entityId);
             writer.writeEnum(FacePosition.class, entityFacePosition);
         }
     }
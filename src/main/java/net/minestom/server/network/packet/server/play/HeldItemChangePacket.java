@@ -14,7 +14,7 @@ public record HeldItemChangePacket(byte slot) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, slot);
+        writer.writeByte(slot);
     }
 
     @Override
@@ -19,14 +19,14 @@ public record InitializeWorldBorderPacket(double x, double z,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, x);
-        writer.write(DOUBLE, z);
-        writer.write(DOUBLE, oldDiameter);
-        writer.write(DOUBLE, newDiameter);
+        writer.writeDouble(x);
+        writer.writeDouble(z);
+        writer.writeDouble(oldDiameter);
+        writer.writeDouble(newDiameter);
         writer.write(VAR_LONG, speed);
-        writer.write(VAR_INT, portalTeleportBoundary);
-        writer.write(VAR_INT, warningTime);
-        writer.write(VAR_INT, warningBlocks);
+        writer.writeVarInt(portalTeleportBoundary);
+        writer.writeVarInt(warningTime);
+        writer.writeVarInt(warningBlocks);
     }
 
     @Override
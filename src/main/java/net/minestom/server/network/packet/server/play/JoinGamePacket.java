@@ -29,13 +29,13 @@ public record JoinGamePacket(int entityId, boolean isHardcore, GameMode gameMode
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, entityId);
-        writer.write(BOOLEAN, isHardcore);
-        writer.write(BYTE, gameMode.id());
+        writer.writeInt(entityId);
+        writer.writeBoolean(isHardcore);
+        writer.writeByte(gameMode.id());
         if (previousGameMode != null) {
-            writer.write(BYTE, previousGameMode.id());
+            writer.writeByte(previousGameMode.id());
         } else {
-            writer.write(BYTE, (byte) -1);
+            writer.writeByte((byte) -1);
         }
 
         writer.writeCollection(STRING, worlds);
@@ -43,18 +43,18 @@ public record JoinGamePacket(int entityId, boolean isHardcore, GameMode gameMode
 
         writer.write(STRING, dimensionType);
         writer.write(STRING, world);
-        writer.write(LONG, hashedSeed);
-        writer.write(VAR_INT, maxPlayers);
-        writer.write(VAR_INT, viewDistance);
-        writer.write(VAR_INT, simulationDistance);
-        writer.write(BOOLEAN, reducedDebugInfo);
-        writer.write(BOOLEAN, enableRespawnScreen);
+        writer.writeLong(hashedSeed);
+        writer.writeVarInt(maxPlayers);
+        writer.writeVarInt(viewDistance);
+        writer.writeVarInt(simulationDistance);
+        writer.writeBoolean(reducedDebugInfo);
+        writer.writeBoolean(enableRespawnScreen);
         //debug
-        writer.write(BOOLEAN, isDebug);
+        writer.writeBoolean(isDebug);
         //is flat
-        writer.write(BOOLEAN, isFlat);
+        writer.writeBoolean(isFlat);
 
-        writer.write(BOOLEAN, false);
+        writer.writeBoolean(false);
     }
 
     @Override
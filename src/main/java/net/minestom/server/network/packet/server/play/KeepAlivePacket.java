@@ -14,7 +14,7 @@ public record KeepAlivePacket(long id) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, id);
+        writer.writeLong(id);
     }
 
     @Override
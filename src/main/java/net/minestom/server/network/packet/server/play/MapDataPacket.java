@@ -48,15 +48,15 @@ public record MapDataPacket(int mapId, byte scale, boolean locked,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, mapId);
-        writer.write(BYTE, scale);
-        writer.write(BOOLEAN, locked);
-        writer.write(BOOLEAN, trackingPosition);
+        writer.writeVarInt(mapId);
+        writer.writeByte(scale);
+        writer.writeBoolean(locked);
+        writer.writeBoolean(trackingPosition);
         if (trackingPosition) writer.writeCollection(icons);
         if (colorContent != null) {
             writer.write(colorContent);
         } else {
-            writer.write(BYTE, (byte) 0);
+            writer.writeByte((byte) 0);
         }
     }
 
@@ -73,11 +73,11 @@ public record MapDataPacket(int mapId, byte scale, boolean locked,
         }
 
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, type);
-            writer.write(BYTE, x);
-            writer.write(BYTE, z);
-            writer.write(BYTE, direction);
-            writer.write(BOOLEAN, displayName != null);
+            writer.writeVarInt(type);
+            writer.writeByte(x);
+            writer.writeByte(z);
+            writer.writeByte(direction);
+            writer.writeBoolean(displayName != null);
             if (displayName != null) writer.write(COMPONENT, displayName);
         }
     }
@@ -90,10 +90,10 @@ public record MapDataPacket(int mapId, byte scale, boolean locked,
         }
 
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(BYTE, columns);
-            writer.write(BYTE, rows);
-            writer.write(BYTE, x);
-            writer.write(BYTE, z);
+            writer.writeByte(columns);
+            writer.writeByte(rows);
+            writer.writeByte(x);
+            writer.writeByte(z);
             writer.write(BYTE_ARRAY, data);
         }
     }
@@ -23,8 +23,8 @@ public record MultiBlockChangePacket(long chunkSectionPosition,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, chunkSectionPosition);
-        writer.write(BOOLEAN, suppressLightUpdates);
+        writer.writeLong(chunkSectionPosition);
+        writer.writeBoolean(suppressLightUpdates);
         writer.write(VAR_LONG_ARRAY, blocks);
     }
 
@@ -20,13 +20,13 @@ public record NamedSoundEffectPacket(String soundName, Source source, int x, int
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, soundName);
-        writer.write(VAR_INT, AdventurePacketConvertor.getSoundSourceValue(source));
-        writer.write(INT, x * 8);
-        writer.write(INT, y * 8);
-        writer.write(INT, z * 8);
-        writer.write(FLOAT, volume);
-        writer.write(FLOAT, pitch);
-        writer.write(LONG, seed);
+        writer.writeVarInt(AdventurePacketConvertor.getSoundSourceValue(source));
+        writer.writeInt(x * 8);
+        writer.writeInt(y * 8);
+        writer.writeInt(z * 8);
+        writer.writeFloat(volume);
+        writer.writeFloat(pitch);
+        writer.writeLong(seed);
     }
 
     @Override
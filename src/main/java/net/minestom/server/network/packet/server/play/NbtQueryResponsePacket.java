@@ -15,12 +15,12 @@ public record NbtQueryResponsePacket(int transactionId, NBTCompound data) implem
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, transactionId);
+        writer.writeVarInt(transactionId);
         if (data != null) {
             writer.write(NBT, data);
         } else {
             // TAG_End
-            writer.write(BYTE, (byte) 0x00);
+            writer.writeByte((byte) 0x00);
         }
     }
 
@@ -14,9 +14,9 @@ public record OpenHorseWindowPacket(byte windowId, int slotCount, int entityId)
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
-        writer.write(VAR_INT, slotCount);
-        writer.write(INT, entityId);
+        writer.writeByte(windowId);
+        writer.writeVarInt(slotCount);
+        writer.writeInt(entityId);
     }
 
     @Override
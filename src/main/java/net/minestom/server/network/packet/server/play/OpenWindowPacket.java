@@ -22,8 +22,8 @@ public record OpenWindowPacket(int windowId, int windowType,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, windowId);
-        writer.write(VAR_INT, windowType);
+        writer.writeVarInt(windowId);
+        writer.writeVarInt(windowType);
         writer.write(COMPONENT, title);
     }
 
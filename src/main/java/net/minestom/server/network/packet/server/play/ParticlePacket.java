@@ -20,16 +20,16 @@ public record ParticlePacket(int particleId, boolean longDistance,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, particleId);
-        writer.write(BOOLEAN, longDistance);
-        writer.write(DOUBLE, x);
-        writer.write(DOUBLE, y);
-        writer.write(DOUBLE, z);
-        writer.write(FLOAT, offsetX);
-        writer.write(FLOAT, offsetY);
-        writer.write(FLOAT, offsetZ);
-        writer.write(FLOAT, particleData);
-        writer.write(INT, particleCount);
+        writer.writeVarInt(particleId);
+        writer.writeBoolean(longDistance);
+        writer.writeDouble(x);
+        writer.writeDouble(y);
+        writer.writeDouble(z);
+        writer.writeFloat(offsetX);
+        writer.writeFloat(offsetY);
+        writer.writeFloat(offsetZ);
+        writer.writeFloat(particleData);
+        writer.writeInt(particleCount);
 
         writer.write(RAW_BYTES, data);
     }
@@ -14,7 +14,7 @@ public record PingPacket(int id) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, id);
+        writer.writeInt(id);
     }
 
     @Override
@@ -20,9 +20,9 @@ public record PlayerAbilitiesPacket(byte flags, float flyingSpeed, float fieldVi
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, flags);
-        writer.write(FLOAT, flyingSpeed);
-        writer.write(FLOAT, fieldViewModifier);
+        writer.writeByte(flags);
+        writer.writeFloat(flyingSpeed);
+        writer.writeFloat(fieldViewModifier);
     }
 
     @Override
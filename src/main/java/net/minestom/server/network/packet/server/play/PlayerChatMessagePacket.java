@@ -34,7 +34,7 @@ public record PlayerChatMessagePacket(@NotNull Component signedContent, @Nullabl
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(COMPONENT, signedContent);
         writer.writeOptional(COMPONENT, unsignedContent);
-        writer.write(VAR_INT, type);
+        writer.writeVarInt(type);
         writer.write(UUID, uuid);
         writer.write(COMPONENT, displayName);
         writer.writeOptional(COMPONENT, teamDisplayName);
@@ -60,7 +60,7 @@ public record PlayerInfoPacket(@NotNull Action action,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, action.ordinal());
+        writer.writeVarInt(action.ordinal());
         writer.writeCollection(entries, (w, entry) -> {
             w.write(UUID, entry.uuid());
             entry.write(w);
@@ -151,8 +151,8 @@ public record PlayerInfoPacket(@NotNull Action action,
         public void write(@NotNull NetworkBuffer writer) {
             writer.write(STRING, name);
             writer.writeCollection(properties);
-            writer.write(VAR_INT, (int) gameMode.id());
-            writer.write(VAR_INT, ping);
+            writer.writeVarInt((int) gameMode.id());
+            writer.writeVarInt(ping);
             writer.writeOptional(COMPONENT, displayName);
             writer.writeOptional(playerPublicKey);
         }
@@ -183,7 +183,7 @@ public record PlayerInfoPacket(@NotNull Action action,
             public void write(@NotNull NetworkBuffer writer) {
                 writer.write(STRING, name);
                 writer.write(STRING, value);
-                writer.write(BOOLEAN, signature != null);
+                writer.writeBoolean(signature != null);
                 if (signature != null) writer.write(STRING, signature);
             }
         }
@@ -196,7 +196,7 @@ public record PlayerInfoPacket(@NotNull Action action,
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, (int) gameMode.id());
+            writer.writeVarInt((int) gameMode.id());
         }
     }
 
@@ -207,7 +207,7 @@ public record PlayerInfoPacket(@NotNull Action action,
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, ping);
+            writer.writeVarInt(ping);
         }
     }
 
@@ -219,7 +219,7 @@ public record PlayerInfoPacket(@NotNull Action action,
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(BOOLEAN, displayName != null);
+            writer.writeBoolean(displayName != null);
             if (displayName != null) writer.write(COMPONENT, displayName);
         }
 
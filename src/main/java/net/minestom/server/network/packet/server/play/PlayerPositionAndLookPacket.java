@@ -17,16 +17,16 @@ public record PlayerPositionAndLookPacket(Pos position, byte flags, int teleport
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
 
-        writer.write(FLOAT, position.yaw());
-        writer.write(FLOAT, position.pitch());
+        writer.writeFloat(position.yaw());
+        writer.writeFloat(position.pitch());
 
-        writer.write(BYTE, flags);
-        writer.write(VAR_INT, teleportId);
-        writer.write(BOOLEAN, dismountVehicle);
+        writer.writeByte(flags);
+        writer.writeVarInt(teleportId);
+        writer.writeBoolean(dismountVehicle);
     }
 
     @Override
@@ -17,8 +17,8 @@ public record RemoveEntityEffectPacket(int entityId, @NotNull PotionEffect potio
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(VAR_INT, potionEffect.id());
+        writer.writeVarInt(entityId);
+        writer.writeVarInt(potionEffect.id());
     }
 
     @Override
@@ -30,12 +30,12 @@ public record ResourcePackSendPacket(String url, String hash, boolean forced,
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, url);
         writer.write(STRING, hash);
-        writer.write(BOOLEAN, forced);
+        writer.writeBoolean(forced);
         if (prompt != null) {
-            writer.write(BOOLEAN, true);
+            writer.writeBoolean(true);
             writer.write(COMPONENT, prompt);
         } else {
-            writer.write(BOOLEAN, false);
+            writer.writeBoolean(false);
         }
     }
 
@@ -21,14 +21,14 @@ public record RespawnPacket(String dimensionType, String worldName,
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, dimensionType);
         writer.write(STRING, worldName);
-        writer.write(LONG, hashedSeed);
-        writer.write(BYTE, gameMode.id());
-        writer.write(BYTE, previousGameMode.id());
-        writer.write(BOOLEAN, isDebug);
-        writer.write(BOOLEAN, isFlat);
-        writer.write(BOOLEAN, copyMeta);
+        writer.writeLong(hashedSeed);
+        writer.writeByte(gameMode.id());
+        writer.writeByte(previousGameMode.id());
+        writer.writeBoolean(isDebug);
+        writer.writeBoolean(isFlat);
+        writer.writeBoolean(copyMeta);
 
-        writer.write(BOOLEAN, false);
+        writer.writeBoolean(false);
     }
 
     @Override
@@ -40,12 +40,12 @@ public record ScoreboardObjectivePacket(@NotNull String objectiveName, byte mode
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, objectiveName);
-        writer.write(BYTE, mode);
+        writer.writeByte(mode);
         if (mode == 0 || mode == 2) {
             assert objectiveValue != null;
             writer.write(COMPONENT, objectiveValue);
             assert type != null;
-            writer.write(VAR_INT, type.ordinal());
+            writer.writeVarInt(type.ordinal());
         }
     }
 
@@ -20,8 +20,8 @@ public record ServerDataPacket(@Nullable Component motd, @Nullable String iconBa
     public void write(@NotNull NetworkBuffer writer) {
         writer.writeOptional(COMPONENT, this.motd);
         writer.writeOptional(STRING, this.iconBase64);
-        writer.write(BOOLEAN, previewsChat);
-        writer.write(BOOLEAN, enforcesSecureChat);
+        writer.writeBoolean(previewsChat);
+        writer.writeBoolean(enforcesSecureChat);
     }
 
     @Override
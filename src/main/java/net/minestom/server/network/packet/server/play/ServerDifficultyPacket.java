@@ -16,7 +16,7 @@ public record ServerDifficultyPacket(@NotNull Difficulty difficulty, boolean loc
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.writeEnum(Difficulty.class, difficulty);
-        writer.write(BOOLEAN, locked);
+        writer.writeBoolean(locked);
     }
 
     @Override
@@ -14,7 +14,7 @@ public record SetChatPreviewPacket(boolean enable) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BOOLEAN, enable);
+        writer.writeBoolean(enable);
     }
 
     @Override
@@ -14,8 +14,8 @@ public record SetCooldownPacket(int itemId, int cooldownTicks) implements Server
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, itemId);
-        writer.write(VAR_INT, cooldownTicks);
+        writer.writeVarInt(itemId);
+        writer.writeVarInt(cooldownTicks);
     }
 
     @Override
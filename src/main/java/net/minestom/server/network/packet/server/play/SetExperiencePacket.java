@@ -15,9 +15,9 @@ public record SetExperiencePacket(float percentage, int level, int totalExperien
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(FLOAT, percentage);
-        writer.write(VAR_INT, level);
-        writer.write(VAR_INT, totalExperience);
+        writer.writeFloat(percentage);
+        writer.writeVarInt(level);
+        writer.writeVarInt(totalExperience);
     }
 
     @Override
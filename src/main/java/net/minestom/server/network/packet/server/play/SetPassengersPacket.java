@@ -21,7 +21,7 @@ public record SetPassengersPacket(int vehicleEntityId,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, vehicleEntityId);
+        writer.writeVarInt(vehicleEntityId);
         writer.writeCollection(VAR_INT, passengersId);
     }
 
@@ -24,9 +24,9 @@ public record SetSlotPacket(byte windowId, int stateId, short slot,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
-        writer.write(VAR_INT, stateId);
-        writer.write(SHORT, slot);
+        writer.writeByte(windowId);
+        writer.writeVarInt(stateId);
+        writer.writeShort(slot);
         writer.write(ITEM, itemStack);
     }
 
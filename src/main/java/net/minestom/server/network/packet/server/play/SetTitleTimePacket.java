@@ -14,9 +14,9 @@ public record SetTitleTimePacket(int fadeIn, int stay, int fadeOut) implements S
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, fadeIn);
-        writer.write(INT, stay);
-        writer.write(INT, fadeOut);
+        writer.writeInt(fadeIn);
+        writer.writeInt(stay);
+        writer.writeInt(fadeOut);
     }
 
     @Override
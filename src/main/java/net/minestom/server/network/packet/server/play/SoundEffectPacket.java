@@ -28,14 +28,14 @@ public record SoundEffectPacket(int soundId, @NotNull Source source,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, soundId);
-        writer.write(VAR_INT, AdventurePacketConvertor.getSoundSourceValue(source));
-        writer.write(INT, x * 8);
-        writer.write(INT, y * 8);
-        writer.write(INT, z * 8);
-        writer.write(FLOAT, volume);
-        writer.write(FLOAT, pitch);
-        writer.write(LONG, seed);
+        writer.writeVarInt(soundId);
+        writer.writeVarInt(AdventurePacketConvertor.getSoundSourceValue(source));
+        writer.writeInt(x * 8);
+        writer.writeInt(y * 8);
+        writer.writeInt(z * 8);
+        writer.writeFloat(volume);
+        writer.writeFloat(pitch);
+        writer.writeLong(seed);
     }
 
     @Override
@@ -22,23 +22,23 @@ public record SpawnEntityPacket(int entityId, @NotNull UUID uuid, int type,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         writer.write(UUID, uuid);
-        writer.write(VAR_INT, type);
+        writer.writeVarInt(type);
 
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
 
-        writer.write(BYTE, (byte) (position.pitch() * 256 / 360));
-        writer.write(BYTE, (byte) (position.yaw() * 256 / 360));
-        writer.write(BYTE, (byte) (headRot * 256 / 360));
+        writer.writeByte((byte) (position.pitch() * 256 / 360));
+        writer.writeByte((byte) (position.yaw() * 256 / 360));
+        writer.writeByte((byte) (headRot * 256 / 360));
 
-        writer.write(VAR_INT, data);
+        writer.writeVarInt(data);
 
-        writer.write(SHORT, velocityX);
-        writer.write(SHORT, velocityY);
-        writer.write(SHORT, velocityZ);
+        writer.writeShort(velocityX);
+        writer.writeShort(velocityY);
+        writer.writeShort(velocityZ);
     }
 
     @Override
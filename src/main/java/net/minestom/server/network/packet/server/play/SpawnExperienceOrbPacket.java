@@ -17,11 +17,11 @@ public record SpawnExperienceOrbPacket(int entityId,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(SHORT, expCount);
+        writer.writeVarInt(entityId);
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
+        writer.writeShort(expCount);
     }
 
     @Override
@@ -20,13 +20,13 @@ public record SpawnPlayerPacket(int entityId, @NotNull UUID playerUuid,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
+        writer.writeVarInt(entityId);
         writer.write(UUID, playerUuid);
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(BYTE, (byte) (position.yaw() * 256f / 360f));
-        writer.write(BYTE, (byte) (position.pitch() * 256f / 360f));
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
+        writer.writeByte((byte) (position.yaw() * 256f / 360f));
+        writer.writeByte((byte) (position.pitch() * 256f / 360f));
     }
 
     @Override
@@ -17,7 +17,7 @@ public record SpawnPositionPacket(@NotNull Point position, float angle) implemen
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BLOCK_POSITION, position);
-        writer.write(FLOAT, angle);
+        writer.writeFloat(angle);
     }
 
     @Override
@@ -38,9 +38,9 @@ public record StatisticsPacket(@NotNull List<Statistic> statistics) implements S
 
         @Override
         public void write(@NotNull NetworkBuffer writer) {
-            writer.write(VAR_INT, category.ordinal());
-            writer.write(VAR_INT, statisticId);
-            writer.write(VAR_INT, value);
+            writer.writeVarInt(category.ordinal());
+            writer.writeVarInt(statisticId);
+            writer.writeVarInt(value);
         }
     }
 }
@@ -29,10 +29,10 @@ public record StopSoundPacket(byte flags, @Nullable Sound.Source source,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, flags);
+        writer.writeByte(flags);
         if (flags == 3 || flags == 1) {
             assert source != null;
-            writer.write(VAR_INT, AdventurePacketConvertor.getSoundSourceValue(source));
+            writer.writeVarInt(AdventurePacketConvertor.getSoundSourceValue(source));
         }
         if (flags == 2 || flags == 3) {
             assert sound != null;
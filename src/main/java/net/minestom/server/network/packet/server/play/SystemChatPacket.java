@@ -22,7 +22,7 @@ public record SystemChatPacket(@NotNull Component message, boolean overlay) impl
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(COMPONENT, message);
-        writer.write(BOOLEAN, overlay);
+        writer.writeBoolean(overlay);
     }
 
     @Override
@@ -28,9 +28,9 @@ public record TabCompletePacket(int transactionId, int start, int length,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, transactionId);
-        writer.write(VAR_INT, start);
-        writer.write(VAR_INT, length);
+        writer.writeVarInt(transactionId);
+        writer.writeVarInt(start);
+        writer.writeVarInt(length);
         writer.writeCollection(matches);
     }
 
@@ -29,18 +29,18 @@ public record TagsPacket(@NotNull Map<Tag.BasicType, List<Tag>> tagsMap) impleme
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, tagsMap.size());
+        writer.writeVarInt(tagsMap.size());
         for (var entry : tagsMap.entrySet()) {
             final var type = entry.getKey();
             final var tags = entry.getValue();
             writer.write(STRING, type.getIdentifier());
-            writer.write(VAR_INT, tags.size());
+            writer.writeVarInt(tags.size());
             for (var tag : tags) {
                 writer.write(STRING, tag.getName().asString());
                 final var values = tag.getValues();
-                writer.write(VAR_INT, values.size());
+                writer.writeVarInt(values.size());
                 for (var name : values) {
-                    writer.write(VAR_INT, type.getFunction().apply(name.asString()));
+                    writer.writeVarInt(type.getFunction().apply(name.asString()));
                 }
             }
         }
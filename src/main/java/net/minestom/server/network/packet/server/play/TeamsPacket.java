@@ -35,7 +35,7 @@ public record TeamsPacket(String teamName, Action action) implements ComponentHo
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, teamName);
-        writer.write(BYTE, (byte) action.id());
+        writer.writeByte((byte) action.id());
         writer.write(action);
     }
 
@@ -77,10 +77,10 @@ public record TeamsPacket(String teamName, Action action) implements ComponentHo
         @Override
         public void write(@NotNull NetworkBuffer writer) {
             writer.write(COMPONENT, displayName);
-            writer.write(BYTE, friendlyFlags);
+            writer.writeByte(friendlyFlags);
             writer.write(STRING, nameTagVisibility.getIdentifier());
             writer.write(STRING, collisionRule.getIdentifier());
-            writer.write(VAR_INT, AdventurePacketConvertor.getNamedTextColorValue(teamColor));
+            writer.writeVarInt(AdventurePacketConvertor.getNamedTextColorValue(teamColor));
             writer.write(COMPONENT, teamPrefix);
             writer.write(COMPONENT, teamSuffix);
             writer.writeCollection(STRING, entities);
@@ -138,10 +138,10 @@ public record TeamsPacket(String teamName, Action action) implements ComponentHo
         @Override
         public void write(@NotNull NetworkBuffer writer) {
             writer.write(COMPONENT, displayName);
-            writer.write(BYTE, friendlyFlags);
+            writer.writeByte(friendlyFlags);
             writer.write(STRING, nameTagVisibility.getIdentifier());
             writer.write(STRING, collisionRule.getIdentifier());
-            writer.write(VAR_INT, AdventurePacketConvertor.getNamedTextColorValue(teamColor));
+            writer.writeVarInt(AdventurePacketConvertor.getNamedTextColorValue(teamColor));
             writer.write(COMPONENT, teamPrefix);
             writer.write(COMPONENT, teamSuffix);
         }
@@ -14,8 +14,8 @@ public record TimeUpdatePacket(long worldAge, long timeOfDay) implements ServerP
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, worldAge);
-        writer.write(LONG, timeOfDay);
+        writer.writeLong(worldAge);
+        writer.writeLong(timeOfDay);
     }
 
     @Override
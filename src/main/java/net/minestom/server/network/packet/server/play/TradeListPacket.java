@@ -25,12 +25,12 @@ public record TradeListPacket(int windowId, @NotNull List<Trade> trades,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, windowId);
+        writer.writeVarInt(windowId);
         writer.writeCollection(trades);
-        writer.write(VAR_INT, villagerLevel);
-        writer.write(VAR_INT, experience);
-        writer.write(BOOLEAN, regularVillager);
-        writer.write(BOOLEAN, canRestock);
+        writer.writeVarInt(villagerLevel);
+        writer.writeVarInt(experience);
+        writer.writeBoolean(regularVillager);
+        writer.writeBoolean(canRestock);
     }
 
     @Override
@@ -54,13 +54,13 @@ public record TradeListPacket(int windowId, @NotNull List<Trade> trades,
             writer.write(ITEM, inputItem1);
             writer.write(ITEM, result);
             writer.writeOptional(ITEM, inputItem2);
-            writer.write(BOOLEAN, tradeDisabled);
-            writer.write(INT, tradeUsesNumber);
-            writer.write(INT, maxTradeUsesNumber);
-            writer.write(INT, exp);
-            writer.write(INT, specialPrice);
-            writer.write(FLOAT, priceMultiplier);
-            writer.write(INT, demand);
+            writer.writeBoolean(tradeDisabled);
+            writer.writeInt(tradeUsesNumber);
+            writer.writeInt(maxTradeUsesNumber);
+            writer.writeInt(exp);
+            writer.writeInt(specialPrice);
+            writer.writeFloat(priceMultiplier);
+            writer.writeInt(demand);
         }
     }
 }
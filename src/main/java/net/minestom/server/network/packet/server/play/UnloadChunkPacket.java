@@ -14,8 +14,8 @@ public record UnloadChunkPacket(int chunkX, int chunkZ) implements ServerPacket
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(INT, chunkX);
-        writer.write(INT, chunkZ);
+        writer.writeInt(chunkX);
+        writer.writeInt(chunkZ);
     }
 
     @Override
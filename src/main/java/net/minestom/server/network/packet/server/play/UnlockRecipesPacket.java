@@ -59,15 +59,15 @@ public record UnlockRecipesPacket(int mode,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, mode);
-        writer.write(BOOLEAN, craftingRecipeBookOpen);
-        writer.write(BOOLEAN, craftingRecipeBookFilterActive);
-        writer.write(BOOLEAN, smeltingRecipeBookOpen);
-        writer.write(BOOLEAN, smeltingRecipeBookFilterActive);
-        writer.write(BOOLEAN, blastFurnaceRecipeBookOpen);
-        writer.write(BOOLEAN, blastFurnaceRecipeBookFilterActive);
-        writer.write(BOOLEAN, smokerRecipeBookOpen);
-        writer.write(BOOLEAN, smokerRecipeBookFilterActive);
+        writer.writeVarInt(mode);
+        writer.writeBoolean(craftingRecipeBookOpen);
+        writer.writeBoolean(craftingRecipeBookFilterActive);
+        writer.writeBoolean(smeltingRecipeBookOpen);
+        writer.writeBoolean(smeltingRecipeBookFilterActive);
+        writer.writeBoolean(blastFurnaceRecipeBookOpen);
+        writer.writeBoolean(blastFurnaceRecipeBookFilterActive);
+        writer.writeBoolean(smokerRecipeBookOpen);
+        writer.writeBoolean(smokerRecipeBookFilterActive);
 
         writer.writeCollection(STRING, recipeIds);
         if (mode == 0) {
@@ -15,9 +15,9 @@ public record UpdateHealthPacket(float health, int food, float foodSaturation) i
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(FLOAT, health);
-        writer.write(VAR_INT, food);
-        writer.write(FLOAT, foodSaturation);
+        writer.writeFloat(health);
+        writer.writeVarInt(food);
+        writer.writeFloat(foodSaturation);
     }
 
     @Override
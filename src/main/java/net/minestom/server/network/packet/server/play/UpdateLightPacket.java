@@ -16,8 +16,8 @@ public record UpdateLightPacket(int chunkX, int chunkZ,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, chunkX);
-        writer.write(VAR_INT, chunkZ);
+        writer.writeVarInt(chunkX);
+        writer.writeVarInt(chunkZ);
         writer.write(lightData);
     }
 
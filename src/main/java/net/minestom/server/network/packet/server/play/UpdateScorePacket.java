@@ -28,9 +28,9 @@ public record UpdateScorePacket(@NotNull String entityName, byte action,
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(STRING, entityName);
-        writer.write(BYTE, action);
+        writer.writeByte(action);
         writer.write(STRING, objectiveName);
-        if (action != 1) writer.write(VAR_INT, value);
+        if (action != 1) writer.writeVarInt(value);
     }
 
     @Override
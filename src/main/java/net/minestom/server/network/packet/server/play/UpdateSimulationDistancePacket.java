@@ -14,7 +14,7 @@ public record UpdateSimulationDistancePacket(int simulationDistance) implements
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, simulationDistance);
+        writer.writeVarInt(simulationDistance);
     }
 
     @Override
@@ -14,7 +14,7 @@ public record UpdateViewDistancePacket(int viewDistance) implements ServerPacket
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, viewDistance);
+        writer.writeVarInt(viewDistance);
     }
 
     @Override
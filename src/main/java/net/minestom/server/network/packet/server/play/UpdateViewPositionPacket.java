@@ -14,8 +14,8 @@ public record UpdateViewPositionPacket(int chunkX, int chunkZ) implements Server
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, chunkX);
-        writer.write(VAR_INT, chunkZ);
+        writer.writeVarInt(chunkX);
+        writer.writeVarInt(chunkZ);
     }
 
     @Override
@@ -17,11 +17,11 @@ public record VehicleMovePacket(@NotNull Pos position) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(FLOAT, position.yaw());
-        writer.write(FLOAT, position.pitch());
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
+        writer.writeFloat(position.yaw());
+        writer.writeFloat(position.pitch());
     }
 
     @Override
@@ -28,8 +28,8 @@ public record WindowItemsPacket(byte windowId, int stateId, @NotNull List<ItemSt
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
-        writer.write(VAR_INT, stateId);
+        writer.writeByte(windowId);
+        writer.writeVarInt(stateId);
         writer.writeCollection(ITEM, items);
         writer.write(ITEM, carriedItem);
     }
@@ -15,9 +15,9 @@ public record WindowPropertyPacket(byte windowId, short property, short value) i
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BYTE, windowId);
-        writer.write(SHORT, property);
-        writer.write(SHORT, value);
+        writer.writeByte(windowId);
+        writer.writeShort(property);
+        writer.writeShort(value);
     }
 
     @Override
@@ -14,8 +14,8 @@ public record WorldBorderCenterPacket(double x, double z) implements ServerPacke
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, x);
-        writer.write(DOUBLE, z);
+        writer.writeDouble(x);
+        writer.writeDouble(z);
     }
 
     @Override
@@ -15,8 +15,8 @@ public record WorldBorderLerpSizePacket(double oldDiameter, double newDiameter,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, oldDiameter);
-        writer.write(DOUBLE, newDiameter);
+        writer.writeDouble(oldDiameter);
+        writer.writeDouble(newDiameter);
         writer.write(VAR_LONG, speed);
     }
 
@@ -14,7 +14,7 @@ public record WorldBorderSizePacket(double diameter) implements ServerPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, diameter);
+        writer.writeDouble(diameter);
     }
 
     @Override
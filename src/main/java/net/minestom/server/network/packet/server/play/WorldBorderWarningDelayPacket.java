@@ -14,7 +14,7 @@ public record WorldBorderWarningDelayPacket(int warningTime) implements ServerPa
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, warningTime);
+        writer.writeVarInt(warningTime);
     }
 
     @Override
@@ -14,7 +14,7 @@ public record WorldBorderWarningReachPacket(int warningBlocks) implements Server
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, warningBlocks);
+        writer.writeVarInt(warningBlocks);
     }
 
     @Override
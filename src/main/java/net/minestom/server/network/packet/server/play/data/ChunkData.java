@@ -35,17 +35,17 @@ public record ChunkData(@NotNull NBTCompound heightmaps, byte @NotNull [] data,
         // Data
         writer.write(BYTE_ARRAY, data);
         // Block entities
-        writer.write(VAR_INT, blockEntities.size());
+        writer.writeVarInt(blockEntities.size());
         for (var entry : blockEntities.entrySet()) {
             final int index = entry.getKey();
             final Block block = entry.getValue();
             final var registry = block.registry();
 
             final Point point = ChunkUtils.getBlockPosition(index, 0, 0);
-            writer.write(BYTE, (byte) ((point.blockX() & 15) << 4 | point.blockZ() & 15)); // xz
-            writer.write(SHORT, (short) point.blockY()); // y
+            writer.writeByte((byte) ((point.blockX() & 15) << 4 | point.blockZ() & 15)); // xz
+            writer.writeShort((short) point.blockY()); // y
 
-            writer.write(VAR_INT, registry.blockEntityId());
+            writer.writeVarInt(registry.blockEntityId());
             final NBTCompound nbt = BlockUtils.extractClientNbt(block);
             assert nbt != null;
             writer.write(NBT, nbt); // block nbt
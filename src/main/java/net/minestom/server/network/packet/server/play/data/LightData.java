@@ -22,7 +22,7 @@ public record LightData(boolean trustEdges,
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(BOOLEAN, trustEdges);
+        writer.writeBoolean(trustEdges);
 
         writer.write(LONG_ARRAY, skyMask.toLongArray());
         writer.write(LONG_ARRAY, blockMask.toLongArray());
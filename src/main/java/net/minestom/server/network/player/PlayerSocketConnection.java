@@ -72,6 +72,8 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
+    // Tick buffer bytes before this offset are either encrypted or were written before encryption was enabled
+    private int encryptedOffset;
     private BinaryBuffer cacheBuffer;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
@@ -368,47 +370,46 @@ public class PlayerSocketConnection extends PlayerConnection {
                         GlobalTranslator.render(component, Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale)));
             }
         }
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            var buffer = PacketUtils.createFramedPacket(hold.get(), serverPacket, compressed);
+        try (var hold = PacketUtils.createPooledFramedPacket(serverPacket, compressed)) {
+            var buffer = hold.get();
             writeBufferSync(buffer, 0, buffer.limit());
         }
     }
 
     private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
-        // Encrypt data
+        // Data is encrypted in place once the buffer is about to be sent, see #encryptPending
         final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null) { // Encryption support
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                ByteBuffer output = hold.get();
-                try {
-                    length = encryptionContext.encrypt().update(buffer.slice(index, length), output);
-                    writeBufferSync0(output, 0, length);
-                } catch (ShortBufferException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-                return;
-            }
-        }
-        writeBufferSync0(buffer, index, length);
-    }
-
-    private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
-            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
+            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer(encryptionContext);
             localBuffer.write(buffer, index, length);
         } else {
             final int bufferCount = length / capacity + 1;
             for (int i = 0; i < bufferCount; i++) {
                 final int sliceStart = i * capacity;
                 final int sliceLength = Math.min(length, sliceStart + capacity) - sliceStart;
-                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer();
+                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer(encryptionContext);
                 localBuffer.write(buffer, sliceStart, sliceLength);
             }
         }
+        // Must stay plain even if encryption gets enabled before the next flush
+        if (encryptionContext == null) this.encryptedOffset = localBuffer.writerOffset();
+    }
+
+    private void encryptPending(@Nullable EncryptionContext encryptionContext, @NotNull BinaryBuffer buffer) {
+        final int start = this.encryptedOffset;
+        final int end = buffer.writerOffset();
+        if (encryptionContext == null || start == end) return;
+        ByteBuffer input = buffer.asByteBuffer(start, end - start);
+        try {
+            encryptionContext.encrypt().update(input, input.duplicate());
+        } catch (ShortBufferException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        this.encryptedOffset = end;
     }
 
     public void flushSync() throws IOException {
@@ -419,6 +420,7 @@ public class PlayerSocketConnection extends PlayerConnection {
             BinaryBuffer localBuffer = tickBuffer.getPlain();
             if (localBuffer == null)
                 return; // Socket is closed
+            encryptPending(encryptionContext, localBuffer);
             localBuffer.writeChannel(channel);
         } else {
             // Write as much as possible from the waiting list
@@ -432,10 +434,13 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
-    private BinaryBuffer updateLocalBuffer() {
+    private BinaryBuffer updateLocalBuffer(@Nullable EncryptionContext encryptionContext) {
         BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
+        final BinaryBuffer previous = tickBuffer.getPlain();
+        encryptPending(encryptionContext, previous);
+        this.waitingBuffers.add(previous);
         this.tickBuffer.setPlain(newBuffer);
+        this.encryptedOffset = 0;
         return newBuffer;
     }
 
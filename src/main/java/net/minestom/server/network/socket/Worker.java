@@ -3,7 +3,7 @@ package net.minestom.server.network.socket;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.thread.MinestomThread;
-import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.BufferPool;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -70,7 +70,7 @@ public final class Worker extends MinestomThread {
                         return;
                     }
                     try {
-                        try (var holder = ObjectPool.PACKET_POOL.hold()) {
+                        try (var holder = BufferPool.hold(BufferPool.LARGE)) {
                             BinaryBuffer readBuffer = BinaryBuffer.wrap(holder.get());
                             // Consume last incomplete packet
                             connection.consumeCache(readBuffer);
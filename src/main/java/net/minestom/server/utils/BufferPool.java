@@ -0,0 +1,206 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.network.socket.Server;
+import org.jctools.queues.MpmcArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of temporary direct buffers, split into size classes so that small packets
+ * do not need to check out a {@link Server#MAX_PACKET_SIZE} buffer.
+ * <p>
+ * Each thread keeps a small magazine of buffers per size class, backed by a bounded shared queue.
+ * Buffers must be returned explicitly using {@link #release(ByteBuffer)} or a {@link Holder},
+ * buffers that are never released are simply garbage collected.
+ */
+@ApiStatus.Internal
+@ApiStatus.Experimental
+public final class BufferPool {
+    public static final int SMALL = 4 * 1024;
+    public static final int MEDIUM = 64 * 1024;
+    public static final int LARGE = Server.MAX_PACKET_SIZE;
+
+    // Shared pool size and per-thread magazine size of each class
+    private static final SizeClass[] SIZE_CLASSES = {
+            new SizeClass(SMALL, Integer.getInteger("minestom.buffer-pool.small-count", 1024), 16),
+            new SizeClass(MEDIUM, Integer.getInteger("minestom.buffer-pool.medium-count", 128), 4),
+            new SizeClass(LARGE, Integer.getInteger("minestom.buffer-pool.large-count", 16), 1)
+    };
+
+    private static final ThreadLocal<Magazine[]> MAGAZINES = ThreadLocal.withInitial(() -> {
+        Magazine[] magazines = new Magazine[SIZE_CLASSES.length];
+        for (int i = 0; i < magazines.length; i++) magazines[i] = new Magazine(SIZE_CLASSES[i].magazineSize);
+        return magazines;
+    });
+
+    private BufferPool() {
+    }
+
+    /**
+     * Gets a cleared buffer with a capacity of at least {@code minCapacity}.
+     * <p>
+     * The capacity is the one of the smallest size class able to hold {@code minCapacity},
+     * requests larger than {@link #LARGE} are allocated without being pooled.
+     *
+     * @param minCapacity the minimum capacity of the buffer
+     * @return a buffer, to give back using {@link #release(ByteBuffer)}
+     */
+    public static @NotNull ByteBuffer acquire(int minCapacity) {
+        final int index = sizeClassIndex(minCapacity);
+        if (index == -1) return ByteBuffer.allocateDirect(minCapacity);
+        final SizeClass sizeClass = SIZE_CLASSES[index];
+        ByteBuffer buffer = MAGAZINES.get()[index].pop();
+        if (buffer == null) buffer = sizeClass.shared.relaxedPoll();
+        if (buffer != null) {
+            sizeClass.hits.increment();
+            sizeClass.idle.decrement();
+            return buffer;
+        }
+        sizeClass.misses.increment();
+        return ByteBuffer.allocateDirect(sizeClass.capacity);
+    }
+
+    /**
+     * Gives back a buffer obtained from {@link #acquire(int)}.
+     * <p>
+     * The buffer must not be used after this call.
+     *
+     * @param buffer the buffer to release
+     */
+    public static void release(@NotNull ByteBuffer buffer) {
+        if (!buffer.isDirect()) return;
+        final int index = exactSizeClassIndex(buffer.capacity());
+        if (index == -1) return; // Not pooled
+        final SizeClass sizeClass = SIZE_CLASSES[index];
+        buffer.clear();
+        final Magazine magazine = MAGAZINES.get()[index];
+        if (!magazine.push(buffer)) {
+            // Magazine full, move half of it to the shared pool
+            magazine.drainHalf(sizeClass);
+            magazine.push(buffer);
+        }
+        sizeClass.idle.increment();
+    }
+
+    public static @NotNull Holder hold(int minCapacity) {
+        return new Holder(acquire(minCapacity));
+    }
+
+    /**
+     * Gets the statistics of every size class, from the smallest to the largest.
+     *
+     * @return the size class statistics
+     */
+    public static @NotNull List<@NotNull Stats> stats() {
+        Stats[] stats = new Stats[SIZE_CLASSES.length];
+        for (int i = 0; i < stats.length; i++) {
+            final SizeClass sizeClass = SIZE_CLASSES[i];
+            stats[i] = new Stats(sizeClass.capacity, sizeClass.hits.sum(), sizeClass.misses.sum(),
+                    sizeClass.dropped.sum(), Math.max(0, sizeClass.idle.sum()));
+        }
+        return List.of(stats);
+    }
+
+    private static int sizeClassIndex(int minCapacity) {
+        final SizeClass[] sizeClasses = SIZE_CLASSES;
+        for (int i = 0; i < sizeClasses.length; i++) {
+            if (minCapacity <= sizeClasses[i].capacity) return i;
+        }
+        return -1;
+    }
+
+    private static int exactSizeClassIndex(int capacity) {
+        final SizeClass[] sizeClasses = SIZE_CLASSES;
+        for (int i = 0; i < sizeClasses.length; i++) {
+            if (capacity == sizeClasses[i].capacity) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Statistics of a size class.
+     *
+     * @param capacity the capacity of the buffers in this class
+     * @param hits     the number of buffers reused
+     * @param misses   the number of buffers allocated because none was available
+     * @param dropped  the number of released buffers left to the garbage collector because the pool was full
+     * @param idle     the approximate number of buffers currently pooled, including thread magazines
+     */
+    public record Stats(int capacity, long hits, long misses, long dropped, long idle) {
+    }
+
+    public static final class Holder implements AutoCloseable {
+        private final ByteBuffer buffer;
+        private boolean closed;
+
+        Holder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        public @NotNull ByteBuffer get() {
+            if (closed) throw new IllegalStateException("Holder is closed");
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(buffer);
+            }
+        }
+    }
+
+    private static final class SizeClass {
+        final int capacity;
+        final int magazineSize;
+        final MpmcArrayQueue<ByteBuffer> shared;
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder idle = new LongAdder();
+
+        SizeClass(int capacity, int count, int magazineSize) {
+            this.capacity = capacity;
+            this.magazineSize = magazineSize;
+            this.shared = new MpmcArrayQueue<>(Math.max(2, count));
+        }
+    }
+
+    private static final class Magazine {
+        private final ByteBuffer[] buffers;
+        private int size;
+
+        Magazine(int capacity) {
+            this.buffers = new ByteBuffer[Math.max(1, capacity)];
+        }
+
+        ByteBuffer pop() {
+            if (size == 0) return null;
+            final ByteBuffer buffer = buffers[--size];
+            buffers[size] = null;
+            return buffer;
+        }
+
+        boolean push(ByteBuffer buffer) {
+            if (size == buffers.length) return false;
+            buffers[size++] = buffer;
+            return true;
+        }
+
+        void drainHalf(SizeClass sizeClass) {
+            final int target = size / 2;
+            while (size > target) {
+                final ByteBuffer buffer = pop();
+                if (!sizeClass.shared.relaxedOffer(buffer)) {
+                    sizeClass.dropped.increment();
+                    sizeClass.idle.decrement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * Compression settings and statistics per packet class, used by {@link PacketUtils#writeFramedPacket(java.nio.ByteBuffer, int, NetworkBuffer.Writer, int)}.
+ * <p>
+ * Packet classes whose recent payloads did not shrink below {@code minestom.compression.skip-ratio}
+ * (compressed size / uncompressed size) are sent uncompressed, with one packet out of {@code minestom.compression.probe-interval}
+ * still compressed to detect a change.
+ * <p>
+ * Every class uses {@code minestom.compression.level} unless changed with {@link #setLevel(Class, int)},
+ * a higher level can be worth its CPU time for packets cached and sent to many players, such as
+ * {@link net.minestom.server.network.packet.server.play.ChunkDataPacket}.
+ */
+@ApiStatus.Experimental
+public final class PacketCompression {
+    private static final int DEFAULT_LEVEL = Integer.getInteger("minestom.compression.level", Deflater.DEFAULT_COMPRESSION);
+    private static final double SKIP_RATIO = Double.parseDouble(System.getProperty("minestom.compression.skip-ratio", "0.95"));
+    private static final int PROBE_INTERVAL = Integer.getInteger("minestom.compression.probe-interval", 64);
+
+    // Level -> deflater, DEFAULT_COMPRESSION (-1) at index 0
+    private static final ThreadLocal<Deflater[]> LOCAL_DEFLATERS = ThreadLocal.withInitial(() -> new Deflater[11]);
+
+    private static final Map<Class<?>, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private PacketCompression() {
+    }
+
+    /**
+     * Changes the deflate level used for a packet class.
+     *
+     * @param type  the packet class
+     * @param level the level, between 0 and 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public static void setLevel(@NotNull Class<? extends NetworkBuffer.Writer> type, int level) {
+        Check.argCondition(level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION,
+                "Invalid compression level: {0}", level);
+        entry(type).level = level;
+    }
+
+    public static int getLevel(@NotNull Class<? extends NetworkBuffer.Writer> type) {
+        final Entry entry = ENTRIES.get(type);
+        return entry != null ? entry.level : DEFAULT_LEVEL;
+    }
+
+    public static @NotNull Stats stats(@NotNull Class<? extends NetworkBuffer.Writer> type) {
+        final Entry entry = ENTRIES.get(type);
+        return entry != null ? entry.stats() : new Stats(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Gets the statistics of every packet class that went above the compression threshold.
+     *
+     * @return a snapshot of the statistics
+     */
+    public static @NotNull Map<Class<?>, Stats> stats() {
+        Map<Class<?>, Stats> result = new HashMap<>();
+        ENTRIES.forEach((type, entry) -> {
+            final Stats stats = entry.stats();
+            if (stats.compressedPackets() > 0 || stats.skippedPackets() > 0) result.put(type, stats);
+        });
+        return Map.copyOf(result);
+    }
+
+    static @NotNull Entry entry(@NotNull Class<?> type) {
+        final Entry entry = ENTRIES.get(type);
+        return entry != null ? entry : ENTRIES.computeIfAbsent(type, t -> new Entry());
+    }
+
+    static @NotNull Deflater deflater(int level) {
+        final Deflater[] deflaters = LOCAL_DEFLATERS.get();
+        final int index = level + 1;
+        Deflater deflater = deflaters[index];
+        if (deflater == null) deflaters[index] = deflater = new Deflater(level);
+        return deflater;
+    }
+
+    /**
+     * Compression statistics of a packet class.
+     *
+     * @param compressedPackets the number of compressed packets
+     * @param skippedPackets    the number of packets above the threshold sent uncompressed
+     * @param uncompressedBytes the total size of the compressed packets before compression
+     * @param compressedBytes   the total size of the compressed packets after compression
+     * @param compressionNanos  the total time spent compressing
+     */
+    public record Stats(long compressedPackets, long skippedPackets,
+                        long uncompressedBytes, long compressedBytes, long compressionNanos) {
+        public double ratio() {
+            return uncompressedBytes != 0 ? (double) compressedBytes / uncompressedBytes : 1;
+        }
+
+        public double averageNanos() {
+            return compressedPackets != 0 ? (double) compressionNanos / compressedPackets : 0;
+        }
+    }
+
+    static final class Entry {
+        volatile int level = DEFAULT_LEVEL;
+        // Moving average of the recent ratios, racy updates are fine
+        private double ratio;
+        private int skipCount;
+
+        private final LongAdder compressedPackets = new LongAdder();
+        private final LongAdder skippedPackets = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+        private final LongAdder compressionNanos = new LongAdder();
+
+        boolean shouldCompress() {
+            if (ratio < SKIP_RATIO) return true;
+            if (++skipCount % PROBE_INTERVAL == 0) return true;
+            this.skippedPackets.increment();
+            return false;
+        }
+
+        void record(int uncompressedSize, int compressedSize, long nanos) {
+            final double ratio = (double) compressedSize / uncompressedSize;
+            final double previous = this.ratio;
+            this.ratio = previous == 0 ? ratio : previous * 0.875 + ratio * 0.125;
+            this.compressedPackets.increment();
+            this.uncompressedBytes.add(uncompressedSize);
+            this.compressedBytes.add(compressedSize);
+            this.compressionNanos.add(nanos);
+        }
+
+        Stats stats() {
+            return new Stats(compressedPackets.sum(), skippedPackets.sum(),
+                    uncompressedBytes.sum(), compressedBytes.sum(), compressionNanos.sum());
+        }
+    }
+}
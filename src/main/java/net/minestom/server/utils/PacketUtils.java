@@ -10,6 +10,7 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.GlobalTranslator;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
 import net.minestom.server.adventure.ComponentHolder;
@@ -29,6 +30,9 @@ import org.jetbrains.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -45,8 +49,6 @@ import java.util.zip.Inflater;
  * Be sure to check the implementation code.
  */
 public final class PacketUtils {
-    private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
-
     public static final boolean GROUPED_PACKET = PropertyUtils.getBoolean("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = PropertyUtils.getBoolean("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = PropertyUtils.getBoolean("minestom.viewable-packet", true);
@@ -101,6 +103,11 @@ public final class PacketUtils {
      */
     public static void sendGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket packet,
                                          @NotNull Predicate<Player> predicate) {
+        if (GROUPED_PACKET && !shouldUseCachePacket(packet)) {
+            // Packet must be translated, render it once per locale
+            sendTranslatedPacket(players, (ComponentHoldingServerPacket) packet, predicate);
+            return;
+        }
         final var sendablePacket = shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
 
         players.forEach(player -> {
@@ -108,9 +115,23 @@ public final class PacketUtils {
         });
     }
 
+    private static void sendTranslatedPacket(@NotNull Collection<Player> players, @NotNull ComponentHoldingServerPacket packet,
+                                             @NotNull Predicate<Player> predicate) {
+        Map<Locale, CachedPacket> translatedPackets = new HashMap<>();
+        players.forEach(player -> {
+            if (!predicate.test(player)) return;
+            final Locale locale = Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale);
+            final CachedPacket translated = translatedPackets.computeIfAbsent(locale, l ->
+                    new CachedPacket(packet.copyWithOperator(component -> GlobalTranslator.render(component, l))));
+            player.sendPacket(translated);
+        });
+    }
+
     /**
      * Checks if the {@link ServerPacket} is suitable to be wrapped into a {@link CachedPacket}.
-     * Note: {@link ComponentHoldingServerPacket}s are not translated inside a {@link CachedPacket}.
+     * Note: {@link ComponentHoldingServerPacket}s are not translated inside a {@link CachedPacket},
+     * those containing translatable components are instead cached once per locale by
+     * {@link #sendGroupedPacket(Collection, ServerPacket, Predicate)}.
      *
      * @see CachedPacket#body()
      * @see PlayerSocketConnection#writePacketSync(SendablePacket, boolean)
@@ -190,7 +211,7 @@ public final class PacketUtils {
     public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
                                                      BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
         BinaryBuffer remaining = null;
-        ByteBuffer pool = ObjectPool.PACKET_POOL.get();
+        ByteBuffer pool = BufferPool.acquire(BufferPool.LARGE);
         while (readBuffer.readableBytes() > 0) {
             final var beginMark = readBuffer.mark();
             try {
@@ -239,7 +260,7 @@ public final class PacketUtils {
                 break;
             }
         }
-        ObjectPool.PACKET_POOL.add(pool);
+        BufferPool.release(pool);
         return remaining;
     }
 
@@ -254,16 +275,27 @@ public final class PacketUtils {
                                          int id,
                                          @NotNull NetworkBuffer.Writer writer,
                                          int compressionThreshold) {
-        NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        writeFramedPacket(new NetworkBuffer(buffer, false), id, writer, compressionThreshold);
+    }
+
+    /**
+     * Frames a packet into {@code networkBuffer}, which can be resized while the packet is written.
+     *
+     * @return the buffer containing the framed packet, positioned at its end
+     */
+    private static ByteBuffer writeFramedPacket(@NotNull NetworkBuffer networkBuffer,
+                                                int id,
+                                                @NotNull NetworkBuffer.Writer writer,
+                                                int compressionThreshold) {
         if (compressionThreshold <= 0) {
             // Uncompressed format https://wiki.vg/Protocol#Without_compression
             final int lengthIndex = networkBuffer.skipWrite(3);
             networkBuffer.write(NetworkBuffer.VAR_INT, id);
             networkBuffer.write(writer);
             final int finalSize = networkBuffer.writeIndex() - (lengthIndex + 3);
+            final ByteBuffer buffer = networkBuffer.nioBuffer();
             Utils.writeVarIntHeader(buffer, lengthIndex, finalSize);
-            buffer.position(networkBuffer.writeIndex());
-            return;
+            return buffer.position(networkBuffer.writeIndex());
         }
         // Compressed format https://wiki.vg/Protocol#With_compression
         final int compressedIndex = networkBuffer.skipWrite(3);
@@ -273,25 +305,40 @@ public final class PacketUtils {
         networkBuffer.write(NetworkBuffer.VAR_INT, id);
         networkBuffer.write(writer);
         final int packetSize = networkBuffer.writeIndex() - contentStart;
-        final boolean compressed = packetSize >= compressionThreshold;
-        if (compressed) {
-            // Packet large enough, compress it
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
-                Deflater deflater = LOCAL_DEFLATER.get();
-                deflater.setInput(input.limit(packetSize));
-                deflater.finish();
-                deflater.deflate(buffer.position(contentStart));
-                deflater.reset();
-
-                networkBuffer.skipWrite(buffer.position() - contentStart);
+        final ByteBuffer buffer = networkBuffer.nioBuffer();
+        boolean compressed = false;
+        if (packetSize >= compressionThreshold) {
+            final PacketCompression.Entry compression = PacketCompression.entry(writer.getClass());
+            if (compression.shouldCompress()) {
+                // Packet large enough, compress it
+                final long start = System.nanoTime();
+                try (var hold = BufferPool.hold(packetSize)) {
+                    final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
+                    Deflater deflater = PacketCompression.deflater(compression.level);
+                    final int compressedSize;
+                    try {
+                        deflater.setInput(input.limit(packetSize));
+                        deflater.finish();
+                        compressedSize = deflater.deflate(buffer.position(contentStart));
+                        compressed = deflater.finished() && compressedSize < packetSize;
+                    } finally {
+                        deflater.reset();
+                    }
+                    compression.record(packetSize, compressedSize, System.nanoTime() - start);
+                    if (compressed) {
+                        networkBuffer.writeIndex(contentStart + compressedSize);
+                    } else {
+                        // Incompressible payload, restore it
+                        buffer.put(contentStart, input, 0, packetSize);
+                    }
+                }
             }
         }
         // Packet header (Packet + Data Length)
         Utils.writeVarIntHeader(buffer, compressedIndex, networkBuffer.writeIndex() - uncompressedIndex);
         Utils.writeVarIntHeader(buffer, uncompressedIndex, compressed ? packetSize : 0);
 
-        buffer.position(networkBuffer.writeIndex());
+        return buffer.position(networkBuffer.writeIndex());
     }
 
     @ApiStatus.Internal
@@ -305,10 +352,38 @@ public final class PacketUtils {
         return createFramedPacket(buffer, packet, MinecraftServer.getCompressionThreshold() > 0);
     }
 
+    /**
+     * Frames a packet into a pooled buffer.
+     * <p>
+     * The packet is written into a {@link BufferPool#SMALL} buffer, moved to the next size class
+     * ({@link BufferPool#MEDIUM} then {@link BufferPool#LARGE}) whenever it does not fit.
+     *
+     * @param packet      the packet to frame
+     * @param compression whether the packet should be compressed
+     * @return the holder of the flipped framed packet, to close once the buffer is not used anymore
+     */
+    @ApiStatus.Internal
+    public static BufferPool.@NotNull Holder createPooledFramedPacket(@NotNull ServerPacket packet, boolean compression) {
+        final NetworkBuffer networkBuffer = NetworkBuffer.pooled(BufferPool.acquire(BufferPool.SMALL));
+        try {
+            final ByteBuffer buffer = writeFramedPacket(networkBuffer, packet.getId(), packet,
+                    compression ? MinecraftServer.getCompressionThreshold() : 0);
+            return new BufferPool.Holder(buffer.flip());
+        } catch (Throwable t) {
+            BufferPool.release(networkBuffer.nioBuffer());
+            throw t;
+        }
+    }
+
+    @ApiStatus.Internal
+    public static BufferPool.@NotNull Holder createPooledFramedPacket(@NotNull ServerPacket packet) {
+        return createPooledFramedPacket(packet, MinecraftServer.getCompressionThreshold() > 0);
+    }
+
     @ApiStatus.Internal
     public static FramedPacket allocateTrimmedPacket(@NotNull ServerPacket packet) {
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            final ByteBuffer temp = PacketUtils.createFramedPacket(hold.get(), packet);
+        try (var hold = createPooledFramedPacket(packet)) {
+            final ByteBuffer temp = hold.get();
             final int size = temp.remaining();
             final ByteBuffer buffer = ByteBuffer.allocateDirect(size).put(0, temp, 0, size);
             return new FramedPacket(packet, buffer);
@@ -321,11 +396,13 @@ public final class PacketUtils {
         private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
 
         private synchronized void append(Viewable viewable, ServerPacket serverPacket, Player player) {
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer framedPacket = createFramedPacket(hold.get(), serverPacket);
+            try (var hold = createPooledFramedPacket(serverPacket)) {
+                ByteBuffer framedPacket = hold.get();
                 final int packetSize = framedPacket.limit();
                 if (packetSize >= buffer.capacity()) {
                     process(viewable);
+                    // Connections write asynchronously, the pooled buffer cannot be shared
+                    framedPacket = ByteBuffer.allocateDirect(packetSize).put(0, framedPacket, 0, packetSize);
                     for (Player viewer : viewable.getViewers()) {
                         if (!Objects.equals(player, viewer)) {
                             writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
@@ -1,5 +1,6 @@
 package net.minestom.server.utils.chunk;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.Chunk;
@@ -10,7 +11,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 @ApiStatus.Internal
@@ -20,7 +20,7 @@ public final class ChunkUtils {
     }
 
     /**
-     * Executes {@link Instance#loadOptionalChunk(int, int)} for the array of chunks {@code chunks}
+     * Executes {@link Instance#loadOptionalChunks(it.unimi.dsi.fastutil.longs.LongCollection)} for the array of chunks {@code chunks}
      * with multiple callbacks, {@code eachCallback} which is executed each time a new chunk is loaded and
      * {@code endCallback} when all the chunks in the array have been loaded.
      * <p>
@@ -34,20 +34,10 @@ public final class ChunkUtils {
      */
     public static @NotNull CompletableFuture<Void> optionalLoadAll(@NotNull Instance instance, long @NotNull [] chunks,
                                                                    @Nullable Consumer<Chunk> eachCallback) {
-        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-        AtomicInteger counter = new AtomicInteger(0);
-        for (long visibleChunk : chunks) {
-            // WARNING: if autoload is disabled and no chunks are loaded beforehand, player will be stuck.
-            instance.loadOptionalChunk(getChunkCoordX(visibleChunk), getChunkCoordZ(visibleChunk))
-                    .thenAccept((chunk) -> {
-                        if (eachCallback != null) eachCallback.accept(chunk);
-                        if (counter.incrementAndGet() == chunks.length) {
-                            // This is the last chunk to be loaded , spawn player
-                            completableFuture.complete(null);
-                        }
-                    });
-        }
-        return completableFuture;
+        // WARNING: if autoload is disabled and no chunks are loaded beforehand, player will be stuck.
+        return CompletableFuture.allOf(instance.loadOptionalChunks(LongArrayList.wrap(chunks)).values().stream()
+                .map(future -> eachCallback != null ? future.thenAccept(eachCallback) : future)
+                .toArray(CompletableFuture[]::new));
     }
 
     public static boolean isLoaded(@Nullable Chunk chunk) {
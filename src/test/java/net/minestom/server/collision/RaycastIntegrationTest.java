@@ -0,0 +1,140 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RaycastIntegrationTest {
+
+    @Test
+    public void nearestEntity(Env env) {
+        var instance = env.createFlatInstance();
+        var near = spawn(instance, new Pos(5.5, 40, 0.5));
+        var far = spawn(instance, new Pos(8.5, 40, 0.5));
+        final double expected = 5.5 + near.getBoundingBox().minX() - 0.5;
+
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.cast(instance, new Vec(0.5, 41, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertEquals(RaycastResult.Type.ENTITY, result.type());
+        assertSame(near, result.entity());
+        assertNull(result.block());
+        assertEquals(expected, result.distance(), 1e-9);
+        assertEquals(BlockFace.WEST, result.face());
+        assertEquals(new Vec(0.5 + expected, 41, 0.5), result.hitPosition());
+
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertSame(near, result.entity());
+
+        // Filtered out
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, 0.5), new Vec(1, 0, 0), 20,
+                entity -> entity != near, result));
+        assertSame(far, result.entity());
+
+        // Opposite direction
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(20.5, 41, 0.5), new Vec(-1, 0, 0), 30, null, result));
+        assertSame(far, result.entity());
+        assertEquals(BlockFace.EAST, result.face());
+    }
+
+    @Test
+    public void blockOccludesEntity(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance, new Pos(5.5, 40, 0.5));
+        instance.setBlock(3, 41, 0, Block.STONE);
+
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.cast(instance, new Vec(0.5, 41.5, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertEquals(RaycastResult.Type.BLOCK, result.type());
+        assertEquals(Block.STONE, result.block());
+        assertNull(result.entity());
+        assertEquals(2.5, result.distance(), 1e-9);
+
+        // Entities only ignore blocks
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41.5, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertSame(entity, result.entity());
+
+        // Entity in front of the block
+        instance.setBlock(3, 41, 0, Block.AIR);
+        instance.setBlock(7, 41, 0, Block.STONE);
+        assertTrue(Raycast.cast(instance, new Vec(0.5, 41.5, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertEquals(RaycastResult.Type.ENTITY, result.type());
+        assertSame(entity, result.entity());
+        // The block behind is not reported
+        assertNull(result.block());
+        assertEquals(0, result.blockX());
+        assertEquals(0, result.blockY());
+        assertEquals(0, result.blockZ());
+    }
+
+    @Test
+    public void largeBoundingBox(Env env) {
+        var instance = env.createFlatInstance();
+        // Position far from the ray, the bounding box crosses it
+        var entity = spawn(instance, new Pos(5.5, 40, 10.5));
+        entity.setBoundingBox(2, 2, 22);
+
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, 0.5), new Vec(1, 0, 0), 10, null, result));
+        assertSame(entity, result.entity());
+        assertEquals(4, result.distance(), 1e-9);
+    }
+
+    @Test
+    public void maxDistance(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance, new Pos(5.5, 40, 0.5));
+        final double distance = 5.5 + entity.getBoundingBox().minX() - 0.5;
+
+        RaycastResult result = new RaycastResult();
+        assertFalse(Raycast.cast(instance, new Vec(0.5, 41, 0.5), new Vec(1, 0, 0), distance - 0.01, null, result));
+        assertEquals(RaycastResult.Type.NONE, result.type());
+        assertNull(result.entity());
+        assertFalse(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, 0.5), new Vec(1, 0, 0),
+                distance - 0.01, null, result));
+
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, 0.5), new Vec(1, 0, 0),
+                distance + 0.01, null, result));
+        assertSame(entity, result.entity());
+    }
+
+    @Test
+    public void boundingBoxEdge(Env env) {
+        var instance = env.createFlatInstance();
+        final Pos position = new Pos(5.5, 40, 0.5);
+        var entity = spawn(instance, position);
+        final BoundingBox boundingBox = entity.getBoundingBox();
+        final double edgeZ = position.z() + boundingBox.maxZ();
+        final double topY = position.y() + boundingBox.maxY();
+
+        RaycastResult result = new RaycastResult();
+        // Grazing the side
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, edgeZ), new Vec(1, 0, 0), 20, null, result));
+        assertSame(entity, result.entity());
+        assertFalse(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, 41, edgeZ + 1e-6), new Vec(1, 0, 0), 20, null, result));
+        // Grazing the top
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, topY, 0.5), new Vec(1, 0, 0), 20, null, result));
+        assertSame(entity, result.entity());
+        assertFalse(Raycast.entities(instance.getEntityTracker(), new Vec(0.5, topY + 1e-6, 0.5), new Vec(1, 0, 0), 20, null, result));
+        // Hitting the top face from above
+        assertTrue(Raycast.entities(instance.getEntityTracker(), new Vec(5.5, 50, 0.5), new Vec(0, -1, 0), 20, null, result));
+        assertSame(entity, result.entity());
+        assertEquals(BlockFace.TOP, result.face());
+        assertEquals(50 - topY, result.distance(), 1e-9);
+    }
+
+    private static Entity spawn(Instance instance, Pos position) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, position).join();
+        return entity;
+    }
+}
@@ -0,0 +1,66 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RaycastTest {
+
+    @Test
+    public void fullBlock() {
+        Block.Getter getter = (x, y, z, condition) -> x == 5 && y == 0 && z == 0 ? Block.STONE : Block.AIR;
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.blocks(getter, new Vec(0.5, 0.5, 0.5), new Vec(1, 0, 0), 10, result));
+        assertEquals(RaycastResult.Type.BLOCK, result.type());
+        assertEquals(Block.STONE, result.block());
+        assertEquals(4.5, result.distance(), 1e-9);
+        assertEquals(5, result.blockX());
+        assertEquals(BlockFace.WEST, result.face());
+        assertEquals(new Vec(5, 0.5, 0.5), result.hitPosition());
+    }
+
+    @Test
+    public void outOfRange() {
+        Block.Getter getter = (x, y, z, condition) -> x == 5 && y == 0 && z == 0 ? Block.STONE : Block.AIR;
+        RaycastResult result = new RaycastResult();
+        assertFalse(Raycast.blocks(getter, new Vec(0.5, 0.5, 0.5), new Vec(1, 0, 0), 4, result));
+        assertEquals(RaycastResult.Type.NONE, result.type());
+        assertNull(result.block());
+    }
+
+    @Test
+    public void shape() {
+        // Bottom slab, the ray passes above it
+        Block.Getter getter = (x, y, z, condition) -> x == 2 && y == 0 && z == 0 ? Block.STONE_SLAB : Block.AIR;
+        RaycastResult result = new RaycastResult();
+        assertFalse(Raycast.blocks(getter, new Vec(0.5, 0.75, 0.5), new Vec(1, 0, 0), 10, result));
+        // Going down onto the slab
+        assertTrue(Raycast.blocks(getter, new Vec(2.5, 3, 0.5), new Vec(0, -1, 0), 10, result));
+        assertEquals(2.5, result.distance(), 1e-9);
+        assertEquals(BlockFace.TOP, result.face());
+    }
+
+    @Test
+    public void diagonal() {
+        Block.Getter getter = (x, y, z, condition) -> x == 3 && y == 3 && z == 3 ? Block.STONE : Block.AIR;
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.blocks(getter, new Vec(0.5, 0.5, 0.5), new Vec(1, 1, 1), 10, result));
+        assertEquals(3, result.blockX());
+        assertEquals(3, result.blockY());
+        assertEquals(3, result.blockZ());
+        assertEquals(Math.sqrt(3 * 2.5 * 2.5), result.distance(), 1e-9);
+    }
+
+    @Test
+    public void reuse() {
+        Block.Getter getter = (x, y, z, condition) -> x == 5 && y == 0 && z == 0 ? Block.STONE : Block.AIR;
+        RaycastResult result = new RaycastResult();
+        assertTrue(Raycast.blocks(getter, new Vec(0.5, 0.5, 0.5), new Vec(1, 0, 0), 10, result));
+        assertFalse(Raycast.blocks(getter, new Vec(0.5, 0.5, 0.5), new Vec(-1, 0, 0), 10, result));
+        assertFalse(result.isHit());
+        assertEquals(Double.POSITIVE_INFINITY, result.distance());
+    }
+}
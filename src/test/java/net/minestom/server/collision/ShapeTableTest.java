@@ -0,0 +1,65 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShapeTableTest {
+
+    @Test
+    public void empty() {
+        final int flags = ShapeTable.flags(Block.AIR);
+        assertTrue(ShapeTable.isEmpty(flags));
+        assertFalse(ShapeTable.isFullBlock(flags));
+        assertTrue(ShapeTable.isEmpty(ShapeTable.flags(Block.GRASS)));
+    }
+
+    @Test
+    public void fullBlock() {
+        final int flags = ShapeTable.flags(Block.STONE);
+        assertFalse(ShapeTable.isEmpty(flags));
+        assertTrue(ShapeTable.isFullBlock(flags));
+        assertTrue(ShapeTable.isSingleBox(flags));
+        assertFalse(ShapeTable.isShort(flags));
+        assertFalse(ShapeTable.isTall(flags));
+    }
+
+    @Test
+    public void singleBox() {
+        final int flags = ShapeTable.flags(Block.STONE_SLAB);
+        assertTrue(ShapeTable.isSingleBox(flags));
+        assertFalse(ShapeTable.isFullBlock(flags));
+        assertFalse(ShapeTable.isShort(flags));
+    }
+
+    @Test
+    public void tall() {
+        assertTrue(ShapeTable.isTall(ShapeTable.flags(Block.OAK_FENCE)));
+    }
+
+    @Test
+    public void sameShape() {
+        assertSame(Block.STONE.registry().collisionShape(), ShapeTable.shape(Block.STONE));
+        assertSame(Block.LANTERN.registry().collisionShape(), ShapeTable.shape(Block.LANTERN));
+    }
+
+    @Test
+    public void singleBoxSweep() {
+        final BoundingBox boundingBox = new BoundingBox(0.6, 1.8, 0.6);
+        final Vec position = new Vec(0.5, 3, 0.5);
+        final Vec velocity = new Vec(0, -5, 0);
+        for (Block block : new Block[]{Block.STONE, Block.STONE_SLAB}) {
+            final ShapeImpl shape = ShapeTable.shape(block);
+            SweepResult general = new SweepResult(1, 0, 0, 0, null);
+            SweepResult single = new SweepResult(1, 0, 0, 0, null);
+            assertTrue(shape.intersectBoxSwept(position, velocity, Vec.ZERO, boundingBox, general));
+            assertTrue(shape.intersectSingleBoxSwept(position, velocity, Vec.ZERO, boundingBox, single));
+            assertEquals(general.res, single.res);
+            assertEquals(general.normalY, single.normalY);
+            assertSame(shape, single.collidedShape);
+            assertEquals(block, single.blockType);
+        }
+    }
+}
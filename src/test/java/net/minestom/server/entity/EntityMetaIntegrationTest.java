@@ -24,6 +24,8 @@ public class EntityMetaIntegrationTest {
         var player = connection.connect(instance, new Pos(0, 42, 1)).join();
 
         assertTrue(player.getViewers().contains(otherPlayer));
+        // Flush the metadata changed during login
+        env.tick();
 
         var incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
 
@@ -50,23 +52,70 @@ public class EntityMetaIntegrationTest {
             }
         });
 
-        // Now test the "normal" behavior: Updates should be sent instantly
+        // Now test the "normal" behavior: Updates should be sent once per tick
         incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
         player.setInvisible(false);
         player.setNoGravity(false);
         player.setSneaking(false);
+        incomingPackets.assertEmpty();
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        env.tick();
         packets = incomingPackets.collect();
         validMetaDataPackets(packets, player.getEntityId(), entry -> {
             final Object content = entry.value();
             switch (entry.type()) {
-                case Metadata.TYPE_BYTE -> assertTrue(content.equals((byte) 2) || content.equals((byte) 0));
+                case Metadata.TYPE_BYTE -> assertEquals((byte) 0, content);
                 case Metadata.TYPE_BOOLEAN -> assertFalse((boolean) content);
                 case Metadata.TYPE_POSE -> assertEquals(Entity.Pose.STANDING, content);
                 default -> Assertions.fail("Invalid MetaData entry");
             }
         });
-        // 4 changes, for two viewers
-        assertEquals(4 * 2, packets.size());
+        // 4 changes merged into a single packet, for two viewers
+        assertEquals(2, packets.size());
+        assertEquals(3, packets.get(0).entries().size());
+
+        // Nothing changed since the last tick
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        env.tick();
+        incomingPackets.assertEmpty();
+    }
+
+    @Test
+    public void pendingChangesOnRemoval(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 1)).join();
+        assertTrue(entity.getViewers().contains(player));
+        env.tick();
+
+        // Changed after the entity tick, it will never be ticked again
+        var incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        entity.setInvisible(true);
+        entity.remove();
+        var packets = incomingPackets.collect();
+        assertEquals(1, packets.size());
+        validMetaDataPackets(packets, entity.getEntityId(), entry -> assertEquals((byte) 32, entry.value()));
+    }
+
+    @Test
+    public void pendingChangesOnInstanceChange(Env env) {
+        var instance = env.createFlatInstance();
+        var otherInstance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 1)).join();
+        assertTrue(entity.getViewers().contains(player));
+        env.tick();
+
+        var incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        entity.setInvisible(true);
+        entity.setInstance(otherInstance, new Pos(0, 42, 1)).join();
+        var packets = incomingPackets.collect();
+        assertEquals(1, packets.size());
+        validMetaDataPackets(packets, entity.getEntityId(), entry -> assertEquals((byte) 32, entry.value()));
     }
 
     private void validMetaDataPackets(List<EntityMetaDataPacket> packets, int entityId, Consumer<Metadata.Entry<?>> contentChecker) {
@@ -0,0 +1,97 @@
+package net.minestom.server.entity.ai;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnvTest
+public class EntityAIStaggeringTest {
+
+    @Test
+    public void goalEvaluationInterval(Env env) {
+        var instance = env.createFlatInstance();
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 42, 0)).join();
+
+        AtomicInteger evaluations = new AtomicInteger();
+        var goal = new CountingGoal(creature, evaluations);
+        goal.setEvaluationInterval(4);
+        creature.addAIGroup(List.of(goal), List.of());
+
+        for (int i = 0; i < 20; i++) creature.tick(System.currentTimeMillis());
+        assertEquals(5, evaluations.get());
+    }
+
+    @Test
+    public void targetScanInterval(Env env) {
+        var instance = env.createFlatInstance();
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 42, 0)).join();
+
+        AtomicInteger scans = new AtomicInteger();
+        var target = new TargetSelector(creature) {
+            @Override
+            public Entity findTarget() {
+                scans.incrementAndGet();
+                return null;
+            }
+        };
+        target.setScanInterval(5);
+        var goal = new CountingGoal(creature, new AtomicInteger()) {
+            @Override
+            public boolean shouldStart() {
+                findTarget();
+                return false;
+            }
+        };
+        creature.addAIGroup(List.of(goal), List.of(target));
+
+        for (int i = 0; i < 20; i++) creature.tick(System.currentTimeMillis());
+        // First scan, then one every 5 ticks depending on the entity id
+        final int count = scans.get();
+        assertTrue(count == 4 || count == 5, "scans: " + count);
+    }
+
+    private static class CountingGoal extends GoalSelector {
+        private final AtomicInteger evaluations;
+
+        CountingGoal(@NotNull EntityCreature entityCreature, AtomicInteger evaluations) {
+            super(entityCreature);
+            this.evaluations = evaluations;
+        }
+
+        @Override
+        public boolean shouldStart() {
+            evaluations.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void tick(long time) {
+        }
+
+        @Override
+        public boolean shouldEnd() {
+            return true;
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+}
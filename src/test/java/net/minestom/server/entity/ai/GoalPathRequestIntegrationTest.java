@@ -0,0 +1,117 @@
+package net.minestom.server.entity.ai;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.ai.goal.CombinedAttackGoal;
+import net.minestom.server.entity.ai.goal.FollowTargetGoal;
+import net.minestom.server.entity.ai.goal.MeleeAttackGoal;
+import net.minestom.server.entity.ai.goal.RangedAttackGoal;
+import net.minestom.server.entity.pathfinding.Navigator;
+import net.minestom.server.entity.pathfinding.PathfindingPool;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Goals moving toward their target request their paths asynchronously.
+ */
+@EnvTest
+public class GoalPathRequestIntegrationTest {
+
+    @Test
+    public void meleeAttack(Env env) {
+        assertRequestsPath(env, creature -> new MeleeAttackGoal(creature, 1, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void rangedAttack(Env env) {
+        assertRequestsPath(env, creature -> new RangedAttackGoal(creature, Duration.ofSeconds(1),
+                5, 2, false, 1, 0));
+    }
+
+    @Test
+    public void combinedAttack(Env env) {
+        assertRequestsPath(env, creature -> new CombinedAttackGoal(creature, 1, 5, 1, 0,
+                Duration.ofSeconds(1), 2, false));
+    }
+
+    @Test
+    public void followTarget(Env env) {
+        var instance = createInstance(env);
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 40, 0)).join();
+        var target = new Entity(EntityType.ZOMBIE);
+        target.setInstance(instance, new Pos(10, 40, 0)).join();
+        creature.setTarget(target);
+
+        var goal = new FollowTargetGoal(creature, Duration.ofMillis(50));
+        creature.addAIGroup(List.of(goal), List.of());
+        assertTrue(goal.shouldStart());
+        goal.start();
+        // The first path is synchronous
+        final Navigator navigator = creature.getNavigator();
+        assertEquals(new Pos(10, 40, 0), navigator.getPathPosition());
+
+        target.teleport(new Pos(10, 40, 4)).join();
+        final long completed = PathfindingPool.getCompletedCount();
+        goal.tick(System.currentTimeMillis());
+        // The previous path is followed until the new one is computed
+        assertEquals(new Pos(10, 40, 0), navigator.getPathPosition());
+        navigator.tick(System.nanoTime());
+        awaitCompletion(completed + 1);
+        navigator.tick(System.nanoTime());
+        assertEquals(new Pos(10, 40, 4), navigator.getPathPosition());
+    }
+
+    private static void assertRequestsPath(Env env, Function<EntityCreature, GoalSelector> goalFactory) {
+        var instance = createInstance(env);
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 40, 0)).join();
+        var target = new Entity(EntityType.ZOMBIE);
+        target.setInstance(instance, new Pos(10, 40, 0)).join();
+
+        var goal = goalFactory.apply(creature);
+        creature.addAIGroup(List.of(goal), List.of(new TargetSelector(creature) {
+            @Override
+            public Entity findTarget() {
+                return target;
+            }
+        }));
+
+        final long completed = PathfindingPool.getCompletedCount();
+        goal.tick(System.currentTimeMillis());
+        final Navigator navigator = creature.getNavigator();
+        assertNull(navigator.getPathPosition());
+        navigator.tick(System.nanoTime());
+        awaitCompletion(completed + 1);
+        navigator.tick(System.nanoTime());
+        assertEquals(target.getPosition(), navigator.getPathPosition());
+    }
+
+    private static void awaitCompletion(long count) {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (PathfindingPool.getCompletedCount() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "Path computation timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Instance createInstance(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,120 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class FlowFieldIntegrationTest {
+
+    @Test
+    public void flat(Env env) {
+        var instance = createInstance(env);
+        var field = instance.getInstanceSpace().flowField(new Vec(0, 40, 0));
+        assertEquals(0, field.distance(new Vec(0, 40, 0)));
+        assertEquals(5, field.distance(new Vec(5, 40, 0)));
+        assertEquals(new Vec(4.5, 40, 0.5), field.nextStep(new Vec(5.5, 40, 0.5)));
+        assertNull(field.nextStep(new Vec(0.5, 40, 0.5)));
+    }
+
+    @Test
+    public void shared(Env env) {
+        var instance = createInstance(env);
+        var field = instance.getInstanceSpace().flowField(new Vec(0, 40, 0));
+        assertSame(field, instance.getInstanceSpace().flowField(new Vec(1, 40, 1)));
+        assertNotSame(field, instance.getInstanceSpace().flowField(new Vec(16, 40, 16)));
+    }
+
+    @Test
+    public void blockChange(Env env) {
+        var instance = createInstance(env);
+        var field = instance.getInstanceSpace().flowField(new Vec(0, 40, 0));
+        // Wall too high to be jumped over
+        for (int z = -3; z <= 3; z++) {
+            instance.setBlock(2, 40, z, Block.STONE);
+            instance.setBlock(2, 41, z, Block.STONE);
+        }
+        final int distance = field.distance(new Vec(5, 40, 0));
+        assertTrue(distance > 5, "distance: " + distance);
+        // Remove the wall
+        for (int z = -3; z <= 3; z++) {
+            instance.setBlock(2, 40, z, Block.AIR);
+            instance.setBlock(2, 41, z, Block.AIR);
+        }
+        assertEquals(5, field.distance(new Vec(5, 40, 0)));
+    }
+
+    @Test
+    public void step(Env env) {
+        var instance = createInstance(env);
+        var field = instance.getInstanceSpace().flowField(new Vec(0, 40, 0));
+        // Single block step, can be jumped on
+        instance.setBlock(3, 40, 0, Block.STONE);
+        assertEquals(3, field.distance(new Vec(3, 41, 0)));
+        assertEquals(new Vec(3.5, 41, 0.5), field.nextStep(new Vec(4.5, 40, 0.5)));
+    }
+
+    @Test
+    public void concurrentRetrieval(Env env) throws Exception {
+        var instance = createInstance(env);
+        var space = instance.getInstanceSpace();
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<FlowField>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> space.flowField(new Vec(8, 40, 8))));
+            }
+            final FlowField field = futures.get(0).get();
+            for (Future<FlowField> future : futures) assertSame(field, future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentRead(Env env) throws Exception {
+        var instance = createInstance(env);
+        var field = instance.getInstanceSpace().flowField(new Vec(0, 40, 0));
+        AtomicBoolean running = new AtomicBoolean(true);
+        var reader = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                final int distance = field.distance(new Vec(5, 40, 0));
+                // Either with or without the wall, never a partially updated field
+                assertTrue(distance >= 5, "distance: " + distance);
+            }
+        });
+        for (int i = 0; i < 50; i++) {
+            final Block block = i % 2 == 0 ? Block.STONE : Block.AIR;
+            for (int z = -3; z <= 3; z++) {
+                instance.setBlock(2, 40, z, block);
+                instance.setBlock(2, 41, z, block);
+            }
+            field.distance(new Vec(5, 40, 0));
+        }
+        running.set(false);
+        reader.get();
+        assertEquals(5, field.distance(new Vec(5, 40, 0)));
+    }
+
+    private static Instance createInstance(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        return instance;
+    }
+}
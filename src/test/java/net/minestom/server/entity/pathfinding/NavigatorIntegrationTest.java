@@ -0,0 +1,141 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class NavigatorIntegrationTest {
+
+    @Test
+    public void requestAppliedNextTick(Env env) {
+        var instance = createInstance(env);
+        var creature = createCreature(instance);
+        var navigator = creature.getNavigator();
+        final Vec target = new Vec(5, 40, 0);
+
+        final long submitted = PathfindingPool.getSubmittedCount();
+        final long completed = PathfindingPool.getCompletedCount();
+        var future = navigator.requestPathTo(target);
+        assertFalse(future.isDone());
+        navigator.tick(System.nanoTime());
+        assertEquals(submitted + 1, PathfindingPool.getSubmittedCount());
+        assertNull(navigator.getPathPosition());
+
+        awaitCompletion(completed + 1);
+        // Computed, but only applied by the entity tick
+        assertFalse(future.isDone());
+        assertNull(navigator.getPathPosition());
+        navigator.tick(System.nanoTime());
+        assertTrue(future.join());
+        assertEquals(target, navigator.getPathPosition());
+
+        assertTrue(PathfindingPool.getAverageComputeTime() > 0);
+        assertTrue(PathfindingPool.getMaxComputeTime() >= PathfindingPool.getAverageComputeTime());
+        assertTrue(PathfindingPool.getQueueDepth() >= 0);
+    }
+
+    @Test
+    public void requestReplaced(Env env) {
+        var instance = createInstance(env);
+        var creature = createCreature(instance);
+        var navigator = creature.getNavigator();
+
+        var first = navigator.requestPathTo(new Vec(5, 40, 0));
+        assertSame(first, navigator.requestPathTo(new Vec(5, 40, 0)));
+        var second = navigator.requestPathTo(new Vec(0, 40, 5));
+        assertFalse(first.join());
+        assertFalse(second.isDone());
+
+        // Synchronous paths cancel the requests
+        assertTrue(navigator.setPathTo(new Vec(3, 40, 3)));
+        assertFalse(second.join());
+    }
+
+    @Test
+    public void budgetDeferral(Env env) {
+        var instance = createInstance(env);
+        var creature = createCreature(instance);
+        var navigator = creature.getNavigator();
+
+        final long time = System.nanoTime();
+        for (int i = 0; i < PathfindingPool.TICK_BUDGET; i++) {
+            assertTrue(PathfindingPool.acquireBudget(time));
+        }
+        final long deferred = PathfindingPool.getDeferredCount();
+        final long submitted = PathfindingPool.getSubmittedCount();
+        var future = navigator.requestPathTo(new Vec(5, 40, 0));
+        navigator.tick(time);
+        assertEquals(deferred + 1, PathfindingPool.getDeferredCount());
+        assertEquals(submitted, PathfindingPool.getSubmittedCount());
+
+        // Retried with the budget of the next tick
+        final long completed = PathfindingPool.getCompletedCount();
+        navigator.tick(time + 1);
+        assertEquals(submitted + 1, PathfindingPool.getSubmittedCount());
+        awaitCompletion(completed + 1);
+        navigator.tick(time + 2);
+        assertTrue(future.join());
+    }
+
+    @Test
+    public void snapshotSpace(Env env) {
+        var instance = createInstance(env);
+        var space = PFSnapshotSpace.take(instance, new Vec(0, 40, 0), 16);
+        instance.setBlock(1, 41, 1, Block.STONE);
+        assertSame(PFBlock.get(Block.AIR), space.blockObjectAt(1, 41, 1));
+        assertSame(PFBlock.get(Block.AIR), space.columnarSpaceAt(0, 0).blockAt(1, 41, 1));
+        assertSame(PFBlock.get(Block.STONE), space.blockObjectAt(1, 39, 1));
+        assertSame(PFBlock.get(Block.STONE), instance.getInstanceSpace().blockObjectAt(1, 41, 1));
+
+        space.release();
+        assertSame(PFBlock.get(Block.STONE), space.blockObjectAt(1, 41, 1));
+        assertSame(PFBlock.get(Block.STONE), space.columnarSpaceAt(0, 0).blockAt(1, 41, 1));
+    }
+
+    @Test
+    public void snapshotEntity(Env env) {
+        var instance = createInstance(env);
+        var creature = createCreature(instance);
+        var snapshot = creature.getNavigator().getPathingEntity().snapshot();
+        creature.teleport(new Pos(5, 40, 5)).join();
+        assertEquals(0.0, snapshot.coordinates().x);
+        assertEquals(0.0, snapshot.coordinates().z);
+
+        snapshot.release();
+        assertEquals(5.0, snapshot.coordinates().x);
+        assertEquals(5.0, snapshot.coordinates().z);
+    }
+
+    private static void awaitCompletion(long count) {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (PathfindingPool.getCompletedCount() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "Path computation timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static EntityCreature createCreature(Instance instance) {
+        var creature = new EntityCreature(EntityType.ZOMBIE);
+        creature.setInstance(instance, new Pos(0, 40, 0)).join();
+        return creature;
+    }
+
+    private static Instance createInstance(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        return instance;
+    }
+}
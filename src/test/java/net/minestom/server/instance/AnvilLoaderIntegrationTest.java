@@ -1,8 +1,11 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
@@ -14,9 +17,14 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class AnvilLoaderIntegrationTest {
@@ -144,6 +152,79 @@ public class AnvilLoaderIntegrationTest {
         env.destroyInstance(instance);
     }
 
+    @Test
+    public void loadParallel(Env env) {
+        Instance instance = env.createFlatInstance(new AnvilLoader(worldFolder));
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                futures.add(instance.loadChunk(x, z));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        assertEquals(Block.BEDROCK, instance.getBlock(0, 0, 0));
+        assertEquals(Block.TORCH, instance.getBlock(-1, 2, -1));
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void loadChunks(Env env) {
+        Instance instance = env.createFlatInstance(new AnvilLoader(worldFolder));
+        LongList chunks = new LongArrayList();
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                chunks.add(ChunkUtils.getChunkIndex(x, z));
+            }
+        }
+        // Outside of the test regions
+        chunks.add(ChunkUtils.getChunkIndex(100, 100));
+        var futures = instance.loadOptionalChunks(chunks);
+        assertEquals(chunks.size(), futures.size());
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        for (long index : chunks) {
+            final Chunk chunk = futures.get(index).join();
+            assertEquals(ChunkUtils.getChunkCoordX(index), chunk.getChunkX());
+            assertEquals(ChunkUtils.getChunkCoordZ(index), chunk.getChunkZ());
+            assertSame(chunk, instance.getChunk(chunk.getChunkX(), chunk.getChunkZ()));
+        }
+        assertEquals(Block.BEDROCK, instance.getBlock(0, 0, 0));
+        assertEquals(Block.TORCH, instance.getBlock(-1, 2, -1));
+        // Generated
+        assertEquals(Block.STONE, instance.getBlock(1600, 0, 1600));
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void regionClosedWithoutLoadedChunk(Env env) throws IOException {
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        Instance instance = env.createFlatInstance(loader);
+        final LongList stored = loader.storedChunks();
+        // Chunks missing from the region file containing the chunk 0, 0
+        LongList missing = new LongArrayList();
+        for (int x = 0; x < 32 && missing.size() < 2; x++) {
+            if (!stored.contains(ChunkUtils.getChunkIndex(x, 0))) missing.add(ChunkUtils.getChunkIndex(x, 0));
+        }
+        assertEquals(2, missing.size());
+
+        instance.loadChunk(ChunkUtils.getChunkCoordX(missing.getLong(0)), 0).join();
+        assertEquals(0, loader.openRegionCount());
+        instance.loadOptionalChunks(LongList.of(missing.getLong(1))).values().forEach(CompletableFuture::join);
+        assertEquals(0, loader.openRegionCount());
+
+        // Kept open while one of its chunks is loaded
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        assertEquals(1, loader.openRegionCount());
+        instance.unloadChunk(chunk);
+        assertEquals(0, loader.openRegionCount());
+        // Saved after its unload
+        loader.saveChunk(chunk).join();
+        assertEquals(0, loader.openRegionCount());
+
+        env.destroyInstance(instance);
+    }
+
     @Test
     public void loadAndSaveChunk(Env env) throws InterruptedException {
         Instance instance = env.createFlatInstance(new AnvilLoader(worldFolder) {
@@ -0,0 +1,112 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkGenerationExecutorIntegrationTest {
+
+    @Test
+    public void generate(Env env) {
+        var instance = env.createFlatInstance();
+        final long generated = ChunkGenerationExecutor.getGeneratedCount();
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 4; z++) {
+                futures.add(instance.loadChunk(x, z));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        assertEquals(Block.STONE, instance.getBlock(60, 10, 60));
+        // Metrics are updated after completing the chunk future
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getGeneratedCount() - generated < 16, Duration.ofSeconds(5)));
+        assertTrue(ChunkGenerationExecutor.getAverageLatency() > 0);
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void playerDistanceOrder(Env env) {
+        var instance = env.createFlatInstance();
+        Semaphore blockers = new Semaphore(0);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        instance.setGenerator(unit -> {
+            final int chunkX = unit.absoluteStart().chunkX();
+            if (chunkX >= 200) blockers.acquireUninterruptibly();
+            else if (chunkX >= 100) order.add(chunkX);
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+        });
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        awaitIdle(env);
+
+        // Occupy every generation thread
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int i = 0; i < ChunkGenerationExecutor.THREADS; i++) futures.add(instance.loadChunk(200 + i, 0));
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getRunningCount() < ChunkGenerationExecutor.THREADS, Duration.ofSeconds(5)));
+        for (int chunkX : new int[]{130, 110, 120}) futures.add(instance.loadChunk(chunkX, 0));
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getQueuedCount() < 3, Duration.ofSeconds(5)));
+
+        // A single thread generates the queued chunks
+        blockers.release();
+        assertTrue(env.tickWhile(() -> order.size() < 3, Duration.ofSeconds(5)));
+        assertEquals(List.of(110, 120, 130), order);
+
+        blockers.release(ChunkGenerationExecutor.THREADS);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        player.remove();
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void cancelledWithoutViewers(Env env) {
+        var instance = env.createFlatInstance();
+        Semaphore blockers = new Semaphore(0);
+        instance.setGenerator(unit -> {
+            if (unit.absoluteStart().chunkX() >= 200) blockers.acquireUninterruptibly();
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+        });
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        awaitIdle(env);
+        instance.unloadChunk(2, 2);
+        instance.unloadChunk(3, 3);
+        assertNull(instance.getChunk(2, 2));
+
+        // Occupy every generation thread
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int i = 0; i < ChunkGenerationExecutor.THREADS; i++) futures.add(instance.loadChunk(200 + i, 0));
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getRunningCount() < ChunkGenerationExecutor.THREADS, Duration.ofSeconds(5)));
+        final long cancelled = ChunkGenerationExecutor.getCancelledCount();
+        var optional = instance.loadOptionalChunk(2, 2);
+        var required = instance.loadChunk(3, 3);
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getQueuedCount() < 2, Duration.ofSeconds(5)));
+
+        // All the viewers left
+        player.remove();
+        blockers.release(ChunkGenerationExecutor.THREADS);
+        assertNull(optional.join());
+        assertNull(instance.getChunk(2, 2));
+        assertTrue(ChunkGenerationExecutor.getCancelledCount() > cancelled);
+        // Chunks requested through Instance#loadChunk are still generated
+        assertNotNull(required.join());
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        env.destroyInstance(instance);
+    }
+
+    private static void awaitIdle(Env env) {
+        assertTrue(env.tickWhile(() -> ChunkGenerationExecutor.getQueuedCount() > 0 ||
+                ChunkGenerationExecutor.getRunningCount() > 0, Duration.ofSeconds(5)));
+    }
+}
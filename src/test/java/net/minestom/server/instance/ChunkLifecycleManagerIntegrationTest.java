@@ -0,0 +1,101 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkLifecycleManagerIntegrationTest {
+
+    @Test
+    public void gracePeriod(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var manager = new ChunkLifecycleManager(Duration.ofHours(1), Long.MAX_VALUE);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(10, 10).join();
+
+        manager.update(instance);
+        assertEquals(2, manager.getChunkCount());
+        assertEquals(0, manager.getUsedChunkCount());
+        assertEquals(0, manager.getUnloadedCount());
+        assertTrue(manager.getEstimatedMemory() > 0);
+
+        var expiring = new ChunkLifecycleManager(Duration.ZERO, Long.MAX_VALUE);
+        expiring.update(instance);
+        assertEquals(2, expiring.getUnloadedCount());
+        assertEquals(0, expiring.getChunkCount());
+        assertNull(instance.getChunk(0, 0));
+        assertNull(instance.getChunk(10, 10));
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void viewedChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        env.createPlayer(instance, new Pos(0, 42, 0));
+        instance.loadChunk(100, 100).join();
+
+        var manager = new ChunkLifecycleManager(Duration.ZERO, Long.MAX_VALUE);
+        manager.update(instance);
+        assertNotNull(instance.getChunk(0, 0));
+        assertNull(instance.getChunk(100, 100));
+        assertEquals(1, manager.getUnloadedCount());
+        assertEquals(manager.getChunkCount(), manager.getUsedChunkCount());
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void memoryBudget(Env env) throws InterruptedException {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        final Chunk chunk = instance.loadChunk(0, 0).join();
+        final long chunkMemory = ChunkLifecycleManager.estimateMemory(chunk);
+        instance.loadChunk(1, 0).join();
+
+        var manager = new ChunkLifecycleManager(Duration.ofHours(1), chunkMemory * 2);
+        manager.update(instance);
+        assertEquals(2, manager.getChunkCount());
+        assertEquals(0, manager.getUnloadedCount());
+
+        Thread.sleep(10);
+        // Modified chunks are used, the section already holds multiple blocks
+        instance.setBlock(0, 35, 0, Block.STONE);
+        instance.loadChunk(2, 0).join();
+        manager.update(instance);
+        assertEquals(1, manager.getUnloadedCount());
+        assertSame(chunk, instance.getChunk(0, 0));
+        assertNull(instance.getChunk(1, 0));
+        assertNotNull(instance.getChunk(2, 0));
+        assertEquals(chunkMemory * 2, manager.getEstimatedMemory());
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void sharedMemoryExcluded(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        final Chunk chunk = instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        var copy = instance.copy();
+        final long chunkMemory = ChunkLifecycleManager.estimateMemory(chunk);
+        final long sharedMemory = ChunkLifecycleManager.estimateSharedMemory(chunk);
+        assertTrue(sharedMemory > 0);
+
+        // Unloading would not free the palettes shared with the copy
+        var manager = new ChunkLifecycleManager(Duration.ofHours(1), (chunkMemory - sharedMemory) * 2);
+        manager.update(instance);
+        assertEquals(0, manager.getUnloadedCount());
+        assertEquals(chunkMemory * 2, manager.getEstimatedMemory());
+        assertEquals(sharedMemory * 2, manager.getSharedMemory());
+        assertNotNull(copy.getChunk(1, 0));
+
+        env.destroyInstance(instance);
+    }
+}
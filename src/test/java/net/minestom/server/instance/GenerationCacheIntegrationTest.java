@@ -0,0 +1,97 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class GenerationCacheIntegrationTest {
+
+    @Test
+    public void reuse(Env env) {
+        AtomicInteger generations = new AtomicInteger();
+        Generator generator = unit -> {
+            generations.incrementAndGet();
+            final Point start = unit.absoluteStart();
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+            unit.modifier().setBlock(start.blockX() + 1, 41, start.blockZ() + 1, Block.CHEST);
+        };
+        var cache = new GenerationCache(16);
+        var first = createInstance(env, generator, cache);
+        first.loadChunk(0, 0).join();
+        assertEquals(1, generations.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+
+        var second = createInstance(env, generator, cache);
+        var chunk = second.loadChunk(0, 0).join();
+        assertEquals(1, generations.get());
+        assertEquals(1, cache.getHitCount());
+        assertTrue(chunk.isDirty());
+        assertEquals(Block.STONE, second.getBlock(0, 10, 0));
+        assertEquals(Block.CHEST, second.getBlock(1, 41, 1));
+
+        // Palettes are not shared
+        second.setBlock(0, 10, 0, Block.DIRT);
+        assertEquals(Block.STONE, first.getBlock(0, 10, 0));
+
+        env.destroyInstance(first);
+        env.destroyInstance(second);
+    }
+
+    @Test
+    public void eviction(Env env) {
+        AtomicInteger generations = new AtomicInteger();
+        Generator generator = unit -> {
+            generations.incrementAndGet();
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+        };
+        var cache = new GenerationCache(1);
+        var instance = createInstance(env, generator, cache);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        assertEquals(1, cache.getSize());
+
+        var other = createInstance(env, generator, cache);
+        other.loadChunk(1, 0).join();
+        other.loadChunk(0, 0).join();
+        assertEquals(3, generations.get());
+
+        env.destroyInstance(instance);
+        env.destroyInstance(other);
+    }
+
+    @Test
+    public void forksIgnored(Env env) {
+        AtomicInteger generations = new AtomicInteger();
+        Generator generator = unit -> {
+            generations.incrementAndGet();
+            final Point start = unit.absoluteStart();
+            unit.fork(setter -> setter.setBlock(start.blockX() + 20, 50, start.blockZ(), Block.STONE));
+        };
+        var cache = new GenerationCache(16);
+        var first = createInstance(env, generator, cache);
+        first.loadChunk(0, 0).join();
+        var second = createInstance(env, generator, cache);
+        second.loadChunk(0, 0).join();
+        assertEquals(2, generations.get());
+        assertEquals(0, cache.getSize());
+
+        env.destroyInstance(first);
+        env.destroyInstance(second);
+    }
+
+    private static InstanceContainer createInstance(Env env, Generator generator, GenerationCache cache) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setGenerator(generator);
+        instance.setGenerationCache(cache);
+        return instance;
+    }
+}
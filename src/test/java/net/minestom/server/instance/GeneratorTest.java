@@ -345,6 +345,35 @@ public class GeneratorTest {
         }
     }
 
+    @Test
+    public void chunkFillArea() {
+        final int minSection = -1;
+        final int maxSection = 5;
+        final int sectionCount = maxSection - minSection;
+        Section[] sections = new Section[sectionCount];
+        Arrays.setAll(sections, i -> new Section());
+        var chunkUnits = GeneratorImpl.chunk(minSection, maxSection, List.of(sections), 3, -2);
+        final Point start = new Vec(50, 5, -30);
+        final Point end = new Vec(60, 40, -20);
+        Generator generator = chunk -> chunk.modifier().fill(start, end, Block.STONE);
+        generator.generate(chunkUnits);
+
+        AtomicInteger index = new AtomicInteger(minSection);
+        for (var section : sections) {
+            section.blockPalette().getAll((x, y, z, value) -> {
+                final int absoluteX = 48 + x;
+                final int absoluteY = index.get() * 16 + y;
+                final int absoluteZ = -32 + z;
+                final boolean inside = absoluteX >= start.x() && absoluteX < end.x() &&
+                        absoluteY >= start.y() && absoluteY < end.y() &&
+                        absoluteZ >= start.z() && absoluteZ < end.z();
+                assertEquals(inside ? Block.STONE.stateId() : 0, value,
+                        "fail for coordinate: " + absoluteX + "," + absoluteY + "," + absoluteZ);
+            });
+            index.incrementAndGet();
+        }
+    }
+
     @Test
     public void sectionFill() {
         Section section = new Section();
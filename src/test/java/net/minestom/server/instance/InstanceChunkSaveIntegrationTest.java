@@ -0,0 +1,158 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceChunkSaveIntegrationTest {
+
+    @Test
+    public void saveDirty(Env env) {
+        var loader = new RecordingLoader(false);
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        // Generated chunks are not in storage yet
+        assertTrue(chunk.isDirty());
+
+        instance.saveDirtyChunksToStorage().join();
+        assertFalse(chunk.isDirty());
+        assertEquals(1, loader.saved.size());
+        var snapshot = loader.saved.get(0);
+        assertNotSame(chunk, snapshot);
+        synchronized (snapshot) {
+            assertEquals(Block.STONE, snapshot.getBlock(0, 0, 0));
+        }
+
+        // Nothing changed
+        instance.saveDirtyChunksToStorage().join();
+        assertEquals(1, loader.saved.size());
+
+        instance.setBlock(0, 50, 0, Block.DIAMOND_BLOCK);
+        assertTrue(chunk.isDirty());
+        instance.saveDirtyChunksToStorage().join();
+        assertEquals(2, loader.saved.size());
+        snapshot = loader.saved.get(1);
+        synchronized (snapshot) {
+            assertEquals(Block.DIAMOND_BLOCK, snapshot.getBlock(0, 50, 0));
+        }
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void loadedClean(Env env) {
+        var loader = new RecordingLoader(true);
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        assertFalse(chunk.isDirty());
+
+        instance.saveDirtyChunksToStorage().join();
+        assertTrue(loader.saved.isEmpty());
+
+        // Explicit saves ignore the flag
+        instance.saveChunkToStorage(chunk).join();
+        assertEquals(List.of(chunk), loader.saved);
+        instance.saveChunksToStorage().join();
+        assertEquals(2, loader.saved.size());
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void modifiedWhileSaving(Env env) {
+        var loader = new RecordingLoader(false);
+        var instance = env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        loader.onSave = () -> instance.setBlock(0, 50, 0, Block.DIAMOND_BLOCK);
+
+        instance.saveChunkToStorage(chunk).join();
+        // Modified after the saved state was read
+        assertTrue(chunk.isDirty());
+
+        loader.onSave = () -> {
+        };
+        instance.saveChunkToStorage(chunk).join();
+        assertFalse(chunk.isDirty());
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void failedSave(Env env) {
+        var loader = new RecordingLoader(false);
+        loader.failures.set(Integer.MAX_VALUE);
+        var instance = env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+
+        var future = instance.saveChunksToStorage();
+        assertThrows(CompletionException.class, future::join);
+        // Saved again with the next instance save
+        assertTrue(chunk.isDirty());
+        assertTrue(loader.saved.isEmpty());
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void failedSaveUnloaded(Env env) {
+        var loader = new RecordingLoader(false);
+        var instance = env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        instance.unloadChunk(chunk);
+        assertFalse(chunk.isLoaded());
+
+        // Retried as the chunk cannot be saved by the instance anymore
+        loader.failures.set(1);
+        ((InstanceContainer) instance).queueChunkSave(chunk).join();
+        assertEquals(1, loader.saved.size());
+        assertTrue(env.process().instance().awaitPendingSaves(Duration.ofSeconds(5)));
+
+        env.destroyInstance(instance);
+    }
+
+    private static final class RecordingLoader implements IChunkLoader {
+        private final boolean present;
+        private final List<Chunk> saved = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile Runnable onSave = () -> {
+        };
+
+        RecordingLoader(boolean present) {
+            this.present = present;
+        }
+
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            if (!present) return CompletableFuture.completedFuture(null);
+            Chunk chunk = new DynamicChunk(instance, chunkX, chunkZ);
+            synchronized (chunk) {
+                chunk.setBlock(0, 0, 0, Block.STONE);
+            }
+            return CompletableFuture.completedFuture(chunk);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            if (failures.getAndDecrement() > 0) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Save failure"));
+            }
+            this.onSave.run();
+            this.saved.add(chunk);
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
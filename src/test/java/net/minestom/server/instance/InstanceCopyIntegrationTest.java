@@ -0,0 +1,46 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceCopyIntegrationTest {
+
+    @Test
+    public void copyOnWrite(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(0, 50, 0, Block.DIAMOND_BLOCK);
+        final Chunk chunk = instance.getChunk(0, 0);
+        // Palette interning is disabled by default
+        assertEquals(0, ChunkLifecycleManager.estimateSharedMemory(chunk));
+        final long sectionMemory = chunk.getSectionAt(50).blockPalette().estimatedMemory();
+
+        var copy = instance.copy();
+        env.process().instance().registerInstance(copy);
+        final Chunk copiedChunk = copy.getChunk(0, 0);
+        assertNotNull(copiedChunk);
+        final long sharedMemory = ChunkLifecycleManager.estimateSharedMemory(copiedChunk);
+        assertTrue(sharedMemory > sectionMemory);
+        assertEquals(sharedMemory, ChunkLifecycleManager.estimateSharedMemory(chunk));
+        assertEquals(Block.DIAMOND_BLOCK, copy.getBlock(0, 50, 0));
+
+        // Only the modified section is copied
+        copy.setBlock(0, 50, 0, Block.GOLD_BLOCK);
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(0, 50, 0));
+        assertEquals(Block.GOLD_BLOCK, copy.getBlock(0, 50, 0));
+        final long remainingMemory = ChunkLifecycleManager.estimateSharedMemory(copiedChunk);
+        assertEquals(sharedMemory - sectionMemory, remainingMemory);
+        assertEquals(remainingMemory, ChunkLifecycleManager.estimateSharedMemory(chunk));
+
+        instance.setBlock(0, 10, 0, Block.DIRT);
+        assertEquals(Block.STONE, copy.getBlock(0, 10, 0));
+
+        env.destroyInstance(instance);
+        env.destroyInstance(copy);
+    }
+}
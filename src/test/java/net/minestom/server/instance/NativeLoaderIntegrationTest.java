@@ -0,0 +1,81 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class NativeLoaderIntegrationTest {
+
+    @Test
+    public void saveAndLoad(Env env, @TempDir Path folder) throws IOException {
+        final Path file = folder.resolve("world.mnw");
+        final Block nbtBlock = Block.STONE.withNbt(NBT.Compound(Map.of("key", NBT.String("value"))));
+
+        NativeLoader loader = new NativeLoader(file);
+        Instance instance = env.createFlatInstance(loader);
+        Chunk originalChunk = instance.loadChunk(0, 0).join();
+        instance.setBlock(1, 50, 1, Block.DIAMOND_BLOCK);
+        instance.setBlock(2, 51, 3, nbtBlock);
+        instance.saveChunkToStorage(originalChunk).join();
+        // Kept in memory until flushed
+        assertFalse(Files.exists(file));
+        loader.flush();
+        assertTrue(Files.exists(file));
+
+        Instance reloaded = env.createFlatInstance(new NativeLoader(file));
+        Chunk reloadedChunk = reloaded.loadChunk(0, 0).join();
+        assertEquals(Block.DIAMOND_BLOCK, reloaded.getBlock(1, 50, 1));
+        assertEquals(nbtBlock, reloaded.getBlock(2, 51, 3));
+        assertEquals(Block.STONE, reloaded.getBlock(5, 10, 5));
+        for (int section = reloadedChunk.getMinSection(); section < reloadedChunk.getMaxSection(); section++) {
+            Section originalSection = originalChunk.getSection(section);
+            Section reloadedSection = reloadedChunk.getSection(section);
+            var original = NetworkBuffer.makeArray(networkBuffer -> networkBuffer.write(originalSection));
+            var loaded = NetworkBuffer.makeArray(networkBuffer -> networkBuffer.write(reloadedSection));
+            assertArrayEquals(original, loaded);
+        }
+
+        env.destroyInstance(instance);
+        env.destroyInstance(reloaded);
+    }
+
+    @Test
+    public void convertAnvil(Env env, @TempDir Path folder) throws IOException {
+        final Path anvilRoot = Path.of("src", "test", "resources", "net", "minestom", "server", "instance", "anvil_loader");
+        final Path anvilWorld = folder.resolve("anvil");
+        try (Stream<Path> files = Files.walk(anvilRoot)) {
+            for (Path source : files.toList()) {
+                Files.copy(source, anvilWorld.resolve(anvilRoot.relativize(source).toString()));
+            }
+        }
+        final Path file = folder.resolve("world.mnw");
+        NativeLoader.convertAnvil(anvilWorld, file, DimensionType.OVERWORLD);
+
+        Instance instance = env.createFlatInstance(new NativeLoader(file));
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                assertNotNull(instance.loadChunk(x, z).join());
+            }
+        }
+        assertEquals(Block.BEDROCK, instance.getBlock(0, 0, 0));
+        assertEquals(Block.WARPED_NYLIUM, instance.getBlock(4, 0, -2));
+        assertEquals(Block.TORCH, instance.getBlock(-1, 2, -1));
+        assertEquals(Block.POTTED_POPPY, instance.getBlock(-1, 2, -3));
+
+        env.destroyInstance(instance);
+    }
+}
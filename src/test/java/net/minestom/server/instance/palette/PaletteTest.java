@@ -2,6 +2,7 @@ package net.minestom.server.instance.palette;
 
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.NetworkBuffer;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -128,6 +129,114 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void fillArea() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            final int half = dimension / 2;
+            palette.set(0, 0, 0, 5);
+            // Complete layers
+            palette.fill(0, 0, 0, dimension, half, dimension, 6);
+            assertEquals(6, palette.get(0, 0, 0));
+            assertEquals(0, palette.get(0, half, 0));
+            assertEquals(dimension * dimension * half, palette.count());
+            // Partial box
+            palette.fill(1, 0, 1, dimension, dimension, half, 7);
+            palette.fill(0, 0, 0, 1, half, dimension, 0);
+            int count = 0;
+            for (int x = 0; x < dimension; x++) {
+                for (int y = 0; y < dimension; y++) {
+                    for (int z = 0; z < dimension; z++) {
+                        final int expected;
+                        if (x == 0 && y < half) expected = 0;
+                        else if (x >= 1 && z >= 1 && z < half) expected = 7;
+                        else expected = y < half ? 6 : 0;
+                        assertEquals(expected, palette.get(x, y, z), "Invalid value at " + x + "," + y + "," + z);
+                        if (expected != 0) count++;
+                    }
+                }
+            }
+            assertEquals(count, palette.count());
+            // Complete palette
+            palette.fill(0, 0, 0, dimension, dimension, dimension, 8);
+            assertEquals(palette.maxSize(), palette.count());
+            assertEquals(8, palette.get(half, half, half));
+        }
+    }
+
+    @Test
+    public void cloneCopyOnWrite() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            palette.set(0, 0, 0, 5);
+            palette.set(1, 0, 0, 6);
+            Palette copy = palette.clone();
+            assertTrue(palette.isShared());
+            assertTrue(copy.isShared());
+
+            copy.set(0, 0, 0, 7);
+            assertFalse(palette.isShared());
+            assertFalse(copy.isShared());
+            assertEquals(5, palette.get(0, 0, 0));
+            assertEquals(7, copy.get(0, 0, 0));
+            assertEquals(6, copy.get(1, 0, 0));
+            assertEquals(2, copy.count());
+
+            Palette other = palette.clone();
+            palette.fill(8);
+            assertFalse(other.isShared());
+            assertEquals(5, other.get(0, 0, 0));
+            assertEquals(8, palette.get(0, 0, 0));
+        }
+    }
+
+    @Test
+    public void unreachableCloneReleased() throws InterruptedException {
+        Palette palette = Palette.blocks();
+        palette.set(0, 0, 0, 5);
+        palette.set(1, 0, 0, 6);
+        palette.clone();
+        assertTrue(palette.isShared());
+        for (int i = 0; i < 100 && palette.isShared(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertFalse(palette.isShared());
+    }
+
+    @Test
+    public void intern() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            Palette other = Palette.newPalette(dimension, 5, 3);
+            palette.set(0, 0, 0, 5);
+            other.set(0, 0, 0, 5);
+            palette.intern();
+            other.intern();
+            assertTrue(palette.isShared());
+            assertTrue(other.isShared());
+
+            // Split on write
+            other.set(1, 0, 0, 6);
+            assertEquals(0, palette.get(1, 0, 0));
+            assertEquals(6, other.get(1, 0, 0));
+            assertEquals(1, palette.count());
+            assertEquals(2, other.count());
+
+            // Uniform palettes are reduced to a single value
+            Palette uniform = Palette.newPalette(dimension, 5, 3);
+            uniform.set(0, 0, 0, 7);
+            uniform.fill(0, 0, 0, dimension, dimension, dimension, 7);
+            uniform.set(1, 1, 1, 7);
+            uniform.intern();
+            assertEquals(0, uniform.bitsPerEntry());
+            assertEquals(7, uniform.get(1, 1, 1));
+            assertEquals(uniform.maxSize(), uniform.count());
+        }
+    }
+
     @Test
     public void bulk() {
         var palettes = testPalettes();
@@ -273,6 +382,37 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void read() {
+        Palette filled = Palette.blocks();
+        filled.fill(7);
+        Palette indirect = Palette.blocks();
+        indirect.set(0, 0, 0, 1);
+        indirect.set(15, 15, 15, 2);
+        indirect.set(3, 4, 5, 300);
+        Palette direct = Palette.blocks();
+        direct.setAll((x, y, z) -> x + y * 16 + z * 256);
+        for (Palette palette : List.of(Palette.blocks(), filled, indirect, direct)) {
+            NetworkBuffer buffer = new NetworkBuffer();
+            buffer.write(palette);
+            Palette read = Palette.readBlocks(buffer);
+            assertEquals(palette.count(), read.count());
+            assertEquals(0, buffer.readableBytes());
+            palette.getAll((x, y, z, value) -> assertEquals(value, read.get(x, y, z)));
+        }
+
+        Palette biomes = Palette.biomes();
+        biomes.set(1, 2, 3, 4);
+        NetworkBuffer buffer = new NetworkBuffer();
+        buffer.write(biomes);
+        Palette read = Palette.readBiomes(buffer);
+        assertEquals(4, read.get(1, 2, 3));
+        assertEquals(1, read.count());
+        // Still writable
+        read.set(0, 0, 0, 5);
+        assertEquals(5, read.get(0, 0, 0));
+    }
+
     @Test
     public void dimension() {
         assertThrows(Exception.class, () -> Palette.newPalette(-4, 5, 3));
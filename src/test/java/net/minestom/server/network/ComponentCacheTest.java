@@ -0,0 +1,44 @@
+package net.minestom.server.network;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static net.minestom.server.network.NetworkBuffer.COMPONENT;
+import static net.minestom.server.network.NetworkBuffer.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ComponentCacheTest {
+
+    @Test
+    public void sameEncoding() {
+        var component = Component.text("Kills: ", NamedTextColor.GRAY)
+                .append(Component.text("42", NamedTextColor.GREEN));
+
+        var expected = new NetworkBuffer();
+        expected.write(STRING, GsonComponentSerializer.gson().serialize(component));
+
+        for (int i = 0; i < 2; i++) {
+            var buffer = new NetworkBuffer();
+            buffer.write(COMPONENT, component);
+            assertEquals(expected.writeIndex(), buffer.writeIndex());
+            assertEquals(component, buffer.read(COMPONENT));
+        }
+    }
+
+    @Test
+    public void equalComponentsHit() {
+        assumeTrue(ComponentCache.isEnabled());
+        final long hits = ComponentCache.getHitCount();
+        final long misses = ComponentCache.getMissCount();
+
+        var buffer = new NetworkBuffer();
+        buffer.write(COMPONENT, Component.text("ComponentCacheTest#equalComponentsHit"));
+        buffer.write(COMPONENT, Component.text("ComponentCacheTest#equalComponentsHit"));
+
+        assertTrue(ComponentCache.getMissCount() > misses);
+        assertTrue(ComponentCache.getHitCount() > hits);
+    }
+}
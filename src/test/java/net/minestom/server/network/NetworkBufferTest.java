@@ -14,6 +14,7 @@ import java.util.*;
 import static net.minestom.server.network.NetworkBuffer.*;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NetworkBufferTest {
 
@@ -252,6 +253,49 @@ public class NetworkBufferTest {
         assertBufferType(UUID, new UUID(1, 1), new byte[]{0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1});
     }
 
+    @Test
+    public void primitives() {
+        var typed = new NetworkBuffer();
+        typed.write(BOOLEAN, true);
+        typed.write(BYTE, (byte) -3);
+        typed.write(SHORT, (short) 1234);
+        typed.write(INT, 123456789);
+        typed.write(LONG, 1234567890123L);
+        typed.write(FLOAT, 1.5f);
+        typed.write(DOUBLE, -2.25);
+        typed.write(VAR_INT, 25565);
+        typed.write(VAR_INT, -1);
+
+        var primitive = new NetworkBuffer();
+        primitive.writeBoolean(true);
+        primitive.writeByte((byte) -3);
+        primitive.writeShort((short) 1234);
+        primitive.writeInt(123456789);
+        primitive.writeLong(1234567890123L);
+        primitive.writeFloat(1.5f);
+        primitive.writeDouble(-2.25);
+        primitive.writeVarInt(25565);
+        primitive.writeVarInt(-1);
+
+        assertEquals(typed.writeIndex(), primitive.writeIndex());
+        final byte[] typedBytes = new byte[typed.writeIndex()];
+        final byte[] primitiveBytes = new byte[primitive.writeIndex()];
+        typed.copyTo(0, typedBytes, 0, typedBytes.length);
+        primitive.copyTo(0, primitiveBytes, 0, primitiveBytes.length);
+        assertArrayEquals(typedBytes, primitiveBytes);
+
+        assertTrue(primitive.readBoolean());
+        assertEquals((byte) -3, primitive.readByte());
+        assertEquals((short) 1234, primitive.readShort());
+        assertEquals(123456789, primitive.readInt());
+        assertEquals(1234567890123L, primitive.readLong());
+        assertEquals(1.5f, primitive.readFloat());
+        assertEquals(-2.25, primitive.readDouble());
+        assertEquals(25565, primitive.readVarInt());
+        assertEquals(-1, primitive.readVarInt());
+        assertEquals(primitive.writeIndex(), primitive.readIndex());
+    }
+
     @Test
     public void item() {
         assertBufferType(ITEM, ItemStack.AIR);
@@ -259,6 +303,22 @@ public class NetworkBufferTest {
         assertBufferType(ITEM, ItemStack.of(Material.DIAMOND_AXE, 1).withMeta(builder -> builder.damage(1)));
     }
 
+    @Test
+    public void itemCachedEncoding() {
+        var item = ItemStack.of(Material.DIAMOND_AXE, 1).withMeta(builder -> builder.damage(1));
+        var expected = new NetworkBuffer();
+        expected.write(BOOLEAN, true);
+        expected.write(VAR_INT, item.material().id());
+        expected.write(BYTE, (byte) item.amount());
+        expected.write(NBT, item.meta().toNBT());
+        final byte[] expectedBytes = new byte[expected.writeIndex()];
+        expected.copyTo(0, expectedBytes, 0, expectedBytes.length);
+        // Second write uses the cached encoding
+        for (int i = 0; i < 2; i++) {
+            assertArrayEquals(expectedBytes, NetworkBuffer.makeArray(buffer -> buffer.write(ITEM, item)));
+        }
+    }
+
     @Test
     public void optional() {
         assertBufferTypeOptional(BOOLEAN, null, new byte[]{0});
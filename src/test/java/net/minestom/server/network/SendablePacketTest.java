@@ -3,13 +3,16 @@ package net.minestom.server.network;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.LazyPacket;
+import net.minestom.server.network.packet.server.PacketCache;
 import net.minestom.server.network.packet.server.play.SystemChatPacket;
 import net.minestom.server.utils.PacketUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class SendablePacketTest {
 
@@ -41,4 +44,26 @@ public class SendablePacketTest {
 
         assertSame(packet, cached.packet());
     }
+
+    @Test
+    public void cachedStrong() {
+        assumeTrue(PacketCache.isEnabled());
+        var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+        AtomicInteger counter = new AtomicInteger();
+        var cached = CachedPacket.strong(() -> {
+            counter.incrementAndGet();
+            return packet;
+        });
+        final long hits = PacketCache.getHitCount();
+
+        var cachedBuffer = cached.body();
+        assertEquals(PacketUtils.allocateTrimmedPacket(packet).body(), cachedBuffer);
+        assertSame(cachedBuffer, cached.body());
+        assertEquals(1, counter.get());
+        assertTrue(PacketCache.getHitCount() > hits);
+
+        cached.invalidate();
+        assertNotSame(cachedBuffer, cached.body());
+        assertEquals(2, counter.get());
+    }
 }
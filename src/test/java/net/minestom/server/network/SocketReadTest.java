@@ -2,7 +2,7 @@ package net.minestom.server.network;
 
 import it.unimi.dsi.fastutil.Pair;
 import net.minestom.server.network.packet.client.play.ClientPluginMessagePacket;
-import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.BufferPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.Utils;
 import net.minestom.server.utils.binary.BinaryBuffer;
@@ -23,7 +23,7 @@ public class SocketReadTest {
     public void complete(boolean compressed) throws DataFormatException {
         var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
 
         var wrapper = BinaryBuffer.wrap(buffer);
@@ -47,7 +47,7 @@ public class SocketReadTest {
     public void completeTwo(boolean compressed) throws DataFormatException {
         var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
         PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
 
@@ -75,7 +75,7 @@ public class SocketReadTest {
 
         var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
         Utils.writeVarInt(buffer, 200); // incomplete 200 bytes packet
 
@@ -103,7 +103,7 @@ public class SocketReadTest {
 
         var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
         buffer.put((byte) -85); // incomplete var-int length
 
@@ -1,18 +1,22 @@
 package net.minestom.server.network;
 
 import net.minestom.server.network.packet.server.ServerPacket;
-import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.BufferPool;
+import net.minestom.server.utils.PacketCompression;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.Utils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 import static net.minestom.server.network.NetworkBuffer.INT;
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
 import static net.minestom.server.network.NetworkBuffer.STRING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SocketWriteTest {
 
@@ -40,11 +44,23 @@ public class SocketWriteTest {
         }
     }
 
+    record RawPacket(byte[] value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(RAW_BYTES, value);
+        }
+
+        @Override
+        public int getId() {
+            return 1;
+        }
+    }
+
     @Test
     public void writeSingleUncompressed() {
         var packet = new IntPacket(5);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, packet, false);
 
         // 3 bytes length [var-int] + 1 byte packet id [var-int] + 4 bytes int
@@ -56,7 +72,7 @@ public class SocketWriteTest {
     public void writeMultiUncompressed() {
         var packet = new IntPacket(5);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, packet, false);
         PacketUtils.writeFramedPacket(buffer, packet, false);
 
@@ -73,7 +89,7 @@ public class SocketWriteTest {
 
         var packet = new CompressiblePacket(string);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, packet, true);
 
         // 3 bytes packet length [var-int] + 3 bytes data length [var-int] + 1 byte packet id [var-int] + payload
@@ -85,7 +101,7 @@ public class SocketWriteTest {
     public void writeSingleCompressedSmall() {
         var packet = new IntPacket(5);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, packet, true);
 
         // 3 bytes packet length [var-int] + 3 bytes data length [var-int] + 1 byte packet id [var-int] + 4 bytes int
@@ -97,7 +113,7 @@ public class SocketWriteTest {
     public void writeMultiCompressedSmall() {
         var packet = new IntPacket(5);
 
-        var buffer = ObjectPool.PACKET_POOL.get();
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
         PacketUtils.writeFramedPacket(buffer, packet, true);
         PacketUtils.writeFramedPacket(buffer, packet, true);
 
@@ -105,4 +121,39 @@ public class SocketWriteTest {
         // The 3 bytes var-int length is hardcoded for performance purpose, could change in the future
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.position(), "Invalid buffer position");
     }
+
+    @Test
+    public void writeSingleCompressedSize() {
+        var string = "Hello world!".repeat(200);
+        var stringLength = string.getBytes(StandardCharsets.UTF_8).length;
+        var lengthLength = Utils.getVarIntSize(stringLength);
+
+        var packet = new CompressiblePacket(string);
+
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
+        PacketUtils.writeFramedPacket(buffer, packet.getId(), packet, 256);
+
+        // 3 bytes packet length [var-int] + 3 bytes data length [var-int] + compressed (packet id + payload)
+        assertTrue(buffer.position() < 3 + 3 + 1 + lengthLength + stringLength, "Compressed packet is not smaller");
+        final int packetLength = Utils.readVarInt(buffer.flip());
+        assertEquals(buffer.limit() - 3, packetLength, "Packet length does not match the compressed size");
+    }
+
+    @Test
+    public void writeIncompressible() {
+        var bytes = new byte[1000];
+        new Random(5).nextBytes(bytes);
+        var packet = new RawPacket(bytes);
+
+        var buffer = BufferPool.acquire(BufferPool.LARGE);
+        PacketUtils.writeFramedPacket(buffer, packet.getId(), packet, 256);
+
+        // Sent uncompressed: 3 bytes packet length [var-int] + 3 bytes data length (0) [var-int] + 1 byte packet id [var-int] + payload
+        assertEquals(3 + 3 + 1 + bytes.length, buffer.position(), "Incompressible packet should not be compressed");
+        buffer.flip().position(3);
+        assertEquals(0, Utils.readVarInt(buffer), "Data length should be 0 for an uncompressed packet");
+
+        var stats = PacketCompression.stats(RawPacket.class);
+        assertTrue(stats.compressedPackets() + stats.skippedPackets() > 0);
+    }
 }
@@ -0,0 +1,79 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.network.packet.server.play.PluginMessagePacket;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferPoolTest {
+
+    @Test
+    public void sizeClass() {
+        var small = BufferPool.acquire(10);
+        assertEquals(BufferPool.SMALL, small.capacity());
+        assertTrue(small.isDirect());
+        var medium = BufferPool.acquire(BufferPool.SMALL + 1);
+        assertEquals(BufferPool.MEDIUM, medium.capacity());
+        var large = BufferPool.acquire(BufferPool.MEDIUM + 1);
+        assertEquals(BufferPool.LARGE, large.capacity());
+        BufferPool.release(small);
+        BufferPool.release(medium);
+        BufferPool.release(large);
+    }
+
+    @Test
+    public void reuse() {
+        var buffer = BufferPool.acquire(BufferPool.SMALL);
+        buffer.putInt(5);
+        BufferPool.release(buffer);
+        // Same thread, taken back from the magazine
+        var reused = BufferPool.acquire(BufferPool.SMALL);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(reused.capacity(), reused.limit());
+        BufferPool.release(reused);
+
+        var stats = BufferPool.stats().get(0);
+        assertEquals(BufferPool.SMALL, stats.capacity());
+        assertTrue(stats.hits() > 0);
+        assertTrue(stats.idle() > 0);
+    }
+
+    @Test
+    public void holder() {
+        var hold = BufferPool.hold(16);
+        var buffer = hold.get();
+        hold.close();
+        assertThrows(IllegalStateException.class, hold::get);
+        // Closing twice must not release the buffer twice
+        hold.close();
+        assertSame(buffer, BufferPool.acquire(16));
+        assertNotSame(buffer, BufferPool.acquire(16));
+    }
+
+    @Test
+    public void framedPacketSizeClass() {
+        var smallPacket = new PluginMessagePacket("minestom:test", new byte[16]);
+        try (var hold = PacketUtils.createPooledFramedPacket(smallPacket, false)) {
+            assertEquals(BufferPool.SMALL, hold.get().capacity());
+            assertTrue(hold.get().remaining() > 16);
+        }
+        var mediumPacket = new PluginMessagePacket("minestom:test", new byte[BufferPool.SMALL * 4]);
+        try (var hold = PacketUtils.createPooledFramedPacket(mediumPacket, false)) {
+            assertEquals(BufferPool.MEDIUM, hold.get().capacity());
+            assertFramed(mediumPacket, hold.get());
+        }
+        var largePacket = new PluginMessagePacket("minestom:test", new byte[BufferPool.MEDIUM * 2]);
+        try (var hold = PacketUtils.createPooledFramedPacket(largePacket, false)) {
+            assertEquals(BufferPool.LARGE, hold.get().capacity());
+            assertFramed(largePacket, hold.get());
+        }
+    }
+
+    private static void assertFramed(PluginMessagePacket packet, ByteBuffer pooled) {
+        final ByteBuffer expected = PacketUtils.createFramedPacket(ByteBuffer.allocate(BufferPool.LARGE), packet, false);
+        assertEquals(expected, pooled);
+    }
+}
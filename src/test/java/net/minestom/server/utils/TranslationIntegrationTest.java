@@ -48,6 +48,25 @@ public class TranslationIntegrationTest {
         });
     }
 
+    @Test
+    public void testTranslationGrouped(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var connection = env.createConnection();
+        final var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        final var otherPlayer = env.createConnection().connect(instance, new Pos(0, 40, 0)).join();
+        final var collector = connection.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final var message = Component.translatable("test.key");
+        final var packet = new SystemChatPacket(message, false);
+        PacketUtils.sendGroupedPacket(List.of(player, otherPlayer), packet);
+
+        // both players share the default locale, the packet is rendered once for both
+        collector.assertSingle(received -> {
+            assertNotEquals(message, received.message());
+        });
+    }
+
     @Test
     public void testTranslationDisabled(final Env env) {
         final var instance = env.createFlatInstance();